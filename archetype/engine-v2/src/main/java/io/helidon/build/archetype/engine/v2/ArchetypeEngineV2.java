@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 
 import io.helidon.build.archetype.engine.v2.InputResolver.BatchResolver;
 import io.helidon.build.archetype.engine.v2.InputResolver.InteractiveResolver;
+import io.helidon.build.common.logging.Log;
 
 import static io.helidon.build.common.FileUtils.saveToPropertiesFile;
 import static java.util.Objects.requireNonNull;
@@ -39,6 +40,8 @@ public class ArchetypeEngineV2 {
     private final Runnable onResolved;
     private final Function<Context, Path> outputResolver;
     private final String outputPropsFile;
+    private final int parallelism;
+    private final Node entryPoint;
 
     private ArchetypeEngineV2(Builder builder) {
         this.cwd = builder.cwd;
@@ -48,6 +51,8 @@ public class ArchetypeEngineV2 {
         this.onResolved = builder.onResolved;
         this.outputResolver = builder.outputResolver;
         this.outputPropsFile = builder.outputPropsFile;
+        this.parallelism = builder.parallelism;
+        this.entryPoint = builder.entryPoint;
     }
 
     /**
@@ -63,7 +68,7 @@ public class ArchetypeEngineV2 {
                 .pushCwd(cwd);
 
         // entrypoint
-        Node node = Script.load(cwd.resolve("main.xml"));
+        Node node = entryPoint != null ? entryPoint : Script.load(cwd.resolve("main.xml"));
 
         // resolve inputs (full traversal)
         ScriptInvoker.invoke(node, context, batch ? new BatchResolver(context) : new InteractiveResolver(context));
@@ -80,8 +85,9 @@ public class ArchetypeEngineV2 {
         Path directory = outputResolver.apply(context);
 
         // generate output  (full traversal)
-        Generator generator = new Generator(model, context, directory);
+        Generator generator = new Generator(model, context, directory, parallelism);
         ScriptInvoker.invoke(node, context, new BatchResolver(context), generator);
+        Log.debug("%s", TemplateCache.instance().stats());
 
         if (outputPropsFile != null) {
             Path propsFile = Path.of(outputPropsFile);
@@ -111,10 +117,39 @@ public class ArchetypeEngineV2 {
         private Function<Context, Path> outputResolver;
         private Runnable onResolved;
         private String outputPropsFile;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private Node entryPoint;
 
         private Builder() {
         }
 
+        /**
+         * Set the loaded entry point, instead of loading {@code main.xml} from the current working directory.
+         * The scripts loaded with {@link Script#load(Path)} are read-only and can be shared by engine instances
+         * that generate projects concurrently.
+         *
+         * @param entryPoint entry point
+         * @return this builder
+         */
+        public Builder entryPoint(Node entryPoint) {
+            this.entryPoint = entryPoint;
+            return this;
+        }
+
+        /**
+         * Set the number of workers used to write the output files.
+         *
+         * @param parallelism parallelism, {@code 1} to write the files in the current thread
+         * @return this builder
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Invalid parallelism: " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
         /**
          * Set the output properties file to save user inputs.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -237,6 +237,7 @@ public final class Context {
             Scope sc = scope.root.getOrCreate(it.key(), it.model);
             sc.visibility = it.visibility;
             sc.value = it.value;
+            sc.modified();
         });
     }
 
@@ -460,6 +461,12 @@ public final class Context {
         private final LazyValue<String> internalKey = new LazyValue<>(() -> computeKey(true));
         private ScopeValue<?> value = ScopeValue.empty();
         private Visibility visibility;
+        // tree-wide modification count, only used on the root
+        private int modCount;
+        // last snapshot, only used on the root
+        private Scope snapshotOf;
+        private Scope snapshot;
+        private int snapshotModCount;
 
         Scope() {
             this.root = this;
@@ -544,6 +551,7 @@ public final class Context {
         public ScopeValue<?> value(Value<?> newValue, ValueKind kind, Object... qualifiers) {
             if (value.isWritable()) {
                 value = new ScopeValue<>(this, newValue, kind, qualifiers);
+                modified();
             }
             if (!Value.isEqual(newValue, value.delegate)) {
                 throw new IllegalStateException(String.format(
@@ -681,6 +689,7 @@ public final class Context {
                 }
             }
             children.add(node);
+            modified();
             return node;
         }
 
@@ -770,6 +779,55 @@ public final class Context {
                    + '}';
         }
 
+        /**
+         * Create a detached copy of the tree that contains this scope.
+         * The copy is not affected by further changes and can be read concurrently.
+         * The last copy is reused until a value or a child is added to the tree.
+         *
+         * @return the copy of this scope
+         */
+        Scope snapshot() {
+            if (root.snapshotOf != this || root.snapshotModCount != root.modCount) {
+                root.snapshot = copyTree();
+                root.snapshotOf = this;
+                root.snapshotModCount = root.modCount;
+            }
+            return root.snapshot;
+        }
+
+        private Scope copyTree() {
+            Scope rootCopy = new Scope();
+            rootCopy.value = root.value;
+            rootCopy.visibility = root.visibility;
+            Scope result = this == root ? rootCopy : EMPTY;
+            Deque<Scope> stack = new ArrayDeque<>();
+            Deque<Scope> copyStack = new ArrayDeque<>();
+            // push in reverse order to preserve the order of the children
+            for (int i = root.children.size() - 1; i >= 0; i--) {
+                stack.push(root.children.get(i));
+                copyStack.push(rootCopy);
+            }
+            while (!stack.isEmpty()) {
+                Scope src = stack.pop();
+                Scope parent = copyStack.pop();
+                Scope copy = new Scope(parent, src.id, src.visibility, src.model);
+                copy.value = src.value;
+                parent.children.add(copy);
+                if (src == this) {
+                    result = copy;
+                }
+                for (int i = src.children.size() - 1; i >= 0; i--) {
+                    stack.push(src.children.get(i));
+                    copyStack.push(copy);
+                }
+            }
+            return result;
+        }
+
+        private void modified() {
+            root.modCount++;
+        }
+
         void visit(Consumer<Scope> visitor) {
             Deque<Scope> stack = new ArrayDeque<>();
             stack.push(this);
@@ -865,6 +923,7 @@ public final class Context {
                 copy = new Scope(parent, src.id, src.visibility, src.model);
                 copy.value(src.value.delegate, src.value.kind());
                 parent.children.add(copy);
+                parent.modified();
                 for (Scope contextScope : src.children) {
                     copyStack.push(copy);
                     stack.push(contextScope);
@@ -876,6 +935,7 @@ public final class Context {
             if (visibility != vis && vis != Visibility.UNSET) {
                 if (visibility == Visibility.UNSET) {
                     visibility = vis;
+                    modified();
                 } else {
                     throw new IllegalStateException(String.format(
                             "Visibility mismatch, id=%s, current=%s, requested=%s",
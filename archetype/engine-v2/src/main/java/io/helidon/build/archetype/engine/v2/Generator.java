@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,25 +24,40 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import io.helidon.build.common.CurrentThreadExecutorService;
 import io.helidon.build.common.SourcePath;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Output generator.
+ * The output operations are collected during the traversal and executed when the traversal of the root node completes.
  */
 public class Generator implements Node.Visitor {
 
-    private final Map<String, List<Map.Entry<String, String>>> transformations = new HashMap<>();
+    private final Map<String, List<Replacement>> transformations = new HashMap<>();
+    private final Map<Map.Entry<List<String>, List<String>>, Transformer> transformers = new HashMap<>();
     private final List<String> includes = new ArrayList<>();
     private final List<String> excludes = new ArrayList<>();
+    private final Map<Path, Operation> plan = new LinkedHashMap<>();
     private final Path outputDir;
-    private final TemplateModel model;
     private final Context context;
+    private final TemplateSupport templateSupport;
+    private final int parallelism;
+    private Node root;
     private String tId;
 
     /**
@@ -53,13 +68,29 @@ public class Generator implements Node.Visitor {
      * @param outputDir output directory
      */
     Generator(TemplateModel model, Context context, Path outputDir) {
-        this.model = model;
+        this(model, context, outputDir, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a new generator.
+     *
+     * @param model       model
+     * @param context     context
+     * @param outputDir   output directory
+     * @param parallelism number of workers used to write the output files
+     */
+    Generator(TemplateModel model, Context context, Path outputDir, int parallelism) {
         this.context = context;
         this.outputDir = outputDir;
+        this.templateSupport = new TemplateSupport(model, context);
+        this.parallelism = parallelism;
     }
 
     @Override
     public boolean visit(Node node) {
+        if (root == null) {
+            root = node;
+        }
         switch (node.kind()) {
             case TRANSFORMATION:
                 // transformations are not scoped
@@ -70,17 +101,24 @@ public class Generator implements Node.Visitor {
                 String regex = node.attribute("regex").getString();
                 String replacement = node.attribute("replacement").getString();
                 transformations.computeIfAbsent(tId, id -> new ArrayList<>())
-                        .add(Map.entry(regex, replacement));
+                        .add(new Replacement(Pattern.compile(regex), replacement));
+                // the chains may have changed
+                transformers.clear();
                 break;
             case FILE:
             case TEMPLATE:
                 Path source = context.cwd().resolve(node.attribute("source").getString());
                 Path target = outputDir.resolve(node.attribute("target").getString());
                 if (node.kind() == Node.Kind.FILE) {
-                    copy(source, target);
+                    plan(new Copy(source, target));
                 } else {
                     String engine = node.attribute("engine").getString();
-                    render(source, target, engine, node, context);
+                    if (TemplateSupport.isSupported(engine)) {
+                        TemplateModel extraModel = templateSupport.resolveModel(node);
+                        plan(new Render(source, target, engine, extraModel, context.scope().snapshot()));
+                    } else {
+                        plan(new Render(source, target, engine, null, null));
+                    }
                 }
                 break;
             case FILES:
@@ -109,21 +147,93 @@ public class Generator implements Node.Visitor {
             case TEMPLATES:
                 Path cwd = context.cwd();
                 Path dir = cwd.resolve(node.attribute("directory").getString());
-                for (String resource : scan(dir)) {
+                String engine = null;
+                TemplateModel extraModel = null;
+                Context.Scope scope = null;
+                if (node.kind() == Node.Kind.TEMPLATES) {
+                    engine = node.attribute("engine").getString();
+                }
+                if (TemplateSupport.isSupported(engine)) {
+                    extraModel = templateSupport.resolveModel(node);
+                    scope = context.scope().snapshot();
+                }
+                List<String> transformations = node.attribute("transformations").asList().orElse(List.of());
+                List<String> resources = scan(dir);
+                Transformer transformer = resources.isEmpty() ? null : transformer(transformations);
+                for (String resource : resources) {
                     Path source = dir.resolve(resource);
                     String targetPath = cwd.relativize(cwd.resolve(resource).normalize()).toString();
-                    List<String> transformations = node.attribute("transformations").asList().orElse(List.of());
-                    Path target = outputDir.resolve(transform(targetPath, transformations, context));
+                    Path target = outputDir.resolve(transformer.apply(targetPath));
                     if (node.kind() == Node.Kind.FILES) {
-                        copy(source, target);
+                        plan(new Copy(source, target));
                     } else {
-                        String engine = node.attribute("engine").getString();
-                        render(source, target, engine, node, context);
+                        plan(new Render(source, target, engine, extraModel, scope));
                     }
                 }
                 break;
             default:
         }
+        if (node == root) {
+            execute();
+        }
+    }
+
+    private void plan(Operation op) {
+        // the first operation for a given target wins
+        plan.putIfAbsent(op.target.normalize(), op);
+    }
+
+    private void execute() {
+        try {
+            // create each directory only once
+            Set<Path> directories = new TreeSet<>();
+            for (Operation op : plan.values()) {
+                directories.add(op.target.getParent());
+            }
+            for (Path directory : directories) {
+                Files.createDirectories(directory);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        ExecutorService executor = executor();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Operation op : plan.values()) {
+                futures.add(executor.submit(op));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } finally {
+            executor.shutdownNow();
+            plan.clear();
+        }
+    }
+
+    private ExecutorService executor() {
+        int nThreads = Math.min(parallelism, plan.size());
+        if (nThreads <= 1) {
+            return new CurrentThreadExecutorService();
+        }
+        AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(nThreads, r -> {
+            Thread thread = new Thread(r, "archetype-generator-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private List<String> scan(Path dir) {
@@ -134,48 +244,135 @@ public class Generator implements Node.Visitor {
                 .collect(Collectors.toList());
     }
 
-    private void render(Path source, Path target, String engine, Node extraScope, Context context) {
-        try {
-            if (!Files.exists(target)) {
-                Files.createDirectories(target.getParent());
-                InputStream is = Files.newInputStream(source);
-                OutputStream os = Files.newOutputStream(target);
-                if (TemplateSupport.isSupported(engine)) {
-                    TemplateSupport ts = new TemplateSupport(model, context);
-                    ts.render(is, source.toAbsolutePath().toString(), UTF_8, os, extraScope);
+    private Transformer transformer(List<String> ids) {
+        // the replacements are interpolated with the current scope
+        List<Replacement> chain = new ArrayList<>();
+        List<String> replacements = new ArrayList<>();
+        for (String id : ids) {
+            for (Replacement op : transformationOps(id)) {
+                chain.add(op);
+                replacements.add(context.scope().interpolate(op.replacement));
+            }
+        }
+        return transformers.computeIfAbsent(Map.entry(ids, replacements), k -> new Transformer(chain, replacements));
+    }
+
+    private List<Replacement> transformationOps(String id) {
+        List<Replacement> ops = transformations.get(id);
+        if (ops != null) {
+            return ops;
+        }
+        throw new IllegalArgumentException("Unresolved transformation: " + id);
+    }
+
+    /**
+     * Chain of replacements with interpolated replacement strings.
+     * The transformed paths are cached.
+     */
+    private static final class Transformer {
+
+        private final List<Replacement> chain;
+        private final List<String> replacements;
+        private final Map<String, String> cache = new HashMap<>();
+
+        Transformer(List<Replacement> chain, List<String> replacements) {
+            this.chain = chain;
+            this.replacements = replacements;
+        }
+
+        String apply(String path) {
+            String result = cache.get(path);
+            if (result == null) {
+                result = path;
+                for (int i = 0; i < chain.size(); i++) {
+                    result = chain.get(i).pattern.matcher(result).replaceAll(replacements.get(i));
                 }
+                cache.put(path, result);
             }
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
+            return result;
         }
     }
 
-    private void copy(Path source, Path target) {
-        try {
-            if (!Files.exists(target)) {
-                Files.createDirectories(target.getParent());
-                Files.copy(source, target);
+    /**
+     * Compiled replacement.
+     */
+    private static final class Replacement {
+
+        private final Pattern pattern;
+        private final String replacement;
+
+        Replacement(Pattern pattern, String replacement) {
+            this.pattern = pattern;
+            this.replacement = replacement;
+        }
+    }
+
+    /**
+     * Output operation.
+     */
+    private abstract static class Operation implements Runnable {
+
+        private final Path source;
+        private final Path target;
+
+        Operation(Path source, Path target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!Files.exists(target)) {
+                    execute(source, target);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
             }
-        } catch (IOException ex) {
-            throw new UncheckedIOException(ex);
         }
+
+        abstract void execute(Path source, Path target) throws IOException;
     }
 
-    private List<Map.Entry<String, String>> transformationOps(String id) {
-        List<Map.Entry<String, String>> ops = transformations.get(id);
-        if (ops != null) {
-            return ops;
+    /**
+     * Copy a file.
+     */
+    private static final class Copy extends Operation {
+
+        Copy(Path source, Path target) {
+            super(source, target);
+        }
+
+        @Override
+        void execute(Path source, Path target) throws IOException {
+            Files.copy(source, target);
         }
-        throw new IllegalArgumentException("Unresolved transformation: " + id);
     }
 
-    private String transform(String path, List<String> transformations, Context context) {
-        String str = path;
-        for (String id : transformations) {
-            for (Map.Entry<String, String> op : transformationOps(id)) {
-                str = str.replaceAll(op.getKey(), context.scope().interpolate(op.getValue()));
+    /**
+     * Render a template.
+     */
+    private final class Render extends Operation {
+
+        private final String engine;
+        private final TemplateModel extraModel;
+        private final Context.Scope scope;
+
+        Render(Path source, Path target, String engine, TemplateModel extraModel, Context.Scope scope) {
+            super(source, target);
+            this.engine = engine;
+            this.extraModel = extraModel;
+            this.scope = scope;
+        }
+
+        @Override
+        void execute(Path source, Path target) throws IOException {
+            try (InputStream is = Files.newInputStream(source);
+                 OutputStream os = Files.newOutputStream(target)) {
+                if (TemplateSupport.isSupported(engine)) {
+                    templateSupport.render(is, source.toAbsolutePath().toString(), UTF_8, os, extraModel, scope);
+                }
             }
         }
-        return str;
     }
 }
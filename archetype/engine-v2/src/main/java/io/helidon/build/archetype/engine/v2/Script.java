@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,9 +21,9 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.helidon.build.common.VirtualFileSystem.randomPath;
 
@@ -253,7 +253,8 @@ public final class Script {
 
     private static final class ScriptLoaderImpl implements Loader {
 
-        private final Map<Path, Node> scripts = new HashMap<>();
+        // the loaded scripts may be shared by concurrent invocations
+        private final Map<Path, Node> scripts = new ConcurrentHashMap<>();
 
         private final boolean readOnly;
 
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.archetype.engine.v2;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.github.mustachejava.Mustache;
+
+/**
+ * Cache of compiled templates.
+ * Templates are keyed by content digest and path, the least recently used entries are evicted when the cache is full.
+ * The partials of a template are validated against their digest, a template is re-compiled when a partial has changed.
+ * The {@link #instance() shared instance} is used by all the engine instances of the current JVM.
+ */
+public final class TemplateCache {
+
+    /**
+     * System property used to configure the maximum size of the {@link #instance() shared instance}.
+     */
+    public static final String MAX_SIZE_PROPERTY = "helidon.archetype.template.cache.size";
+
+    /**
+     * Default maximum size.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private static final TemplateCache INSTANCE = new TemplateCache(Integer.getInteger(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE));
+
+    private final Map<String, CachedTemplate> entries;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a new instance.
+     *
+     * @param maxSize maximum number of entries
+     */
+    public TemplateCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Invalid max size: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedTemplate> eldest) {
+                if (size() > TemplateCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Get the shared instance.
+     *
+     * @return TemplateCache
+     */
+    public static TemplateCache instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get the statistics.
+     *
+     * @return Stats
+     */
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * Remove all the entries and reset the statistics.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    /**
+     * Get a compiled template.
+     * The template is compiled outside the lock, concurrent misses for the same key may compile it more than once.
+     *
+     * @param digest   digest of the template content
+     * @param path     template path
+     * @param compiler function used to compile the template on a cache miss
+     * @return Mustache
+     */
+    Mustache get(String digest, String path, Supplier<Mustache> compiler) {
+        return get(digest, path, () -> new CachedTemplate(compiler.get(), Map.of()), name -> null);
+    }
+
+    /**
+     * Get a compiled template.
+     * A cached template is re-compiled if the digest of one of its partials has changed.
+     *
+     * @param digest   digest of the template content
+     * @param path     template path
+     * @param compiler function used to compile the template on a cache miss
+     * @param digester function used to compute the current digest of a partial
+     * @return Mustache
+     */
+    Mustache get(String digest, String path, Supplier<CachedTemplate> compiler, Function<String, String> digester) {
+        String key = digest + ":" + path;
+        CachedTemplate entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+        if (entry != null && entry.isValid(digester)) {
+            hits.increment();
+            return entry.mustache;
+        }
+        boolean stale = entry != null;
+        misses.increment();
+        entry = compiler.get();
+        synchronized (entries) {
+            if (stale) {
+                entries.put(key, entry);
+                return entry.mustache;
+            }
+            CachedTemplate existing = entries.putIfAbsent(key, entry);
+            return existing != null ? existing.mustache : entry.mustache;
+        }
+    }
+
+    /**
+     * A compiled template and the digests of its partials.
+     */
+    static final class CachedTemplate {
+
+        private final Mustache mustache;
+        private final Map<String, String> partials;
+
+        /**
+         * Create a new instance.
+         *
+         * @param mustache compiled template
+         * @param partials digests of the partials, keyed by name
+         */
+        CachedTemplate(Mustache mustache, Map<String, String> partials) {
+            this.mustache = mustache;
+            this.partials = Map.copyOf(partials);
+        }
+
+        private boolean isValid(Function<String, String> digester) {
+            for (Map.Entry<String, String> partial : partials.entrySet()) {
+                if (!Objects.equals(partial.getValue(), digester.apply(partial.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Cache statistics.
+     */
+    public static final class Stats {
+
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        private Stats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        /**
+         * Get the number of hits.
+         *
+         * @return hits
+         */
+        public long hits() {
+            return hits;
+        }
+
+        /**
+         * Get the number of misses.
+         *
+         * @return misses
+         */
+        public long misses() {
+            return misses;
+        }
+
+        /**
+         * Get the number of evicted entries.
+         *
+         * @return evictions
+         */
+        public long evictions() {
+            return evictions;
+        }
+
+        /**
+         * Get the number of entries.
+         *
+         * @return size
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Get the ratio of hits.
+         *
+         * @return hit ratio, {@code 0} if the cache has not been used
+         */
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return "TemplateCache.Stats{"
+                   + "hits=" + hits
+                   + ", misses=" + misses
+                   + ", evictions=" + evictions
+                   + ", size=" + size
+                   + '}';
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,9 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.Charset;
@@ -34,13 +37,16 @@ import java.util.ListIterator;
 import java.util.Map;
 
 import io.helidon.build.archetype.engine.v2.TemplateModel.Value;
+import io.helidon.build.common.Checksum;
 
 import com.github.mustachejava.Binding;
 import com.github.mustachejava.Code;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.DefaultMustacheVisitor;
+import com.github.mustachejava.FragmentKey;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheException;
+import com.github.mustachejava.MustacheNotFoundException;
 import com.github.mustachejava.MustacheVisitor;
 import com.github.mustachejava.TemplateContext;
 import com.github.mustachejava.codes.ValueCode;
@@ -51,13 +57,17 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Template support for mustache/handlebars.
+ * Compiled templates are stored in a {@link TemplateCache}, an instance can be used to render concurrently.
  */
 public class TemplateSupport {
 
+    private static final DefaultMustacheFactory FACTORY = new MustacheFactoryImpl();
+    private static final ThreadLocal<RenderScope> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, String>> PARTIALS = new ThreadLocal<>();
+
     private final Context context;
     private final TemplateModel scope;
-    private final DefaultMustacheFactory factory = new MustacheFactoryImpl();
-    private final Map<String, Mustache> cache = new HashMap<>();
+    private final TemplateCache cache;
 
     /**
      * Test if the given template engine is supported.
@@ -84,8 +94,20 @@ public class TemplateSupport {
      * @param context context
      */
     TemplateSupport(TemplateModel scope, Context context) {
+        this(scope, context, TemplateCache.instance());
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param scope   scope
+     * @param context context
+     * @param cache   cache of compiled templates
+     */
+    TemplateSupport(TemplateModel scope, Context context, TemplateCache cache) {
         this.context = context;
         this.scope = scope;
+        this.cache = cache;
     }
 
     /**
@@ -98,47 +120,151 @@ public class TemplateSupport {
      * @param extraScope extra scope, may be {@code null}
      */
     public void render(InputStream is, String name, Charset charset, OutputStream os, Node extraScope) {
-        Mustache mustache = name == null ? compile(is, "inline") : cache.computeIfAbsent(name, n -> compile(is, n));
+        TemplateModel extraModel = extraScope != null ? resolveModel(extraScope) : null;
+        render(is, name, charset, os, extraModel, context.scope());
+    }
+
+    /**
+     * Render a template.
+     * The context is only accessed through the given scope, a detached scope can be used to render concurrently.
+     *
+     * @param is           input stream
+     * @param name         name of the template, may be {@code null}
+     * @param charset      charset for the written characters
+     * @param os           output stream
+     * @param extraModel   extra model, may be {@code null}
+     * @param contextScope context scope used to resolve the built-in model
+     */
+    void render(InputStream is,
+                String name,
+                Charset charset,
+                OutputStream os,
+                TemplateModel extraModel,
+                Context.Scope contextScope) {
+
+        // the render scope is only used by the model handler
+        RenderScope renderScope = new RenderScope(contextScope, scope.root(), cache);
+        List<Object> scopes;
+        if (extraModel != null) {
+            scopes = List.of(renderScope, scope.root(), extraModel.root());
+        } else {
+            scopes = List.of(renderScope, scope.root());
+        }
+        render(compile(is, name, cache), charset, os, scopes);
+    }
+
+    private static void render(Mustache mustache, Charset charset, OutputStream os, List<Object> scopes) {
+        // make the render scope available to the code paths that are not given the scopes
+        RenderScope previous = CURRENT.get();
+        CURRENT.set(renderScope(scopes));
         try (Writer writer = new OutputStreamWriter(os, charset)) {
-            List<Object> scopes;
-            if (extraScope != null) {
-                scopes = List.of(scope.root(), resolveModel(extraScope).root());
-            } else {
-                scopes = List.of(scope.root());
-            }
             Writer result = mustache.execute(writer, scopes);
             if (result != null) {
                 result.flush();
             }
         } catch (IOException ex) {
             throw new UncheckedIOException(ex);
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    private static Mustache compile(InputStream is, String name, TemplateCache cache) {
+        try {
+            byte[] template = is.readAllBytes();
+            String path = name != null ? name : "inline";
+            return cache.get(Checksum.md5(template), path, () -> {
+                // record the partials read while compiling
+                Map<String, String> partials = new HashMap<>();
+                PARTIALS.set(partials);
+                try {
+                    Mustache mustache = FACTORY.compile(new InputStreamReader(new ByteArrayInputStream(template)), path);
+                    return new TemplateCache.CachedTemplate(mustache, partials);
+                } finally {
+                    PARTIALS.remove();
+                }
+            }, TemplateSupport::partialDigest);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String partialDigest(String name) {
+        try (Reader reader = FACTORY.getReader(name)) {
+            return Checksum.md5(read(reader));
+        } catch (MustacheNotFoundException ex) {
+            return null;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
         }
     }
 
-    private Mustache compile(InputStream template, String name) {
-        return factory.compile(new InputStreamReader(template), name);
+    private static String read(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
     }
 
-    private String preprocess(Value value) {
+    private static String preprocess(Value value, List<Object> scopes) {
         String content = value.value();
         String engine = value.template();
         if (isSupported(engine)) {
-            TemplateSupport ts = new TemplateSupport(scope, context);
+            RenderScope renderScope = renderScope(scopes);
             InputStream is = new ByteArrayInputStream(content.getBytes(UTF_8));
             ByteArrayOutputStream os = new ByteArrayOutputStream();
-            ts.render(is, null, UTF_8, os, null);
+            render(compile(is, null, renderScope.cache), UTF_8, os, List.of(renderScope, renderScope.model));
             return os.toString(UTF_8);
         }
         return content;
     }
 
-    private TemplateModel resolveModel(Node scope) {
+    /**
+     * Resolve the model of the given node.
+     *
+     * @param scope node
+     * @return TemplateModel
+     */
+    TemplateModel resolveModel(Node scope) {
         TemplateModel model = new TemplateModel(context);
         ScriptInvoker.invoke(scope, context, new InputResolver.BatchResolver(context), model);
         return model;
     }
 
-    private class ModelHandler extends SimpleObjectHandler {
+    private static RenderScope renderScope(List<Object> scopes) {
+        for (Object scope : scopes) {
+            if (scope instanceof RenderScope) {
+                return (RenderScope) scope;
+            }
+        }
+        RenderScope current = CURRENT.get();
+        if (current != null) {
+            return current;
+        }
+        throw new IllegalStateException("Render scope not found");
+    }
+
+    /**
+     * The state of a render operation.
+     * Compiled templates are shared, thus the state is passed as the first element of the mustache scopes.
+     */
+    private static final class RenderScope {
+
+        private final Context.Scope contextScope;
+        private final TemplateModel.ModelNode model;
+        private final TemplateCache cache;
+
+        RenderScope(Context.Scope contextScope, TemplateModel.ModelNode model, TemplateCache cache) {
+            this.contextScope = contextScope;
+            this.model = model;
+            this.cache = cache;
+        }
+    }
+
+    private static final class ModelHandler extends SimpleObjectHandler {
 
         @Override
         public Binding createBinding(String name, TemplateContext tc, Code code) {
@@ -148,7 +274,7 @@ public class TemplateSupport {
         @Override
         public Wrapper find(String name, List<Object> ignore) {
             return scopes -> {
-                Object result = builtInModel(name);
+                Object result = builtInModel(name, scopes);
                 if (result != null) {
                     // treat "false" as the absence of value
                     return "false".equals(result) ? null : result;
@@ -174,7 +300,7 @@ public class TemplateSupport {
                             // handle conditional
                             // treat "false" as the absence of value
                             if (result instanceof Value) {
-                                String value = preprocess((Value) result);
+                                String value = preprocess((Value) result, scopes);
                                 if ("false".equals(value)) {
                                     return null;
                                 }
@@ -188,12 +314,13 @@ public class TemplateSupport {
             };
         }
 
-        private String builtInModel(String name) {
+        private String builtInModel(String name, List<Object> scopes) {
             if (name.equals("current-date")) {
                 return Date.from(Instant.now()).toString();
             }
-            if (scope.root().get(name) == null) {
-                return context.scope().get(name).value()
+            RenderScope renderScope = renderScope(scopes);
+            if (renderScope.model.get(name) == null) {
+                return renderScope.contextScope.get(name).value()
                         .filter(value -> value.scope().isModel())
                         .map(String::valueOf)
                         .orElse(null);
@@ -203,11 +330,15 @@ public class TemplateSupport {
 
         @Override
         public String stringify(Object object) {
+            return stringify(object, List.of());
+        }
+
+        String stringify(Object object, List<Object> scopes) {
             if (object instanceof TemplateModel.Element) {
                 object = ((TemplateModel.Element<?>) object).wrapped();
             }
             if (object instanceof Value) {
-                return preprocess((Value) object);
+                return preprocess((Value) object, scopes);
             }
             if (object instanceof String) {
                 return (String) object;
@@ -217,12 +348,43 @@ public class TemplateSupport {
     }
 
     // used to customize the execute method to avoid URI encoding
-    private final class MustacheFactoryImpl extends DefaultMustacheFactory {
+    private static final class MustacheFactoryImpl extends DefaultMustacheFactory {
 
         MustacheFactoryImpl() {
             super.oh = new ModelHandler();
         }
 
+        // the factory is shared, the compiled templates are only cached in TemplateCache
+
+        @Override
+        public Mustache compile(String name) {
+            Mustache mustache = mc.compile(name);
+            mustache.init();
+            return mustache;
+        }
+
+        @Override
+        public Reader getReader(String resourceName) {
+            Map<String, String> partials = PARTIALS.get();
+            if (partials == null) {
+                return super.getReader(resourceName);
+            }
+            try (Reader reader = super.getReader(resourceName)) {
+                String content = read(reader);
+                partials.put(resourceName, Checksum.md5(content));
+                return new StringReader(content);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public Mustache getFragment(FragmentKey templateKey) {
+            Mustache mustache = getFragmentCacheFunction().apply(templateKey);
+            mustache.init();
+            return mustache;
+        }
+
         @Override
         public MustacheVisitor createMustacheVisitor() {
             return new DefaultMustacheVisitor(this) {
@@ -234,7 +396,7 @@ public class TemplateSupport {
                             try {
                                 Object object = get(scopes);
                                 if (object != null) {
-                                    writer.write(oh.stringify(object));
+                                    writer.write(((ModelHandler) oh).stringify(object, scopes));
                                     return appendText(run(writer, scopes));
                                 }
                                 return super.execute(writer, scopes);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,7 +21,12 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import io.helidon.build.common.Strings;
 import io.helidon.build.common.VirtualFileSystem;
@@ -152,6 +157,42 @@ class ArchetypeEngineV2Test {
         asserCustomShapesModernStyle(outputDir);
     }
 
+    @Test
+    void testSharedEntryPoint() throws Exception {
+        Path targetDir = targetDir(this.getClass());
+        Path sourceDir = targetDir.resolve("test-classes/e2e");
+        Path outputDir = unique(targetDir.resolve("engine-ut"), "testSharedEntryPoint");
+        Node entryPoint = Script.load(sourceDir.resolve("main.xml"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Path>> projects = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                String theme = i % 2 == 0 ? "colors" : "shapes";
+                String base = i % 2 == 0 ? "rainbow" : "2d";
+                String artifactId = "project" + i;
+                projects.add(executor.submit(() -> ArchetypeEngineV2.builder()
+                        .cwd(sourceDir)
+                        .entryPoint(entryPoint)
+                        .batch(true)
+                        .parallelism(1)
+                        .output(() -> outputDir.resolve(artifactId))
+                        .externalValues(Map.of("theme", theme, "theme.base", base, "artifactId", artifactId))
+                        .build()
+                        .generate()));
+            }
+            for (int i = 0; i < projects.size(); i++) {
+                Path projectDir = projects.get(i).get();
+                if (i % 2 == 0) {
+                    assertRainbowColors(projectDir);
+                } else {
+                    assert2dShapes(projectDir);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     void testRainbowColorsZip() throws IOException {
         Path outputDir = e2eZip("testRainbowColorsZip", Map.of(
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isIn;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -563,4 +564,46 @@ class ContextTest {
                               + "   \\- alice\n"
                               + "       : alice1 (USER)\n"));
     }
+
+    @Test
+    void testSnapshot() {
+        Context context = new Context();
+        context.pushScope(s -> s.getOrCreate("foo", false, false))
+                .value(Value.of("foo1"), ValueKind.EXTERNAL);
+        context.scope().getOrCreate("bar").value(Value.of("bar1"), ValueKind.EXTERNAL);
+
+        Context.Scope snapshot = context.scope().snapshot();
+        context.scope().getOrCreate("bob").value(Value.of("bob1"), ValueKind.EXTERNAL);
+        context.popScope();
+
+        assertThat(snapshot.key(), is("foo"));
+        assertThat(snapshot.get("bar").value().asString().orElse(null), is("bar1"));
+        assertThat(snapshot.get("~foo.bar").value().asString().orElse(null), is("bar1"));
+        assertThat(snapshot.get("bob").value().isEmpty(), is(true));
+        assertThat(context.scope().get("foo.bob").value().asString().orElse(null), is("bob1"));
+    }
+
+    @Test
+    void testSnapshotReuse() {
+        Context context = new Context();
+        Context.Scope foo = context.pushScope(s -> s.getOrCreate("foo", false, false));
+        foo.value(Value.of("foo1"), ValueKind.EXTERNAL);
+
+        Context.Scope snapshot = foo.snapshot();
+        assertThat(foo.snapshot(), is(sameInstance(snapshot)));
+
+        Context.Scope bar = foo.getOrCreate("bar");
+        Context.Scope snapshot2 = foo.snapshot();
+        assertThat(snapshot2, is(not(sameInstance(snapshot))));
+        assertThat(snapshot2.get("bar").value().isEmpty(), is(true));
+
+        bar.value(Value.of("bar1"), ValueKind.EXTERNAL);
+        Context.Scope snapshot3 = foo.snapshot();
+        assertThat(snapshot3, is(not(sameInstance(snapshot2))));
+        assertThat(snapshot3.get("bar").value().asString().orElse(null), is("bar1"));
+
+        Context.Scope barSnapshot = bar.snapshot();
+        assertThat(barSnapshot.key(), is("foo.bar"));
+        assertThat(barSnapshot.parent().id(), is("foo"));
+    }
 }
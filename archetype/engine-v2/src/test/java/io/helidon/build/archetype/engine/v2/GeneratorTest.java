@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -117,6 +117,17 @@ class GeneratorTest {
         assertThat(readFile(expected), is("foo\n"));
     }
 
+    @Test
+    void testScopedReplacement() throws IOException {
+        Path outputDir = generate("generator/scoped-replacement");
+        Path expected1 = outputDir.resolve("first.txt");
+        assertThat(Files.exists(expected1), is(true));
+        assertThat(readFile(expected1), is("foo\n"));
+        Path expected2 = outputDir.resolve("second.txt");
+        assertThat(Files.exists(expected2), is(true));
+        assertThat(readFile(expected2), is("foo\n"));
+    }
+
     @Test
     void testProcessedValues() throws IOException {
         Path outputDir = generate("generator/processed-values");
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.archetype.engine.v2;
+
+import java.io.StringReader;
+
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Tests {@link TemplateCache}.
+ */
+class TemplateCacheTest {
+
+    private static final DefaultMustacheFactory FACTORY = new DefaultMustacheFactory();
+
+    @Test
+    void testHitsAndMisses() {
+        TemplateCache cache = new TemplateCache(10);
+        Mustache m1 = cache.get("digest1", "foo.mustache", () -> compile("foo"));
+        Mustache m2 = cache.get("digest1", "foo.mustache", () -> compile("foo"));
+        Mustache m3 = cache.get("digest2", "foo.mustache", () -> compile("bar"));
+
+        assertThat(m2, is(sameInstance(m1)));
+        assertThat(m3, is(not(sameInstance(m1))));
+
+        TemplateCache.Stats stats = cache.stats();
+        assertThat(stats.hits(), is(1L));
+        assertThat(stats.misses(), is(2L));
+        assertThat(stats.evictions(), is(0L));
+        assertThat(stats.size(), is(2));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        TemplateCache cache = new TemplateCache(2);
+        Mustache m1 = cache.get("digest1", "t1", () -> compile("t1"));
+        cache.get("digest2", "t2", () -> compile("t2"));
+
+        // t1 is now the most recently used
+        cache.get("digest1", "t1", () -> compile("t1"));
+        cache.get("digest3", "t3", () -> compile("t3"));
+
+        assertThat(cache.get("digest1", "t1", () -> compile("t1")), is(sameInstance(m1)));
+        TemplateCache.Stats stats = cache.stats();
+        assertThat(stats.evictions(), is(1L));
+        assertThat(stats.size(), is(2));
+
+        cache.get("digest2", "t2", () -> compile("t2"));
+        assertThat(cache.stats().misses(), is(4L));
+    }
+
+    @Test
+    void testClear() {
+        TemplateCache cache = new TemplateCache(2);
+        cache.get("digest1", "t1", () -> compile("t1"));
+        cache.get("digest1", "t1", () -> compile("t1"));
+        cache.clear();
+
+        TemplateCache.Stats stats = cache.stats();
+        assertThat(stats.hits(), is(0L));
+        assertThat(stats.misses(), is(0L));
+        assertThat(stats.size(), is(0));
+        assertThat(stats.hitRatio(), is(0.0));
+    }
+
+    private static Mustache compile(String template) {
+        return FACTORY.compile(new StringReader(template), template);
+    }
+}
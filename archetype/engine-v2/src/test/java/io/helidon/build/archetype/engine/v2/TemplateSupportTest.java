@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import java.io.OutputStreamWriter;
 import java.io.StringReader;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +43,8 @@ import static io.helidon.build.archetype.engine.v2.Nodes.model;
 import static io.helidon.build.archetype.engine.v2.Nodes.modelList;
 import static io.helidon.build.archetype.engine.v2.Nodes.modelMap;
 import static io.helidon.build.archetype.engine.v2.Nodes.modelValue;
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
@@ -305,6 +309,36 @@ class TemplateSupportTest {
         assertThat(render("{{current-date}}", scope), is(not("")));
     }
 
+    @Test
+    void testPartialChange() throws IOException {
+        Path dir = unique(targetDir(TemplateSupportTest.class).resolve("template-support-ut"), "partials");
+        Files.createDirectories(dir);
+        Path template = dir.resolve("main.mustache");
+        Path partial = dir.resolve("partial.mustache");
+        Files.writeString(template, "<{{> partial}}>");
+        Files.writeString(partial, "foo");
+
+        TemplateCache cache = new TemplateCache(10);
+        Context context = new Context();
+        TemplateSupport support = new TemplateSupport(resolveModel(model(), context), context, cache);
+        assertThat(render(support, template), is("<foo>"));
+        assertThat(render(support, template), is("<foo>"));
+        assertThat(cache.stats().hits(), is(1L));
+
+        Files.writeString(partial, "bar");
+        assertThat(render(support, template), is("<bar>"));
+        assertThat(cache.stats().misses(), is(2L));
+        assertThat(cache.stats().size(), is(1));
+    }
+
+    static String render(TemplateSupport support, Path template) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (InputStream is = Files.newInputStream(template)) {
+            support.render(is, template.toString(), UTF_8, os, null);
+        }
+        return os.toString(UTF_8);
+    }
+
     static String render(String template, Node scope) {
         return render(template, scope, null, new Context());
     }
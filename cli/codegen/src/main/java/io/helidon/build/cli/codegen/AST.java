@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,10 @@ package io.helidon.build.cli.codegen;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -313,7 +315,18 @@ class AST {
          * @param index array index
          */
         static ArrayValueRef arrayValueRef(String ref, int index) {
-            return new ArrayValueRef(ref, index);
+            return new ArrayValueRef(null, ref, index);
+        }
+
+        /**
+         * Create a parented array element value reference.
+         *
+         * @param parent parent reference
+         * @param ref    reference name
+         * @param index  array index
+         */
+        static ArrayValueRef arrayValueRef(Ref parent, String ref, int index) {
+            return new ArrayValueRef(parent, ref, index);
         }
 
         /**
@@ -435,6 +448,16 @@ class AST {
         static SuperStatement superStatement(Value... args) {
             return SuperStatement.builder().args(args).build();
         }
+
+        /**
+         * Create a new switch statement builder.
+         *
+         * @param value switch value
+         * @return SwitchStatement.Builder
+         */
+        static SwitchStatement.Builder switchStatement(Value value) {
+            return SwitchStatement.builder().value(value);
+        }
     }
 
     /**
@@ -1176,10 +1199,12 @@ class AST {
      */
     static final class ArrayValueRef implements Ref, Value {
 
+        private final Ref parent;
         private final int index;
         private final String ref;
 
-        private ArrayValueRef(String ref, int index) {
+        private ArrayValueRef(Ref parent, String ref, int index) {
+            this.parent = parent;
             this.ref = Objects.requireNonNull(ref, "ref is null");
             if (index < 0) {
                 throw new IllegalArgumentException("Negative array index");
@@ -1187,6 +1212,15 @@ class AST {
             this.index = index;
         }
 
+        /**
+         * Get the parent ref.
+         *
+         * @return optional of Ref
+         */
+        Optional<Ref> parent() {
+            return Optional.ofNullable(parent);
+        }
+
         /**
          * Get the ref name.
          *
@@ -1204,6 +1238,13 @@ class AST {
         int index() {
             return index;
         }
+
+        @Override
+        public void resolveImports(Consumer<TypeInfo> resolver) {
+            if (parent != null) {
+                parent.resolveImports(resolver);
+            }
+        }
     }
 
     /**
@@ -1327,6 +1368,131 @@ class AST {
         }
     }
 
+    /**
+     * {@code switch} statement on string constants.
+     */
+    static final class SwitchStatement implements Statement {
+
+        private final Value value;
+        private final Map<String, Statement> cases;
+        private final Statement defaultCase;
+
+        private SwitchStatement(Builder builder) {
+            this.value = Objects.requireNonNull(builder.value, "value is null");
+            this.cases = builder.cases;
+            this.defaultCase = builder.defaultCase;
+        }
+
+        /**
+         * Get the switch value.
+         *
+         * @return Value
+         */
+        Value value() {
+            return value;
+        }
+
+        /**
+         * Get the cases.
+         *
+         * @return map of statement keyed by case constant, never {@code null}
+         */
+        Map<String, Statement> cases() {
+            return cases;
+        }
+
+        /**
+         * Get the default case.
+         *
+         * @return optional of Statement
+         */
+        Optional<Statement> defaultCase() {
+            return Optional.ofNullable(defaultCase);
+        }
+
+        @Override
+        public void resolveImports(Consumer<TypeInfo> resolver) {
+            value.resolveImports(resolver);
+            cases.values().forEach(s -> s.resolveImports(resolver));
+            if (defaultCase != null) {
+                defaultCase.resolveImports(resolver);
+            }
+        }
+
+        /**
+         * Create a new switch statement builder.
+         *
+         * @return Builder
+         */
+        static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * Switch statement builder.
+         */
+        static final class Builder implements Supplier<SwitchStatement> {
+
+            private final Map<String, Statement> cases = new LinkedHashMap<>();
+            private Value value;
+            private Statement defaultCase;
+
+            private Builder() {
+            }
+
+            /**
+             * Set the switch value.
+             *
+             * @param value value
+             * @return this builder
+             */
+            Builder value(Value value) {
+                this.value = value;
+                return this;
+            }
+
+            /**
+             * Add a case.
+             *
+             * @param constant  case constant
+             * @param statement case statement
+             * @return this builder
+             * @throws IllegalArgumentException if the case constant is a duplicate
+             */
+            Builder caseStatement(String constant, Statement statement) {
+                if (cases.putIfAbsent(constant, statement) != null) {
+                    throw new IllegalArgumentException("Duplicate case: " + constant);
+                }
+                return this;
+            }
+
+            /**
+             * Set the default case.
+             *
+             * @param statement default statement
+             * @return this builder
+             */
+            Builder defaultStatement(Statement statement) {
+                this.defaultCase = statement;
+                return this;
+            }
+
+            @Override
+            public SwitchStatement get() {
+                return build();
+            }
+
+            /**
+             * Build the switch statement.
+             *
+             * @return SwitchStatement
+             */
+            SwitchStatement build() {
+                return new SwitchStatement(this);
+            }
+        }
+    }
+
     /**
      * Abstract invocation.
      */
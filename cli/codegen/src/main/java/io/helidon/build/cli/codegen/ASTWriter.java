@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Function;
 
@@ -53,6 +54,7 @@ import io.helidon.build.cli.codegen.AST.Statement;
 import io.helidon.build.cli.codegen.AST.StaticRef;
 import io.helidon.build.cli.codegen.AST.StringLiteral;
 import io.helidon.build.cli.codegen.AST.SuperStatement;
+import io.helidon.build.cli.codegen.AST.SwitchStatement;
 import io.helidon.build.cli.codegen.AST.TypeDeclaration;
 import io.helidon.build.cli.codegen.AST.Value;
 import io.helidon.build.cli.codegen.AST.ValueCast;
@@ -165,6 +167,10 @@ class ASTWriter {
     }
 
     private void writeArrayValueRef(ArrayValueRef arrayValueRef) throws IOException {
+        arrayValueRef.parent().ifPresent(unchecked(parentRef -> {
+            writeRef(parentRef);
+            write(".");
+        }));
         write(arrayValueRef.ref());
         write("[");
         write(String.valueOf(arrayValueRef.index()));
@@ -391,6 +397,37 @@ class ASTWriter {
         lineCount++;
     }
 
+    private void writeSwitchStatement(SwitchStatement statement) throws IOException {
+        writeIndent();
+        write("switch (");
+        writeValue(statement.value());
+        write(") {\n");
+        lineCount++;
+        indentLevel++;
+        for (Map.Entry<String, Statement> entry : statement.cases().entrySet()) {
+            writeIndent();
+            write("case \"");
+            write(entry.getKey());
+            write("\":\n");
+            lineCount++;
+            indentLevel++;
+            writeStatement(entry.getValue());
+            indentLevel--;
+        }
+        statement.defaultCase().ifPresent(unchecked(defaultCase -> {
+            writeIndent();
+            write("default:\n");
+            lineCount++;
+            indentLevel++;
+            writeStatement(defaultCase);
+            indentLevel--;
+        }));
+        indentLevel--;
+        writeIndent();
+        write("}\n");
+        lineCount++;
+    }
+
     private void writeJavadoc(String javadoc) throws IOException {
         writeIndent();
         write("/**\n");
@@ -564,6 +601,8 @@ class ASTWriter {
             writeReturnStatement((ReturnStatement) statement);
         } else if (statement instanceof SuperStatement) {
             writeSuperStatement((SuperStatement) statement);
+        } else if (statement instanceof SwitchStatement) {
+            writeSwitchStatement((SwitchStatement) statement);
         } else if (statement instanceof Invocation) {
             writeIndent();
             writeInvocation((Invocation) statement);
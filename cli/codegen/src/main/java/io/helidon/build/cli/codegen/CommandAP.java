@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,7 @@ import io.helidon.build.cli.codegen.AST.Invocation.Style;
 import io.helidon.build.cli.codegen.AST.MethodBody;
 import io.helidon.build.cli.codegen.AST.MethodDeclaration;
 import io.helidon.build.cli.codegen.AST.MethodInvocation;
+import io.helidon.build.cli.codegen.AST.SwitchStatement;
 import io.helidon.build.cli.codegen.AST.Value;
 import io.helidon.build.cli.codegen.MetaModel.ArgumentMetaModel;
 import io.helidon.build.cli.codegen.MetaModel.CLIMetaModel;
@@ -54,6 +55,7 @@ import io.helidon.build.cli.codegen.MetaModel.FlagMetaModel;
 import io.helidon.build.cli.codegen.MetaModel.FragmentMetaModel;
 import io.helidon.build.cli.codegen.MetaModel.KeyValueMetaModel;
 import io.helidon.build.cli.codegen.MetaModel.KeyValuesMetaModel;
+import io.helidon.build.cli.codegen.MetaModel.NamedOptionMetaModel;
 import io.helidon.build.cli.codegen.MetaModel.ParameterMetaModel;
 import io.helidon.build.cli.codegen.TypeInfo.ElementInfo;
 import io.helidon.build.cli.codegen.Visitor.VisitorError;
@@ -64,6 +66,7 @@ import io.helidon.build.cli.harness.CommandModel;
 import io.helidon.build.cli.harness.CommandParameters.ParameterInfo;
 import io.helidon.build.cli.harness.CommandParser.Resolver;
 import io.helidon.build.cli.harness.CommandRegistry;
+import io.helidon.build.cli.harness.GlobalOptions;
 import io.helidon.build.cli.harness.Option;
 import io.helidon.build.cli.harness.Option.Flag;
 import io.helidon.build.cli.harness.Option.KeyValue;
@@ -79,6 +82,7 @@ import static io.helidon.build.cli.codegen.AST.Refs.refCast;
 import static io.helidon.build.cli.codegen.AST.Refs.staticRef;
 import static io.helidon.build.cli.codegen.AST.Statements.returnStatement;
 import static io.helidon.build.cli.codegen.AST.Statements.superStatement;
+import static io.helidon.build.cli.codegen.AST.Statements.switchStatement;
 import static io.helidon.build.cli.codegen.AST.Values.arrayLiteral;
 import static io.helidon.build.cli.codegen.AST.Values.arrayValueRef;
 import static io.helidon.build.cli.codegen.AST.Values.booleanLiteral;
@@ -296,7 +300,17 @@ public class CommandAP extends AbstractProcessor {
                                                         .builder()
                                                         .style(Style.MULTI_LINE)
                                                         .type(metaModel.annotatedType())
-                                                        .args(resolvedParams(metaModel.params())))))))
+                                                        .args(resolvedParams(metaModel.params()))))))
+                        .method(MethodDeclaration
+                                .builder()
+                                .annotation(Override.class)
+                                .modifiers(PUBLIC)
+                                .returnType(ParameterInfo.class)
+                                .name("parameter")
+                                .arg(String.class, "name")
+                                .body(MethodBody
+                                        .builder()
+                                        .statement(parameterSwitch(metaModel.params())))))
                 .build();
     }
 
@@ -439,6 +453,34 @@ public class CommandAP extends AbstractProcessor {
         throw new IllegalStateException("Unsupported parameter meta-model : " + param);
     }
 
+    private static SwitchStatement parameterSwitch(List<ParameterMetaModel> params) {
+        SwitchStatement.Builder builder = switchStatement(valueRef("name"));
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < params.size(); i++) {
+            ParameterMetaModel param = params.get(i);
+            if (param instanceof NamedOptionMetaModel option) {
+                if (names.add(option.name())) {
+                    builder.caseStatement(option.name(), returnStatement(arrayValueRef("PARAMS", i)));
+                }
+            } else if (param instanceof FragmentMetaModel<?> fragment) {
+                List<ParameterMetaModel> fragmentParams = fragment.params();
+                for (int j = 0; j < fragmentParams.size(); j++) {
+                    if (fragmentParams.get(j) instanceof NamedOptionMetaModel option && names.add(option.name())) {
+                        builder.caseStatement(option.name(), returnStatement(
+                                arrayValueRef(staticRef(fragmentInfoType(fragment)), "PARAMS", j)));
+                    }
+                }
+            }
+        }
+        return builder
+                .defaultStatement(returnStatement(MethodInvocation
+                        .builder()
+                        .method(GlobalOptions.class, "globalOption")
+                        .arg(valueRef("name"))
+                        .build()))
+                .build();
+    }
+
     private static Value defaultValue(TypeInfo type, String defaultValue) {
         if (defaultValue != null && !defaultValue.isEmpty()) {
             if (type.is(String.class)) {
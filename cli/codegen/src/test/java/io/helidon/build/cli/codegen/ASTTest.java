@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ import static io.helidon.build.cli.codegen.AST.FieldGroup.*;
 import static io.helidon.build.cli.codegen.AST.Invocations.*;
 import static io.helidon.build.cli.codegen.AST.Modifier.*;
 import static io.helidon.build.cli.codegen.AST.Refs.*;
+import static io.helidon.build.cli.codegen.AST.Statements.*;
 import static io.helidon.build.cli.codegen.AST.Values.*;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -183,6 +184,15 @@ class ASTTest {
         assertThat(ex.getMessage(), is("Negative array index"));
     }
 
+    @Test
+    void testSwitchStatementDuplicateCase() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> switchStatement(valueRef("name"))
+                        .caseStatement("foo", returnStatement())
+                        .caseStatement("foo", returnStatement()));
+        assertThat(ex.getMessage(), is("Duplicate case: foo"));
+    }
+
     @Test
     void testConstructorDeclarationWithoutType() {
         IllegalStateException ex = assertThrows(IllegalStateException.class,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -92,6 +92,8 @@ class ASTWriterTest {
     @Test
     void testWriteValueWithArrayValueRef() throws IOException {
         assertThat(write(w -> w.writeValue(arrayValueRef("bars", 0))), is("bars[0]"));
+        assertThat(write(w -> w.writeValue(arrayValueRef(staticRef(TestClass1.class), "BARS", 1))),
+                is("TestClass1.BARS[1]"));
     }
 
     @Test
@@ -150,6 +152,25 @@ class ASTWriterTest {
                 is("super((TestClass1) bar, foo);\n"));
     }
 
+    @Test
+    void testWriteStatementWithSwitchStatement() throws IOException {
+        assertThat(write(w -> w.writeStatement(switchStatement(valueRef("name"))
+                        .caseStatement("foo", returnStatement(arrayValueRef("bars", 0)))
+                        .caseStatement("bar", returnStatement(arrayValueRef("bars", 1)))
+                        .defaultStatement(returnStatement(nullLiteral()))
+                        .build())),
+                is("""
+                        switch (name) {
+                            case "foo":
+                                return bars[0];
+                            case "bar":
+                                return bars[1];
+                            default:
+                                return null;
+                        }
+                        """));
+    }
+
     @Test
     void testWriteStatementWithConstructorInvocation() throws IOException {
         assertThat(write(w -> w.writeStatement(constructorInvocation(TestClass1.class))), is("new TestClass1();\n"));
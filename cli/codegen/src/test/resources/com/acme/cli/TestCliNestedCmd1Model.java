@@ -21,6 +21,7 @@ import io.helidon.build.cli.harness.CommandModel.CommandInfo;
 import io.helidon.build.cli.harness.CommandModel.KeyValueInfo;
 import io.helidon.build.cli.harness.CommandParameters.ParameterInfo;
 import io.helidon.build.cli.harness.CommandParser.Resolver;
+import io.helidon.build.cli.harness.GlobalOptions;
 
 /**
  * Command model (generated).
@@ -65,4 +66,14 @@ public final class TestCliNestedCmd1Model extends CommandModel {
         return new Cmd1(
                 resolver.resolve((KeyValueInfo<String>) PARAMS[0]));
     }
+
+    @Override
+    public ParameterInfo parameter(String name) {
+        switch (name) {
+            case "foo":
+                return PARAMS[0];
+            default:
+                return GlobalOptions.globalOption(name);
+        }
+    }
 }
@@ -20,6 +20,7 @@ import io.helidon.build.cli.harness.CommandModel.CommandInfo;
 import io.helidon.build.cli.harness.CommandModel.KeyValueInfo;
 import io.helidon.build.cli.harness.CommandParameters.ParameterInfo;
 import io.helidon.build.cli.harness.CommandParser.Resolver;
+import io.helidon.build.cli.harness.GlobalOptions;
 
 /**
  * Command model (generated).
@@ -66,4 +67,22 @@ public final class TestCommand1Model extends CommandModel {
                 ((TestOptionsInfo) PARAMS[0]).resolve(resolver),
                 resolver.resolve((KeyValueInfo<String>) PARAMS[1]));
     }
+
+    @Override
+    public ParameterInfo parameter(String name) {
+        switch (name) {
+            case "name":
+                return TestOptionsInfo.PARAMS[0];
+            case "talents":
+                return TestOptionsInfo.PARAMS[1];
+            case "record":
+                return TestOptionsInfo.PARAMS[2];
+            case "export":
+                return TestOptionsInfo.PARAMS[3];
+            case "foo":
+                return PARAMS[1];
+            default:
+                return GlobalOptions.globalOption(name);
+        }
+    }
 }
@@ -20,6 +20,7 @@ import io.helidon.build.cli.harness.CommandModel.ArgumentInfo;
 import io.helidon.build.cli.harness.CommandModel.CommandInfo;
 import io.helidon.build.cli.harness.CommandParameters.ParameterInfo;
 import io.helidon.build.cli.harness.CommandParser.Resolver;
+import io.helidon.build.cli.harness.GlobalOptions;
 
 /**
  * Command model (generated).
@@ -63,4 +64,20 @@ public final class TestCommand2Model extends CommandModel {
                 ((TestOptionsInfo) PARAMS[0]).resolve(resolver),
                 resolver.resolve((ArgumentInfo<String>) PARAMS[1]));
     }
+
+    @Override
+    public ParameterInfo parameter(String name) {
+        switch (name) {
+            case "name":
+                return TestOptionsInfo.PARAMS[0];
+            case "talents":
+                return TestOptionsInfo.PARAMS[1];
+            case "record":
+                return TestOptionsInfo.PARAMS[2];
+            case "export":
+                return TestOptionsInfo.PARAMS[3];
+            default:
+                return GlobalOptions.globalOption(name);
+        }
+    }
 }
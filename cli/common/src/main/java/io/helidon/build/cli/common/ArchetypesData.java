@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,13 @@
 
 package io.helidon.build.cli.common;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import io.helidon.build.common.Lists;
@@ -67,6 +70,47 @@ public class ArchetypesData {
         }
     }
 
+    /**
+     * Read the data about archetype versions written by {@link #write(DataOutput)}.
+     *
+     * @param in input
+     * @return data about archetype versions
+     * @throws IOException if an IO error occurs
+     */
+    public static ArchetypesData read(DataInput in) throws IOException {
+        int versionsCount = in.readInt();
+        List<Version> versions = new ArrayList<>(versionsCount);
+        for (int i = 0; i < versionsCount; i++) {
+            versions.add(new Version(in.readUTF(), in.readBoolean(), in.readInt()));
+        }
+        int rulesCount = in.readInt();
+        List<Rule> rules = new ArrayList<>(rulesCount);
+        for (int i = 0; i < rulesCount; i++) {
+            rules.add(new Rule(in.readUTF(), in.readUTF()));
+        }
+        return new ArchetypesData(versions, rules);
+    }
+
+    /**
+     * Write this data in a compact binary form, the versions are written in sorted order.
+     *
+     * @param out output
+     * @throws IOException if an IO error occurs
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(versions.size());
+        for (Version version : versions) {
+            out.writeUTF(version.id);
+            out.writeBoolean(version.isDefault);
+            out.writeInt(version.order);
+        }
+        out.writeInt(rules.size());
+        for (Rule rule : rules) {
+            out.writeUTF(rule.archetypeSpec);
+            out.writeUTF(rule.cliSpec);
+        }
+    }
+
     /**
      * Get the list of the latest major versions from the current instance of ArchetypesData.
      *
@@ -204,12 +248,20 @@ public class ArchetypesData {
      * Rule for compatibility Helidon versions range and a range of Helidon CLI versions.
      */
     public static class Rule {
+        private final String archetypeSpec;
+        private final String cliSpec;
         private final VersionRange archetypeRange;
         private final VersionRange cliRange;
 
         private Rule(XMLElement elt) {
-            this.archetypeRange = VersionRange.createFromVersionSpec(elt.attribute("archetype"));
-            this.cliRange = VersionRange.createFromVersionSpec(elt.attribute("cli"));
+            this(elt.attribute("archetype"), elt.attribute("cli"));
+        }
+
+        private Rule(String archetypeSpec, String cliSpec) {
+            this.archetypeSpec = archetypeSpec;
+            this.cliSpec = cliSpec;
+            this.archetypeRange = VersionRange.createFromVersionSpec(archetypeSpec);
+            this.cliRange = VersionRange.createFromVersionSpec(cliSpec);
         }
 
         VersionRange archetypeRange() {
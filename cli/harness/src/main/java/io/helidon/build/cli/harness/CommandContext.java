@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -536,6 +536,7 @@ public final class CommandContext {
 
         private boolean embedded;
         private Class<?> cliClass;
+        private CommandRegistry registry;
         private BiFunction<String, String, String> lookup;
 
         Builder() {
@@ -565,6 +566,19 @@ public final class CommandContext {
             return (T) this;
         }
 
+        /**
+         * Set the command registry, instead of looking up the registry of the cli class with the
+         * {@link java.util.ServiceLoader}.
+         *
+         * @param registry command registry
+         * @return this builder
+         */
+        @SuppressWarnings("unchecked")
+        public T registry(CommandRegistry registry) {
+            this.registry = registry;
+            return (T) this;
+        }
+
         /**
          * Set embedded mode.
          *
@@ -583,8 +597,8 @@ public final class CommandContext {
          * @return CommandContext
          */
         protected CommandContext buildContext() {
-            CommandRegistry registry = CommandRegistry.load(cliClass);
-            return new CommandContext(registry, new InternalOptions(lookup), embedded);
+            CommandRegistry commandRegistry = registry != null ? registry : CommandRegistry.load(cliClass);
+            return new CommandContext(commandRegistry, new InternalOptions(lookup), embedded);
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,6 +30,7 @@ import java.util.stream.Stream;
 public class CommandParameters {
 
     private final List<ParameterInfo<?>> params;
+    private volatile Map<String, ParameterInfo<?>> paramsByName;
 
     /**
      * Create a new command parameters.
@@ -80,6 +81,23 @@ public class CommandParameters {
                 .collect(Collectors.toMap(CommandParameters::paramName, Function.identity()));
     }
 
+    /**
+     * Get a parameter by name.
+     * The generated command models override this method with a {@code switch} on the option names,
+     * so that no map is created to parse the command line.
+     *
+     * @param name parameter name
+     * @return {@link ParameterInfo}, or {@code null} if not found
+     */
+    public ParameterInfo<?> parameter(String name) {
+        Map<String, ParameterInfo<?>> map = paramsByName;
+        if (map == null) {
+            map = parametersMap();
+            paramsByName = map;
+        }
+        return map.get(name);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
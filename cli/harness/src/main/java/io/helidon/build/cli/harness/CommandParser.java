@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -199,25 +199,21 @@ public final class CommandParser {
     }
 
     /**
-     * Parse the specified command.
+     * Finish parsing with no specified command.
      *
-     * @param command command parameters for the command to parse
      * @return resolver that can be used to resolve the values for the parsed parameters
      */
-    Resolver parseCommand(CommandParameters command) {
-        return parseCommand(command.parametersMap());
+    Resolver parseCommand() {
+        return parseCommand(new CommandParameters(GlobalOptions.GLOBAL_OPTIONS_INFO));
     }
 
     /**
-     * Finish parsing with no specified command.
+     * Parse the specified command.
      *
+     * @param command command parameters for the command to parse
      * @return resolver that can be used to resolve the values for the parsed parameters
      */
-    Resolver parseCommand() {
-        return parseCommand(new CommandParameters(GlobalOptions.GLOBAL_OPTIONS_INFO));
-    }
-
-    private Resolver parseCommand(Map<String, ParameterInfo<?>> parametersMap) {
+    Resolver parseCommand(CommandParameters command) {
         Map<String, Parameter> parsedParams = new HashMap<>(globalResolver.params);
         Properties properties = new Properties();
         Iterator<String> it = argsList.iterator();
@@ -233,7 +229,7 @@ public final class CommandParser {
                 if (!Option.VALID_NAME.test(optionName)) {
                     throw new CommandParserException(INVALID_OPTION_NAME + ": " + optionName);
                 }
-                ParameterInfo<?> paramInfo = parameterInfo(optionName, parametersMap);
+                ParameterInfo<?> paramInfo = parameterInfo(optionName, command);
                 if (paramInfo instanceof FlagInfo) {
                     parsedParams.put(optionName, new FlagParam(optionName));
                 } else if (paramInfo instanceof KeyValueInfo) {
@@ -261,7 +257,7 @@ public final class CommandParser {
                         }
                     }
                     String value = it.next().trim();
-                    if (isParam(value) && parametersMap.containsKey(value.substring(2))) {
+                    if (isParam(value) && command.parameter(value.substring(2)) != null) {
                         throw new CommandParserException(INVALID_REPEATING_OPTION + ": " + optionName);
                     }
                     String[] splitValues = value.split(",");
@@ -290,11 +286,12 @@ public final class CommandParser {
         return new Resolver(parsedParams, properties);
     }
 
-    private ParameterInfo<?> parameterInfo(String paramName, Map<String, ParameterInfo<?>> parametersMap) {
-        if (GlobalOptions.isGlobal(paramName)) {
-            return GlobalOptions.GLOBAL_OPTIONS.get(paramName);
+    private ParameterInfo<?> parameterInfo(String paramName, CommandParameters command) {
+        ParameterInfo<?> globalOption = GlobalOptions.globalOption(paramName);
+        if (globalOption != null) {
+            return globalOption;
         }
-        return parametersMap.get(paramName);
+        return command.parameter(paramName);
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -121,9 +121,9 @@ public class CommandRegistry {
         Objects.requireNonNull(aClass, "aClass is null");
         return ServiceLoader.load(CommandRegistry.class)
                             .stream()
-                            .filter((r) -> aClass.getName().equals(r.get().aClass))
-                            .findFirst()
                             .map(ServiceLoader.Provider::get)
+                            .filter((r) -> aClass.getName().equals(r.aClass))
+                            .findFirst()
                             .orElseThrow(() -> new IllegalArgumentException(
                                     "No command registry found for class: " + aClass));
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -233,6 +233,16 @@ public class GlobalOptions {
         return GLOBAL_OPTIONS.containsKey(argument);
     }
 
+    /**
+     * Get a global option by name.
+     *
+     * @param name The option name.
+     * @return The option info, or {@code null} if not a global option.
+     */
+    public static ParameterInfo<?> globalOption(String name) {
+        return GLOBAL_OPTIONS.get(name);
+    }
+
     /**
      * Global options info.
      */
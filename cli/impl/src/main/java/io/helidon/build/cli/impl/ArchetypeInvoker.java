@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,9 +18,6 @@ package io.helidon.build.cli.impl;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.nio.file.FileSystem;
-import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
@@ -40,6 +37,7 @@ import io.helidon.build.archetype.engine.v2.ArchetypeEngineV2;
 import io.helidon.build.archetype.engine.v2.Context;
 import io.helidon.build.archetype.engine.v2.InputResolver.InputUnresolvedException;
 import io.helidon.build.archetype.engine.v2.InputResolver.InvalidInputException;
+import io.helidon.build.archetype.engine.v2.Node;
 import io.helidon.build.archetype.engine.v2.ScriptInvoker.InvocationException;
 import io.helidon.build.cli.common.ProjectConfig;
 import io.helidon.build.cli.impl.InitOptions.Flavor;
@@ -82,6 +80,8 @@ abstract class ArchetypeInvoker {
     private final Function<String, Path> projectDirSupplier;
     private final UserConfig userConfig;
     private final Runnable onResolved;
+    private final Node entryPoint;
+    private final int parallelism;
 
     private ArchetypeInvoker(Builder builder) {
         metadata = builder.metadata;
@@ -90,6 +90,8 @@ abstract class ArchetypeInvoker {
         projectDirSupplier = builder.projectDirSupplier;
         userConfig = builder.userConfig;
         onResolved = builder.onResolved;
+        entryPoint = builder.entryPoint;
+        parallelism = builder.parallelism;
     }
 
     /**
@@ -155,6 +157,24 @@ abstract class ArchetypeInvoker {
         return projectDirSupplier;
     }
 
+    /**
+     * Get the loaded archetype entry point.
+     *
+     * @return Node, may be {@code null}
+     */
+    protected Node entryPoint() {
+        return entryPoint;
+    }
+
+    /**
+     * Get the number of workers used to write the project files.
+     *
+     * @return parallelism
+     */
+    protected int parallelism() {
+        return parallelism;
+    }
+
     /**
      * Invoke the archetype engine to generate the project.
      *
@@ -191,6 +211,8 @@ abstract class ArchetypeInvoker {
         private Function<String, Path> projectDirSupplier;
         private UserConfig userConfig;
         private Runnable onResolved;
+        private Node entryPoint;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
 
         private Builder() {
             initProperties = new HashMap<>();
@@ -265,6 +287,30 @@ abstract class ArchetypeInvoker {
             return this;
         }
 
+        /**
+         * Set the loaded archetype entry point, to share the loaded archetype between invocations.
+         * Only used by the archetype engine V2.
+         *
+         * @param entryPoint entry point
+         * @return this builder
+         */
+        Builder entryPoint(Node entryPoint) {
+            this.entryPoint = entryPoint;
+            return this;
+        }
+
+        /**
+         * Set the number of workers used to write the project files.
+         * Only used by the archetype engine V2.
+         *
+         * @param parallelism parallelism
+         * @return this builder
+         */
+        Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         private boolean isHelidonV3() {
             String rawVersion = initOptions.helidonVersion().replace("-SNAPSHOT", "");
             return toMavenVersion(rawVersion).isGreaterThanOrEqualTo(HELIDON_V3);
@@ -449,10 +495,11 @@ abstract class ArchetypeInvoker {
                 externalValues.put(PACKAGE_NAME_PROPERTY, initOptions.packageName());
             }
 
-            try (FileSystem fs = jarFileSystem()) {
-                Path root = fs.getRootDirectories().iterator().next();
+            try {
                 ArchetypeEngineV2 engine = ArchetypeEngineV2.builder()
-                        .cwd(root)
+                        .cwd(archetypeDir())
+                        .entryPoint(entryPoint())
+                        .parallelism(parallelism())
                         .batch(initOptions.batch())
                         .externalValues(externalValues)
                         .externalDefaults(externalDefaults)
@@ -461,8 +508,6 @@ abstract class ArchetypeInvoker {
                         .outputPropsFile(initOptions.outputPropsFileOption())
                         .build();
                 return engine.generate();
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
             } catch (InvocationException ie) {
                 Throwable cause = ie.getCause();
                 if (cause instanceof InputUnresolvedException) {
@@ -486,15 +531,12 @@ abstract class ArchetypeInvoker {
             return EngineVersion.V2;
         }
 
-        private FileSystem jarFileSystem() {
+        private Path archetypeDir() {
             String helidonVersion = initOptions().helidonVersion();
             try {
-                Path archetype = metadata().archetypeV2Of(helidonVersion);
-                return FileSystems.newFileSystem(archetype, this.getClass().getClassLoader());
+                return metadata().archetypeV2DirOf(helidonVersion);
             } catch (Metadata.UpdateFailed | Plugins.PluginFailedUnchecked e) {
                 throw new RequirementFailure(HELIDON_VERSION_NOT_FOUND, helidonVersion);
-            } catch (IOException ex) {
-                throw new UncheckedIOException(ex);
             }
         }
 
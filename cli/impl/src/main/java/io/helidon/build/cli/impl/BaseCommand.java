@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,7 @@ public abstract class BaseCommand implements CommandExecution {
         assertPreconditions();
         checkForUpdates();
         invoke(context);
+        commonOptions.prefetchMetadata();
     }
 
     /**
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.helidon.build.cli.harness.CommandContext.ExitAction;
+import io.helidon.build.cli.harness.CommandContext.ExitStatus;
+import io.helidon.build.cli.harness.CommandRegistry;
+import io.helidon.build.cli.harness.CommandRunner;
+import io.helidon.build.common.ansi.AnsiTextStyle;
+import io.helidon.build.common.logging.Log;
+import io.helidon.build.common.logging.LogLevel;
+import io.helidon.build.common.logging.LogRecorder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Executes the commands described by JSON requests, one per line, while keeping the command registry, the user
+ * configuration and the metadata resident between requests. The requests are read from stdin, or from the
+ * connections accepted on a loopback port.
+ * <pre>
+ *     {"id": 1, "args": ["init", "--batch", "--version", "4.0.0"]}
+ * </pre>
+ * Each request is answered with a single line that holds the exit code, the exit status and the output of the
+ * command with the styles removed:
+ * <pre>
+ *     {"id": 1, "exitCode": 0, "status": "SUCCESS", "output": ["..."]}
+ * </pre>
+ * The requests are executed one at a time, and the commands that do not terminate or that read from stdin are
+ * rejected.
+ * <p>
+ * The loopback port is reachable by the other users of the machine, the requests read from it must therefore hold
+ * the random token written to a file readable only by the owner:
+ * <pre>
+ *     {"id": 1, "token": "...", "args": ["info"]}
+ * </pre>
+ */
+final class CliServer {
+
+    private static final Set<String> UNSUPPORTED_COMMANDS = Set.of("serve", "dev");
+    private static final Map<String, Metadata> METADATA = new ConcurrentHashMap<>();
+    private static final InputStream NO_INPUT = new ByteArrayInputStream(new byte[0]);
+    private static volatile boolean serving;
+
+    private final CommandRegistry registry;
+    private final Object lock = new Object();
+    private volatile byte[] token;
+
+    /**
+     * Create a new server.
+     *
+     * @param registry The command registry.
+     */
+    CliServer(CommandRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * Create a new server.
+     *
+     * @param registry The command registry.
+     * @param token    The token that the requests must hold, {@code null} if not required.
+     */
+    CliServer(CommandRegistry registry, String token) {
+        this.registry = registry;
+        this.token = token != null ? token.getBytes(UTF_8) : null;
+    }
+
+    /**
+     * Returns the resident metadata for the given URL while serving, or a new instance otherwise.
+     *
+     * @param url     The metadata URL.
+     * @param reset   {@code true} if the resident metadata should be discarded.
+     * @param factory The metadata factory.
+     * @return The metadata.
+     */
+    static Metadata metadata(String url, boolean reset, Supplier<Metadata> factory) {
+        if (serving) {
+            if (reset) {
+                METADATA.clear();
+            }
+            String key = (LogLevel.isDebug() ? "debug:" : "") + url;
+            return METADATA.computeIfAbsent(key, k -> factory.get());
+        }
+        return factory.get();
+    }
+
+    /**
+     * Serve the requests read from the given stream until the end of the stream is reached.
+     *
+     * @param in  The stream to read the requests from.
+     * @param out The stream to write the responses to.
+     * @throws IOException If an IO error occurs.
+     */
+    void serve(InputStream in, PrintStream out) throws IOException {
+        serving = true;
+        try {
+            read(in, out);
+        } finally {
+            stop();
+        }
+    }
+
+    /**
+     * Serve the requests of the connections accepted on the given loopback port, until interrupted.
+     * The token that the requests must hold is written to {@code serve-<port>.token} in the user config directory,
+     * and the file is deleted when the server stops.
+     *
+     * @param port The port, {@code 0} to use an ephemeral port.
+     * @throws IOException If an IO error occurs.
+     */
+    void serve(int port) throws IOException {
+        serving = true;
+        Path tokenFile = null;
+        try (ServerSocket server = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            String value = newToken();
+            tokenFile = writeToken(Config.userConfig().configDir()
+                                         .resolve("serve-" + server.getLocalPort() + ".token"), value);
+            token = value.getBytes(UTF_8);
+            Log.info("Listening on %s:%d, token file: %s",
+                    server.getInetAddress().getHostAddress(), server.getLocalPort(), tokenFile);
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = server.accept();
+                Thread thread = new Thread(() -> serve(socket), "helidon-serve");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        } finally {
+            stop();
+            if (tokenFile != null) {
+                Files.deleteIfExists(tokenFile);
+            }
+        }
+    }
+
+    /**
+     * Generate a new random token.
+     *
+     * @return The token.
+     */
+    static String newToken() {
+        byte[] bytes = new byte[32];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Write the given token to a file that only the owner can read and write.
+     *
+     * @param file  The file.
+     * @param token The token.
+     * @return The file.
+     * @throws IOException If an IO error occurs.
+     */
+    static Path writeToken(Path file, String token) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.deleteIfExists(file);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        } else {
+            Files.createFile(file);
+            File f = file.toFile();
+            if (!(f.setReadable(false, false) && f.setReadable(true, true)
+                    && f.setWritable(false, false) && f.setWritable(true, true))) {
+                throw new IOException("Unable to restrict the permissions of " + file);
+            }
+        }
+        Files.writeString(file, token);
+        return file;
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = socket.getInputStream();
+             PrintStream out = new PrintStream(socket.getOutputStream(), true, UTF_8)) {
+            read(in, out);
+        } catch (IOException e) {
+            Log.debug("Connection failed: %s", e.getMessage());
+        }
+    }
+
+    private void read(InputStream in, PrintStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                out.println(handle(line));
+                out.flush();
+            }
+        }
+    }
+
+    private static void stop() {
+        serving = false;
+        METADATA.clear();
+    }
+
+    /**
+     * Execute a request.
+     *
+     * @param request The request line.
+     * @return The response line.
+     */
+    String handle(String request) {
+        Object id = null;
+        List<String> args = new ArrayList<>();
+        try {
+            Map<String, Object> json = Json.parseObject(request);
+            id = json.get("id");
+            byte[] expected = token;
+            if (expected != null) {
+                Object actual = json.get("token");
+                if (!(actual instanceof String) || !MessageDigest.isEqual(expected, ((String) actual).getBytes(UTF_8))) {
+                    throw new IllegalArgumentException("invalid token");
+                }
+            }
+            Object value = json.get("args");
+            if (!(value instanceof List)) {
+                throw new IllegalArgumentException("'args' must be an array");
+            }
+            for (Object arg : (List<?>) value) {
+                if (!(arg instanceof String)) {
+                    throw new IllegalArgumentException("'args' must only contain strings");
+                }
+                args.add((String) arg);
+            }
+        } catch (IllegalArgumentException e) {
+            return response(id, 2, ExitStatus.FAILURE, List.of("Invalid request: " + e.getMessage()));
+        }
+        if (!args.isEmpty() && UNSUPPORTED_COMMANDS.contains(args.get(0))) {
+            String message = String.format("'%s' is not supported by the server", args.get(0));
+            return response(id, 1, ExitStatus.FAILURE, List.of(message));
+        }
+        return execute(id, args.toArray(new String[0]));
+    }
+
+    private String execute(Object id, String[] args) {
+        synchronized (lock) {
+            InputStream stdIn = System.in;
+            // prompts must not consume the requests
+            System.setIn(NO_INPUT);
+            LogLevel level = LogLevel.get();
+            try (LogRecorder recorder = new LogRecorder(LogLevel.INFO, true).start()) {
+                ExitAction action = CommandRunner.builder()
+                                                 .args(args)
+                                                 .optionLookup(Config.userConfig()::property)
+                                                 .registry(registry)
+                                                 .embedded(true)
+                                                 .build()
+                                                 .initProxy()
+                                                 .execute();
+                try {
+                    action.runExitAction();
+                } catch (VirtualMachineError e) {
+                    throw e;
+                } catch (Error ignored) {
+                    // the failure has already been logged
+                }
+                int exitCode = action.status() == ExitStatus.FAILURE ? 1 : 0;
+                return response(id, exitCode, action.status(), recorder.lines());
+            } finally {
+                LogLevel.set(level);
+                System.setIn(stdIn);
+            }
+        }
+    }
+
+    private static String response(Object id, int exitCode, ExitStatus status, List<String> output) {
+        StringBuilder sb = new StringBuilder("{\"id\":");
+        Json.write(id, sb);
+        sb.append(",\"exitCode\":").append(exitCode);
+        sb.append(",\"status\":\"").append(status).append("\",\"output\":[");
+        for (int i = 0; i < output.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Json.write(AnsiTextStyle.strip(output.get(i)), sb);
+        }
+        return sb.append("]}").toString();
+    }
+}
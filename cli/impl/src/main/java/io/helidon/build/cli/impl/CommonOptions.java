@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import io.helidon.build.cli.harness.CommandFragment;
 import io.helidon.build.cli.harness.Creator;
@@ -104,11 +105,11 @@ final class CommonOptions {
             if (!metadataUrl.equals(Metadata.DEFAULT_URL)) {
                 Log.debug("using metadata url %s", metadataUrl);
             }
-            metadata = Metadata.builder()
-                               .url(metadataUrl)
-                               .debugPlugin(LogLevel.isDebug())
-                               .updateFrequency(config.checkForUpdatesIntervalHours())
-                               .build();
+            metadata = CliServer.metadata(metadataUrl, resetCache, () -> Metadata.builder()
+                    .url(metadataUrl)
+                    .debugPlugin(LogLevel.isDebug())
+                    .updateFrequency(config.checkForUpdatesIntervalHours())
+                    .build());
         }
         return metadata;
     }
@@ -141,6 +142,17 @@ final class CommonOptions {
         }
     }
 
+    void prefetchMetadata() {
+        UserConfig config = Config.userConfig();
+        if (config.prefetchUpdates()) {
+            try {
+                metadata().prefetch(TimeUnit.HOURS.toMillis(config.prefetchMarginHours()));
+            } catch (Exception e) {
+                Log.debug("metadata prefetch failed: %s", e.toString());
+            }
+        }
+    }
+
     private Map<Object, Object> releaseNotes(MavenVersion helidonVersion) {
         try {
             Map<Object, Object> notes = new LinkedHashMap<>();
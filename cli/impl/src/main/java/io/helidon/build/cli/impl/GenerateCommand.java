@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.build.archetype.engine.v2.Node;
+import io.helidon.build.archetype.engine.v2.Script;
+import io.helidon.build.cli.harness.Command;
+import io.helidon.build.cli.harness.CommandContext;
+import io.helidon.build.cli.harness.Creator;
+import io.helidon.build.cli.harness.Option.KeyValue;
+import io.helidon.build.common.Lists;
+import io.helidon.build.common.RequirementFailure;
+import io.helidon.build.common.logging.Log;
+import io.helidon.build.common.logging.LogLevel;
+import io.helidon.build.common.maven.MavenVersion;
+import io.helidon.build.common.maven.VersionRange;
+
+import static io.helidon.build.cli.impl.CommandRequirements.requireMinimumMavenVersion;
+import static io.helidon.build.common.Requirements.failed;
+import static io.helidon.build.common.Requirements.require;
+import static io.helidon.build.common.maven.MavenVersion.toMavenVersion;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@code generate} command.
+ * Generates a project for each set of values read from a file, in the same way as {@code init --batch} with the
+ * values passed as {@code -D} properties. The file is either a CSV file with a header row that holds the input
+ * names, or a file of JSON objects, one per line. The archetype is loaded once and shared by the projects, which
+ * are generated concurrently in sibling directories named after their artifact ID.
+ */
+@Command(name = "generate", description = "Generate a project for each set of values in a file")
+final class GenerateCommand extends BaseCommand {
+
+    private static final MavenVersion HELIDON_V3 = toMavenVersion("3.0.0-alpha");
+
+    private final CommonOptions commonOptions;
+    private final Path valuesFile;
+    private final String version;
+    private final int parallelism;
+
+    @Creator
+    GenerateCommand(CommonOptions commonOptions,
+                    @KeyValue(name = "values", description = "CSV or JSON lines file of input values", required = true)
+                    File valuesFile,
+                    @KeyValue(name = "version", description = "Helidon version") String version,
+                    @KeyValue(name = "parallelism", description = "Number of projects generated concurrently")
+                    Integer parallelism) {
+        super(commonOptions, version != null);
+        this.commonOptions = commonOptions;
+        this.valuesFile = valuesFile.toPath().toAbsolutePath();
+        this.version = version;
+        this.parallelism = parallelism == null ? Runtime.getRuntime().availableProcessors() : parallelism;
+    }
+
+    @Override
+    protected void assertPreconditions() {
+        requireMinimumMavenVersion();
+        require(parallelism > 0, "Invalid parallelism: %d", parallelism);
+    }
+
+    @Override
+    protected void invoke(CommandContext context) throws Exception {
+        List<Map<String, String>> valueSets = valueSets(valuesFile);
+        require(!valueSets.isEmpty(), "%s does not contain any value set", valuesFile);
+
+        Metadata metadata = metadata();
+        String helidonVersion = resolveHelidonVersion(metadata);
+        require(toMavenVersion(helidonVersion.replace("-SNAPSHOT", "")).isGreaterThanOrEqualTo(HELIDON_V3),
+                "Helidon version %s is not supported, use 3.0.0 or later", helidonVersion);
+        Log.info("Using Helidon version " + helidonVersion);
+
+        // load the archetype once, the scripts are shared by all the projects
+        Node entryPoint = Script.load(metadata.archetypeV2DirOf(helidonVersion).resolve("main.xml"));
+        UserConfig config = Config.userConfig();
+        Path parentDir = commonOptions.project();
+        Set<Path> projectDirs = ConcurrentHashMap.newKeySet();
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, valueSets.size()));
+        List<Future<Long>> results = new ArrayList<>();
+        try {
+            for (Map<String, String> values : valueSets) {
+                Properties properties = new Properties();
+                properties.putAll(context.properties());
+                properties.putAll(values);
+                InitOptions initOptions = new InitOptions(null, null, helidonVersion, null, null, null, null, null,
+                        null, true);
+                ArchetypeInvoker invoker = ArchetypeInvoker.builder()
+                        .metadata(metadata)
+                        .initOptions(initOptions)
+                        .userConfig(config)
+                        .initProperties(properties)
+                        .entryPoint(entryPoint)
+                        .parallelism(1)
+                        .projectDir(name -> projectDir(parentDir.resolve(name), projectDirs))
+                        .build();
+                results.add(executor.submit(() -> {
+                    long projectStart = System.nanoTime();
+                    invoker.invoke();
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - projectStart);
+                }));
+            }
+
+            int failures = 0;
+            for (int i = 0; i < results.size(); i++) {
+                String label = label(valueSets.get(i), i);
+                try {
+                    long millis = results.get(i).get();
+                    Log.info("$(green %-40s) %6d ms", label, millis);
+                } catch (ExecutionException e) {
+                    failures++;
+                    Throwable cause = e.getCause();
+                    Log.info("$(red %-40s) %s", label, cause.getMessage() != null ? cause.getMessage() : cause);
+                    Log.log(LogLevel.DEBUG, cause, "%s failed", label);
+                }
+            }
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Log.info("Generated %d projects in %d ms", results.size() - failures, elapsed);
+            if (failures > 0) {
+                failed("$(red %d of %d projects failed)", failures, results.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String resolveHelidonVersion(Metadata metadata) throws Metadata.UpdateFailed {
+        if (version == null) {
+            return metadata.archetypesData().defaultVersion().toString();
+        }
+        MavenVersion resolved = VersionRange.wildcard(version)
+                .matchVersion(Lists.map(metadata.archetypesData().versions(), MavenVersion::toMavenVersion));
+        if (resolved == null) {
+            throw new RequirementFailure("$(italic Helidon version $(red %s) not found.)", version);
+        }
+        return resolved.toString();
+    }
+
+    private static Path projectDir(Path projectDir, Set<Path> projectDirs) {
+        if (!projectDirs.add(projectDir) || Files.exists(projectDir)) {
+            failed("$(red Directory $(plain %s) already exists)", projectDir);
+        }
+        return projectDir;
+    }
+
+    private static String label(Map<String, String> values, int index) {
+        String artifactId = values.get("artifactId");
+        return "#" + (index + 1) + (artifactId != null ? " " + artifactId : "");
+    }
+
+    /**
+     * Read the value sets.
+     *
+     * @param file A {@code .csv} file with a header row, or a file of JSON objects, one per line. The JSON arrays are
+     *             converted to comma separated values, or {@code none} if empty.
+     * @return The value sets, in file order.
+     * @throws IOException              If an IO error occurs.
+     * @throws IllegalArgumentException If the file is invalid.
+     */
+    static List<Map<String, String>> valueSets(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, UTF_8);
+        List<Map<String, String>> valueSets = new ArrayList<>();
+        if (file.getFileName().toString().toLowerCase().endsWith(".csv")) {
+            List<String> header = null;
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> fields = csvFields(line);
+                if (header == null) {
+                    header = fields;
+                    continue;
+                }
+                if (fields.size() != header.size()) {
+                    throw new IllegalArgumentException(String.format(
+                            "%s:%d: expected %d fields, found %d", file, i + 1, header.size(), fields.size()));
+                }
+                Map<String, String> values = new LinkedHashMap<>();
+                for (int j = 0; j < fields.size(); j++) {
+                    if (!fields.get(j).isEmpty()) {
+                        values.put(header.get(j), fields.get(j));
+                    }
+                }
+                valueSets.add(values);
+            }
+        } else {
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, String> values = new LinkedHashMap<>();
+                try {
+                    Json.parseObject(line).forEach((k, v) -> {
+                        if (v != null) {
+                            values.put(k, jsonValue(k, v));
+                        }
+                    });
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException(String.format("%s:%d: %s", file, i + 1, e.getMessage()));
+                }
+                valueSets.add(values);
+            }
+        }
+        return valueSets;
+    }
+
+    private static String jsonValue(String key, Object value) {
+        if (value instanceof Map) {
+            throw new IllegalArgumentException(String.format("'%s' must not be an object", key));
+        }
+        if (value instanceof List) {
+            // list inputs are passed as comma separated values, "none" being the empty list
+            List<String> items = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                if (item instanceof Map || item instanceof List || item == null) {
+                    throw new IllegalArgumentException(String.format("'%s' must only contain scalar values", key));
+                }
+                items.add(item.toString());
+            }
+            return items.isEmpty() ? "none" : String.join(",", items);
+        }
+        return value.toString();
+    }
+
+    private static List<String> csvFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,8 +30,10 @@ import sun.misc.Signal;
         commands = {
                 BuildCommand.class,
                 DevCommand.class,
+                GenerateCommand.class,
                 InfoCommand.class,
                 InitCommand.class,
+                ServeCommand.class,
                 VersionCommand.class
         })
 public final class Helidon {
@@ -78,7 +80,7 @@ public final class Helidon {
         CommandRunner.builder()
                      .args(args)
                      .optionLookup(Config.userConfig()::property)
-                     .cliClass(Helidon.class)
+                     .registry(new HelidonRegistry())
                      .embedded(embedded)
                      .build()
                      .initProxy()
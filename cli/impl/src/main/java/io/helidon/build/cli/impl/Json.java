@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON reader and writer, used for the requests and responses of {@link CliServer}.
+ */
+final class Json {
+
+    private final String input;
+    private int pos;
+
+    private Json(String input) {
+        this.input = input;
+    }
+
+    /**
+     * Parse a JSON object.
+     *
+     * @param input The input.
+     * @return The object.
+     * @throws IllegalArgumentException If the input is not a valid JSON object.
+     */
+    static Map<String, Object> parseObject(String input) {
+        Json json = new Json(input);
+        json.skipWhitespace();
+        Map<String, Object> object = json.readObject();
+        json.skipWhitespace();
+        if (json.pos < input.length()) {
+            throw json.error("unexpected character");
+        }
+        return object;
+    }
+
+    /**
+     * Write a value as JSON.
+     *
+     * @param value The value, a {@code String}, a {@code Number}, a {@code Boolean} or {@code null}.
+     * @param sb    The builder to write to.
+     */
+    static void write(Object value, StringBuilder sb) {
+        if (value instanceof String) {
+            String str = (String) value;
+            sb.append('"');
+            for (int i = 0; i < str.length(); i++) {
+                char c = str.charAt(i);
+                switch (c) {
+                    case '"':
+                        sb.append("\\\"");
+                        break;
+                    case '\\':
+                        sb.append("\\\\");
+                        break;
+                    case '\n':
+                        sb.append("\\n");
+                        break;
+                    case '\r':
+                        sb.append("\\r");
+                        break;
+                    case '\t':
+                        sb.append("\\t");
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            sb.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            sb.append(c);
+                        }
+                }
+            }
+            sb.append('"');
+        } else if (value instanceof Number || value instanceof Boolean) {
+            sb.append(value);
+        } else {
+            sb.append("null");
+        }
+    }
+
+    private Object readValue() {
+        skipWhitespace();
+        if (pos >= input.length()) {
+            throw error("unexpected end of input");
+        }
+        char c = input.charAt(pos);
+        switch (c) {
+            case '{':
+                return readObject();
+            case '[':
+                return readArray();
+            case '"':
+                return readString();
+            case 't':
+                return readLiteral("true", Boolean.TRUE);
+            case 'f':
+                return readLiteral("false", Boolean.FALSE);
+            case 'n':
+                return readLiteral("null", null);
+            default:
+                return readNumber();
+        }
+    }
+
+    private Map<String, Object> readObject() {
+        expect('{');
+        Map<String, Object> object = new LinkedHashMap<>();
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            String key = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(key, readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect('}');
+                return object;
+            }
+        }
+    }
+
+    private List<Object> readArray() {
+        expect('[');
+        List<Object> array = new ArrayList<>();
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+        while (true) {
+            array.add(readValue());
+            skipWhitespace();
+            if (peek() == ',') {
+                pos++;
+            } else {
+                expect(']');
+                return array;
+            }
+        }
+    }
+
+    private String readString() {
+        expect('"');
+        StringBuilder sb = new StringBuilder();
+        while (pos < input.length()) {
+            char c = input.charAt(pos++);
+            if (c == '"') {
+                return sb.toString();
+            } else if (c == '\\') {
+                if (pos >= input.length()) {
+                    break;
+                }
+                char escaped = input.charAt(pos++);
+                switch (escaped) {
+                    case 'b':
+                        sb.append('\b');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'u':
+                        if (pos + 4 > input.length()) {
+                            throw error("invalid unicode escape");
+                        }
+                        try {
+                            sb.append((char) Integer.parseInt(input.substring(pos, pos + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw error("invalid unicode escape");
+                        }
+                        pos += 4;
+                        break;
+                    default:
+                        sb.append(escaped);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        throw error("unterminated string");
+    }
+
+    private Object readLiteral(String literal, Object value) {
+        if (!input.startsWith(literal, pos)) {
+            throw error("unexpected character");
+        }
+        pos += literal.length();
+        return value;
+    }
+
+    private Number readNumber() {
+        int start = pos;
+        while (pos < input.length() && "+-0123456789.eE".indexOf(input.charAt(pos)) >= 0) {
+            pos++;
+        }
+        try {
+            return new BigDecimal(input.substring(start, pos));
+        } catch (NumberFormatException e) {
+            pos = start;
+            throw error("unexpected character");
+        }
+    }
+
+    private char peek() {
+        if (pos >= input.length()) {
+            throw error("unexpected end of input");
+        }
+        return input.charAt(pos);
+    }
+
+    private void expect(char c) {
+        if (peek() != c) {
+            throw error("expected '" + c + "'");
+        }
+        pos++;
+    }
+
+    private void skipWhitespace() {
+        while (pos < input.length() && Character.isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,8 @@ package io.helidon.build.cli.impl;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
@@ -29,13 +31,17 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import io.helidon.build.archetype.engine.v1.ArchetypeCatalog;
 import io.helidon.build.cli.common.ArchetypesData;
 import io.helidon.build.common.ConfigProperties;
+import io.helidon.build.common.FileUtils;
 import io.helidon.build.common.PrintStreams;
 import io.helidon.build.common.Requirements;
 import io.helidon.build.common.Time;
@@ -50,6 +56,9 @@ import static io.helidon.build.common.FileUtils.requireFile;
 import static io.helidon.build.common.PrintStreams.DEVNULL;
 import static io.helidon.build.common.PrintStreams.STDOUT;
 import static io.helidon.build.common.maven.MavenVersion.toMavenVersion;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
@@ -84,7 +93,14 @@ public class Metadata {
     private static final String CATALOG_FILE_NAME = "archetype-catalog.xml";
     private static final String UPDATE_VERSIONS_PLUGIN = "UpdateVersions";
     private static final String UPDATE_VERSION_PLUGIN = "UpdateVersion";
+    private static final String UPDATE_METADATA_PLUGIN = "UpdateMetadata";
+    private static final String LOCK_FILE_NAME = ".update.lock";
+    /**
+     * Serializes the updates of this process, the updates of the other processes are serialized with a file lock.
+     */
+    static final ReentrantLock UPDATE_LOCK = new ReentrantLock();
     private static final String JAR_SUFFIX = ".jar";
+    private static final String EXPLODED_SUFFIX = "-exploded";
     private static final int PLUGIN_MAX_WAIT_SECONDS = 30;
     private static final int PLUGIN_MAX_ATTEMPTS = 3;
     private static final String CLI_MESSAGE_PREFIX = "cli.";
@@ -105,6 +121,7 @@ public class Metadata {
     private final Map<Path, Long> lastChecked;
     private final AtomicReference<Throwable> archetypesDataFailure;
     private final AtomicReference<ArchetypesData> archetypesData;
+    private final MetadataSnapshot snapshot;
 
     private Metadata(Builder builder) {
         rootDir = builder.rootDir;
@@ -116,6 +133,7 @@ public class Metadata {
         lastChecked = new HashMap<>();
         archetypesDataFailure = new AtomicReference<>();
         archetypesData = new AtomicReference<>();
+        snapshot = new MetadataSnapshot(rootDir);
     }
 
     /**
@@ -216,7 +234,7 @@ public class Metadata {
             try {
                 update(null, versionsFile, quiet);
                 if (archetypesData.get() == null) {
-                    archetypesData.set(ArchetypesData.load(versionsFile));
+                    archetypesData.set(snapshot.archetypesData(versionsFile));
                 }
                 return archetypesData.get();
             } catch (UpdateFailed | RuntimeException e) {
@@ -369,7 +387,7 @@ public class Metadata {
      * @throws UpdateFailed if the metadata update failed
      */
     public ConfigProperties propertiesOf(MavenVersion helidonVersion, boolean quiet) throws UpdateFailed {
-        return new ConfigProperties(versionedFile(helidonVersion, METADATA_FILE_NAME, quiet));
+        return snapshot.properties(versionedFile(helidonVersion, METADATA_FILE_NAME, quiet));
     }
 
     /**
@@ -434,6 +452,54 @@ public class Metadata {
         return versionedFile(version, fileName, false);
     }
 
+    /**
+     * Returns the path to the exploded archetype V2 for the given version. The archetype jar is extracted
+     * once into the version directory, in a directory named after the size and last modified time of the jar.
+     *
+     * @param version The version.
+     * @return The path to the exploded archetype directory.
+     * @throws UpdateFailed if the metadata update failed
+     */
+    public Path archetypeV2DirOf(String version) throws UpdateFailed {
+        MavenVersion helidonVersion = toMavenVersion(version);
+        Path jar = archetypeV2Of(helidonVersion);
+        Path dir = jar.resolveSibling("helidon-" + helidonVersion + EXPLODED_SUFFIX).resolve(stampOf(jar));
+        if (!Files.isDirectory(dir)) {
+            explode(jar, dir);
+        }
+        return dir;
+    }
+
+    private static String stampOf(Path jar) {
+        try {
+            return Files.size(jar) + "-" + Files.getLastModifiedTime(jar).toMillis();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void explode(Path jar, Path dir) {
+        Log.debug("exploding %s", jar);
+        Path tempDir = null;
+        try {
+            // an exploded directory is complete once moved in place and never modified,
+            // so that it can be used while another process explodes a new jar
+            tempDir = Files.createTempDirectory(FileUtils.ensureDirectory(dir.getParent()), ".");
+            FileUtils.unzip(jar, tempDir);
+            Files.move(tempDir, dir, ATOMIC_MOVE);
+            Log.debug("exploded %s into %s", jar, dir);
+        } catch (IOException ex) {
+            // another process exploded the archetype concurrently
+            if (!Files.isDirectory(dir)) {
+                throw new UncheckedIOException(ex);
+            }
+        } finally {
+            if (tempDir != null && Files.exists(tempDir)) {
+                FileUtils.deleteDirectory(tempDir);
+            }
+        }
+    }
+
     @SuppressWarnings("SameParameterValue")
     private String requiredProperty(MavenVersion helidonVersion,
                                     String propertyName,
@@ -451,28 +517,111 @@ public class Metadata {
     }
 
     private void update(MavenVersion helidonVersion, Path checkFile, boolean quiet) throws UpdateFailed {
-        if (isStale(checkFile, System.currentTimeMillis())) {
-            if (helidonVersion == null) {
-                Log.info("Looking up default Helidon version");
-
-                // update versions.xml
-                execPlugin(updateArgs(null, quiet), UPDATE_VERSIONS_PLUGIN);
-                ArchetypesData data = ArchetypesData.load(versionsFile);
-                archetypesData.set(data);
-                helidonVersion = data.defaultVersion();
-
-                // fetch cli-data
-                execPlugin(updateArgs(helidonVersion.toString(), quiet), UPDATE_VERSION_PLUGIN);
-            } else {
-                Log.info("Updating metadata for Helidon version %s", helidonVersion);
+        long currentTimeMillis = System.currentTimeMillis();
+        if (isStale(checkFile, currentTimeMillis)) {
+            // wait for a background update, it holds the same lock file
+            Path lockFile = FileUtils.ensureDirectory(rootDir).resolve(LOCK_FILE_NAME);
+            UPDATE_LOCK.lock();
+            try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE);
+                 FileLock ignored = channel.lock()) {
+                if (isUpdatedSince(checkFile, currentTimeMillis)) {
+                    Log.debug("%s was updated while waiting for the update lock", checkFile);
+                    return;
+                }
+                update(helidonVersion, quiet);
+            } catch (IOException ex) {
+                throw new UpdateFailed("Unable to lock " + lockFile, ex);
+            } finally {
+                UPDATE_LOCK.unlock();
+            }
+        }
+    }
+
+    private void update(MavenVersion helidonVersion, boolean quiet) throws UpdateFailed {
+        if (helidonVersion == null) {
+            Log.info("Looking up default Helidon version");
 
-                // fetch cli-data
-                execPlugin(updateArgs(helidonVersion.toString(), quiet), UPDATE_VERSION_PLUGIN);
+            // update versions.xml
+            execPlugin(updateArgs(null, quiet), UPDATE_VERSIONS_PLUGIN);
+            ArchetypesData data = snapshot.archetypesData(versionsFile);
+            archetypesData.set(data);
+            helidonVersion = data.defaultVersion();
 
-                // update versions.xml
-                execPlugin(updateArgs(null, quiet), UPDATE_VERSIONS_PLUGIN);
+            // fetch cli-data
+            execPlugin(updateArgs(helidonVersion.toString(), quiet), UPDATE_VERSION_PLUGIN);
+        } else {
+            Log.info("Updating metadata for Helidon version %s", helidonVersion);
+
+            // fetch cli-data and update versions.xml concurrently
+            execPlugins(updateArgs(helidonVersion.toString(), quiet), UPDATE_VERSION_PLUGIN,
+                    updateArgs(null, quiet), UPDATE_VERSIONS_PLUGIN);
+
+            // refresh the snapshot while the files are in the page cache
+            snapshot.archetypesData(versionsFile);
+        }
+    }
+
+    /**
+     * Start a background update of the metadata if {@code versions.xml} or the metadata of the default Helidon
+     * version becomes stale within the given margin, so that the next command does not wait for the update.
+     * The update is skipped if another update is already in progress.
+     *
+     * @param marginMillis The margin in milliseconds.
+     * @return {@code true} if an update was started.
+     */
+    public boolean prefetch(long marginMillis) {
+        if (isStaleWithin(marginMillis)) {
+            try {
+                Log.debug("starting background metadata update");
+                Plugins.detached(UPDATE_METADATA_PLUGIN, updateArgs(cachedDefaultVersion(), true));
+                return true;
+            } catch (Plugins.PluginFailed e) {
+                Log.debug("background metadata update failed: %s", e.getMessage());
             }
         }
+        return false;
+    }
+
+    /**
+     * Tests whether {@code versions.xml} or the metadata of the default Helidon version becomes stale within
+     * the given margin.
+     *
+     * @param marginMillis The margin in milliseconds.
+     * @return {@code true} if stale within the margin.
+     */
+    boolean isStaleWithin(long marginMillis) {
+        if (updateFrequencyMillis <= 0) {
+            // updates are either disabled or done by every command
+            return false;
+        }
+        long deadline = System.currentTimeMillis() + marginMillis;
+        String defaultVersion = cachedDefaultVersion();
+        return expiresBefore(versionsFile, deadline)
+               || defaultVersion != null
+                  && expiresBefore(rootDir.resolve(defaultVersion).resolve(LAST_UPDATE_FILE_NAME), deadline);
+    }
+
+    private String cachedDefaultVersion() {
+        if (!Files.exists(versionsFile)) {
+            return null;
+        }
+        ArchetypesData data = archetypesData.get();
+        return (data == null ? snapshot.archetypesData(versionsFile) : data).defaultVersion().toString();
+    }
+
+    private boolean isUpdatedSince(Path file, long timeMillis) {
+        // not isStale(), it assumes that a file checked within STALE_RETRY_THRESHOLD is not stale
+        if (!Files.exists(file)) {
+            return false;
+        }
+        long lastModifiedMillis = lastModifiedTime(file).to(MILLISECONDS);
+        return updateFrequencyMillis < 0
+               || lastModifiedMillis >= timeMillis
+               || updateFrequencyMillis > 0 && lastModifiedMillis + updateFrequencyMillis > System.currentTimeMillis();
+    }
+
+    private boolean expiresBefore(Path file, long timeMillis) {
+        return !Files.exists(file) || lastModifiedTime(file).to(MILLISECONDS) + updateFrequencyMillis <= timeMillis;
     }
 
     private boolean isStale(Path file, long currentTimeMillis) {
@@ -548,14 +697,12 @@ public class Metadata {
     }
 
     private void execPlugin(List<String> args, String pluginName) throws UpdateFailed {
-        PrintStream stdOut = pluginStdOut;
+        execPlugin(args, pluginName, pluginStdOut());
+    }
+
+    private void execPlugin(List<String> args, String pluginName, PrintStream stdOut) throws UpdateFailed {
         if (debugPlugin) {
             args.add("--debug");
-            if (stdOut == null) {
-                stdOut = PrintStreams.apply(STDOUT, LogFormatter.of(LogLevel.INFO));
-            }
-        } else if (stdOut == null) {
-            stdOut = DEVNULL;
         }
         try {
             Plugins.execute(pluginName, args, PLUGIN_MAX_WAIT_SECONDS, stdOut);
@@ -564,6 +711,56 @@ public class Metadata {
         }
     }
 
+    private void execPlugins(List<String> args1, String pluginName1,
+                             List<String> args2, String pluginName2) throws UpdateFailed {
+
+        // the output of the second plugin is buffered and printed after the output of the first one
+        PrintStream stdOut = pluginStdOut();
+        List<String> output = new ArrayList<>();
+        PrintStream buffer = PrintStreams.accept(DEVNULL, output::add);
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            execPlugin(args2, pluginName2, buffer);
+            return null;
+        });
+        Thread thread = new Thread(task, pluginName2);
+        thread.setDaemon(true);
+        thread.start();
+
+        UpdateFailed failure = null;
+        try {
+            execPlugin(args1, pluginName1, stdOut);
+        } catch (UpdateFailed e) {
+            failure = e;
+        }
+        try {
+            task.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            UpdateFailed error = cause instanceof UpdateFailed
+                    ? (UpdateFailed) cause
+                    : new UpdateFailed(pluginName2 + " failed", cause);
+            if (failure == null) {
+                failure = error;
+            } else {
+                failure.addSuppressed(error);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UpdateFailed(pluginName2 + " interrupted", e);
+        }
+        output.forEach(stdOut::print);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private PrintStream pluginStdOut() {
+        if (pluginStdOut != null) {
+            return pluginStdOut;
+        }
+        return debugPlugin ? PrintStreams.apply(STDOUT, LogFormatter.of(LogLevel.INFO)) : DEVNULL;
+    }
+
     private static MavenVersion latestPluginVersion(MavenVersion helidonVersion,
                                                     MavenVersion thisCliVersion,
                                                     ConfigProperties properties) {
@@ -610,6 +807,10 @@ public class Metadata {
         private UpdateFailed(Plugins.PluginFailed ex) {
             super(ex.getMessage(), ex);
         }
+
+        private UpdateFailed(String message, Throwable cause) {
+            super(message, cause);
+        }
     }
 
     /**
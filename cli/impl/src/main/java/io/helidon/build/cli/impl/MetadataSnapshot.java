@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.helidon.build.cli.common.ArchetypesData;
+import io.helidon.build.common.ConfigProperties;
+import io.helidon.build.common.logging.Log;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A binary snapshot of the parsed metadata files, stored in the metadata root directory.
+ * The snapshot holds the parsed {@code versions.xml} and the parsed {@code metadata.properties} of each version, each
+ * with the size and last modified time of its source file. An entry is used only if its source file has not changed,
+ * otherwise the source file is parsed and the snapshot is rewritten.
+ */
+final class MetadataSnapshot {
+
+    /**
+     * The snapshot file name.
+     */
+    static final String FILE_NAME = ".snapshot";
+
+    private static final int MAGIC = 0x484c4d53;
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path rootDir;
+    private final Path file;
+    private final Map<String, Entry<Map<String, String>>> properties = new HashMap<>();
+    private Entry<ArchetypesData> archetypesData;
+    private boolean loaded;
+
+    /**
+     * Create a new snapshot.
+     *
+     * @param rootDir The metadata root directory.
+     */
+    MetadataSnapshot(Path rootDir) {
+        this.rootDir = rootDir;
+        this.file = rootDir.resolve(FILE_NAME);
+    }
+
+    /**
+     * Returns the parsed {@code versions.xml} file.
+     *
+     * @param versionsFile The versions file.
+     * @return The archetypes data.
+     */
+    synchronized ArchetypesData archetypesData(Path versionsFile) {
+        load();
+        Stamp stamp = Stamp.of(versionsFile);
+        if (stamp == null) {
+            return ArchetypesData.load(versionsFile);
+        }
+        if (archetypesData == null || !archetypesData.stamp.equals(stamp)) {
+            archetypesData = new Entry<>(stamp, ArchetypesData.load(versionsFile));
+            store();
+        }
+        return archetypesData.value;
+    }
+
+    /**
+     * Returns the parsed properties file of a version.
+     *
+     * @param propertiesFile The properties file.
+     * @return The properties.
+     */
+    synchronized ConfigProperties properties(Path propertiesFile) {
+        load();
+        Stamp stamp = Stamp.of(propertiesFile);
+        if (stamp == null) {
+            return new ConfigProperties(propertiesFile);
+        }
+        String key = rootDir.relativize(propertiesFile).toString();
+        Entry<Map<String, String>> entry = properties.get(key);
+        if (entry == null || !entry.stamp.equals(stamp)) {
+            Map<String, String> map = new LinkedHashMap<>();
+            new ConfigProperties(propertiesFile).entrySet().forEach(e -> map.put(e.getKey(), e.getValue()));
+            entry = new Entry<>(stamp, map);
+            properties.put(key, entry);
+            store();
+        }
+        return new ConfigProperties(propertiesFile, entry.value);
+    }
+
+    private void load() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            // the file is small, and a mapping would prevent store() from replacing it on Windows
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                Log.debug("ignoring incompatible metadata snapshot %s", file);
+                return;
+            }
+            if (in.readBoolean()) {
+                Stamp stamp = Stamp.read(in);
+                archetypesData = new Entry<>(stamp, ArchetypesData.read(in));
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                Stamp stamp = Stamp.read(in);
+                int size = in.readInt();
+                Map<String, String> map = new LinkedHashMap<>();
+                for (int j = 0; j < size; j++) {
+                    map.put(in.readUTF(), in.readUTF());
+                }
+                properties.put(key, new Entry<>(stamp, map));
+            }
+        } catch (IOException | RuntimeException e) {
+            Log.debug("unable to read metadata snapshot %s: %s", file, e.toString());
+            archetypesData = null;
+            properties.clear();
+        }
+    }
+
+    private void store() {
+        if (!Files.isDirectory(rootDir)) {
+            return;
+        }
+        Path tempFile = rootDir.resolve(FILE_NAME + "." + ProcessHandle.current().pid() + ".tmp");
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeBoolean(archetypesData != null);
+            if (archetypesData != null) {
+                archetypesData.stamp.write(out);
+                archetypesData.value.write(out);
+            }
+            out.writeInt(properties.size());
+            for (Map.Entry<String, Entry<Map<String, String>>> e : properties.entrySet()) {
+                out.writeUTF(e.getKey());
+                e.getValue().stamp.write(out);
+                out.writeInt(e.getValue().value.size());
+                for (Map.Entry<String, String> property : e.getValue().value.entrySet()) {
+                    out.writeUTF(property.getKey());
+                    out.writeUTF(property.getValue());
+                }
+            }
+            out.flush();
+            Files.write(tempFile, bytes.toByteArray());
+            try {
+                Files.move(tempFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // the snapshot is only an optimization
+            Log.debug("unable to write metadata snapshot %s: %s", file, e.toString());
+            try {
+                Files.deleteIfExists(tempFile);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+        private final Stamp stamp;
+        private final T value;
+
+        private Entry(Stamp stamp, T value) {
+            this.stamp = stamp;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The size and last modified time of a source file.
+     */
+    private static final class Stamp {
+        private final long size;
+        private final long lastModified;
+
+        private Stamp(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        static Stamp of(Path file) {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+                return attrs.isRegularFile() ? new Stamp(attrs.size(), attrs.lastModifiedTime().toMillis()) : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        static Stamp read(DataInputStream in) throws IOException {
+            return new Stamp(in.readLong(), in.readLong());
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModified);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Stamp)) {
+                return false;
+            }
+            Stamp stamp = (Stamp) o;
+            return size == stamp.size && lastModified == stamp.lastModified;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -37,6 +38,7 @@ import io.helidon.build.common.logging.Log;
 import io.helidon.build.common.logging.LogLevel;
 
 import static io.helidon.build.cli.impl.CommandRequirements.unsupportedJavaVersion;
+import static io.helidon.build.common.OSType.CURRENT_OS;
 import static io.helidon.build.common.PrintStreams.STDOUT;
 import static java.util.Objects.requireNonNull;
 
@@ -54,10 +56,12 @@ public class Plugins {
     private static final int DEFAULT_DEBUG_PORT = Integer.getInteger(DEBUG_PORT_PROPERTY, 0);
     private static final String DEBUG_ARG_PREFIX = "-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=*:";
     private static final boolean FORK = Boolean.getBoolean("plugin.fork");
+    private static final Set<String> NATIVE_PLUGINS = Plugin.nativePlugins();
     private static final String JIT_LEVEL_ONE = "-XX:TieredStopAtLevel=1";
     private static final String JIT_TWO_COMPILER_THREADS = "-XX:CICompilerCount=2";
     private static final String TIMED_OUT_SUFFIX = " timed out";
     private static final String UNSUPPORTED_CLASS_VERSION_ERROR = UnsupportedClassVersionError.class.getSimpleName();
+    private static final List<Path> NICE_EXECUTABLES = List.of(Path.of("/usr/bin/nice"), Path.of("/bin/nice"));
 
     private static Path pluginJar() {
         Path pluginJar = PLUGINS_JAR.get();
@@ -118,7 +122,8 @@ public class Plugins {
     /**
      * Execute a plugin.
      * If executing inside a native executable, the plugin execution is done by spawning a Java process using the
-     * bundled plugin JAR file. Otherwise, the execution is done in the current JVM.
+     * bundled plugin JAR file, unless the plugin is compiled into the executable, e.g. the metadata update plugins.
+     * Otherwise, the execution is done in the current JVM.
      *
      * @param pluginName     The plugin name.
      * @param pluginArgs     The plugin args.
@@ -131,13 +136,57 @@ public class Plugins {
                                int maxWaitSeconds,
                                PrintStream stdOut) throws PluginFailed {
 
-        if (FORK || ImageInfo.inImageRuntimeCode()) {
+        if (FORK || (ImageInfo.inImageRuntimeCode() && !NATIVE_PLUGINS.contains(pluginName))) {
             spawned(pluginName, pluginArgs, maxWaitSeconds, stdOut);
         } else {
             embedded(pluginName, pluginArgs, stdOut);
         }
     }
 
+    /**
+     * Start a plugin in a detached Java process with a lower scheduling priority, without waiting for it to
+     * complete. The output of the process is discarded.
+     *
+     * @param pluginName The plugin name.
+     * @param pluginArgs The plugin args.
+     * @throws PluginFailed if the process cannot be started
+     */
+    public static void detached(String pluginName, List<String> pluginArgs) throws PluginFailed {
+        final List<String> command = new ArrayList<>();
+        if (CURRENT_OS.isPosix()) {
+            NICE_EXECUTABLES.stream()
+                            .filter(Files::isExecutable)
+                            .findFirst()
+                            .ifPresent(nice -> command.add(nice.toString()));
+        }
+        command.addAll(javaCommand(pluginName, pluginArgs));
+        try {
+            Log.debug("starting %s", command);
+            JavaProcessBuilder.newInstance()
+                              .command(command)
+                              .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                              .redirectError(ProcessBuilder.Redirect.DISCARD)
+                              .start();
+        } catch (IOException e) {
+            throw new PluginFailed(e);
+        }
+    }
+
+    private static List<String> javaCommand(String pluginName, List<String> pluginArgs) {
+        final List<String> command = new ArrayList<>();
+        command.add("java");
+        command.add(JIT_LEVEL_ONE);
+        command.add(JIT_TWO_COMPILER_THREADS);
+        if (DEFAULT_DEBUG_PORT > 0) {
+            command.add(DEBUG_ARG_PREFIX + DEFAULT_DEBUG_PORT);
+        }
+        command.addAll(Proxies.javaProxyArgs());
+        command.add("-jar");
+        command.add(pluginJar().toString());
+        command.addAll(pluginArgs(pluginName, pluginArgs));
+        return command;
+    }
+
     private static List<String> pluginArgs(String pluginName, List<String> pluginArgs) {
         List<String> args = new ArrayList<>();
         args.add(requireNonNull(pluginName));
@@ -173,17 +222,7 @@ public class Plugins {
                                 PrintStream stdOut) throws PluginFailed {
 
         // Create the command
-        final List<String> command = new ArrayList<>();
-        command.add("java");
-        command.add(JIT_LEVEL_ONE);
-        command.add(JIT_TWO_COMPILER_THREADS);
-        if (DEFAULT_DEBUG_PORT > 0) {
-            command.add(DEBUG_ARG_PREFIX + DEFAULT_DEBUG_PORT);
-        }
-        command.addAll(Proxies.javaProxyArgs());
-        command.add("-jar");
-        command.add(pluginJar().toString());
-        command.addAll(pluginArgs(pluginName, pluginArgs));
+        final List<String> command = javaCommand(pluginName, pluginArgs);
 
         // Create the process builder
 
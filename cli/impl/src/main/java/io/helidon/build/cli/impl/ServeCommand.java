@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import io.helidon.build.cli.harness.Command;
+import io.helidon.build.cli.harness.CommandContext;
+import io.helidon.build.cli.harness.CommandExecution;
+import io.helidon.build.cli.harness.Creator;
+import io.helidon.build.cli.harness.Option.KeyValue;
+import io.helidon.build.common.PrintStreams;
+
+/**
+ * The {@code serve} command.
+ */
+@Command(name = "serve", description = "Execute the commands read from stdin or a loopback port")
+final class ServeCommand implements CommandExecution {
+
+    private final Integer port;
+
+    @Creator
+    ServeCommand(@KeyValue(name = "port", description = "Loopback port to listen on, requires a token")
+                 Integer port) {
+        this.port = port;
+    }
+
+    @Override
+    public void execute(CommandContext context) throws Exception {
+        CliServer server = new CliServer(new HelidonRegistry());
+        if (port == null) {
+            server.serve(System.in, PrintStreams.STDOUT);
+        } else {
+            server.serve(port);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -61,6 +61,10 @@ public class UserConfig {
     private static final String FAIL_ON_PROJECT_NAME_COLLISION_DEFAULT_VALUE = "false";
     private static final String UPDATE_INTERVAL_HOURS_KEY = "update.check.retry.hours";
     private static final String UPDATE_INTERVAL_HOURS_DEFAULT_VALUE = "12";
+    private static final String PREFETCH_KEY = "update.check.prefetch";
+    private static final String PREFETCH_DEFAULT_VALUE = "false";
+    private static final String PREFETCH_MARGIN_HOURS_KEY = "update.check.prefetch.hours";
+    private static final String PREFETCH_MARGIN_HOURS_DEFAULT_VALUE = "1";
     private static final String DOWNLOAD_UPDATES_KEY = "download.new.releases";
     private static final String DOWNLOAD_UPDATES_DEFAULT_VALUE = "true";
     private static final String UPDATE_URL_KEY = "update.url";
@@ -106,6 +110,13 @@ public class UserConfig {
             + "\n"
             + UPDATE_INTERVAL_HOURS_KEY + "=" + UPDATE_INTERVAL_HOURS_DEFAULT_VALUE + "\n"
             + "\n"
+            + "# The CLI can refresh this information in the background after a command completes,\n"
+            + "# if it becomes stale within the given number of hours, so that the next command does\n"
+            + "# not wait for the update.\n"
+            + "\n"
+            + "# " + PREFETCH_KEY + "=" + PREFETCH_DEFAULT_VALUE + "\n"
+            + "# " + PREFETCH_MARGIN_HOURS_KEY + "=" + PREFETCH_MARGIN_HOURS_DEFAULT_VALUE + "\n"
+            + "\n"
             + "# The CLI can download new releases to help reduce the number of installation\n"
             + "# steps, and this value controls whether or not to do so.\n"
             + "\n"
@@ -206,6 +217,29 @@ public class UserConfig {
         }
     }
 
+    /**
+     * Returns whether to update the metadata in the background when it becomes stale soon.
+     *
+     * @return {@code true} if enabled.
+     */
+    public boolean prefetchUpdates() {
+        return Boolean.parseBoolean(property(PREFETCH_KEY, PREFETCH_DEFAULT_VALUE));
+    }
+
+    /**
+     * Returns the number of hours before the metadata becomes stale within which it is updated in the background.
+     *
+     * @return The number of hours.
+     */
+    public int prefetchMarginHours() {
+        String value = property(PREFETCH_MARGIN_HOURS_KEY, PREFETCH_MARGIN_HOURS_DEFAULT_VALUE);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(PREFETCH_MARGIN_HOURS_KEY + " in " + configFile + ": " + e.getMessage());
+        }
+    }
+
     /**
      * Returns the project name to use given the command line arguments, preferring {@code --name}, then {@code --artifactid}
      * and {@link #defaultProjectName(SubstitutionVariables)} if neither are provided.
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.helidon.build.common.ansi.AnsiTextStyle;
+import io.helidon.build.common.logging.LogLevel;
+import io.helidon.build.common.logging.LogRecorder;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+/**
+ * Tests {@link CliServer}.
+ */
+class CliServerTest {
+
+    @Test
+    void testSameOutputAsOneShot() throws IOException {
+        List<String> expected;
+        try (LogRecorder recorder = new LogRecorder(LogLevel.INFO).start()) {
+            Helidon.execute("help", "init");
+            expected = recorder.lines().stream().map(AnsiTextStyle::strip).collect(Collectors.toList());
+        }
+        List<Map<String, Object>> responses = serve("{\"id\": 1, \"args\": [\"help\", \"init\"]}");
+        assertThat(responses, hasSize(1));
+        assertThat(responses.get(0).get("id").toString(), is("1"));
+        assertThat(responses.get(0).get("exitCode").toString(), is("0"));
+        assertThat(responses.get(0).get("status"), is("SUCCESS"));
+        assertThat(responses.get(0).get("output"), is(expected));
+    }
+
+    @Test
+    void testFailures() throws IOException {
+        List<Map<String, Object>> responses = serve(
+                "{\"id\": \"a\", \"args\": [\"foo\"]}",
+                "{\"id\": \"b\", \"args\": [\"serve\"]}",
+                "{\"id\": \"c\", \"args\": \"help\"}",
+                "not json");
+        assertThat(responses, hasSize(4));
+        assertThat(responses.get(0).get("id"), is("a"));
+        assertThat(responses.get(0).get("exitCode").toString(), is("1"));
+        assertThat(responses.get(0).get("status"), is("FAILURE"));
+        assertThat(responses.get(0).get("output"), is(List.of(
+                "error: 'foo' is not a valid command.",
+                "See 'helidon --help' for more information")));
+        assertThat(responses.get(1).get("output"), is(List.of("'serve' is not supported by the server")));
+        assertThat(responses.get(2).get("exitCode").toString(), is("2"));
+        assertThat(responses.get(3).get("id"), is((Object) null));
+        assertThat((String) ((List<?>) responses.get(3).get("output")).get(0), startsWith("Invalid request:"));
+    }
+
+    @Test
+    void testThroughput() throws IOException {
+        int count = 200;
+        String[] requests = new String[count];
+        for (int i = 0; i < count; i++) {
+            requests[i] = "{\"id\": " + i + ", \"args\": [\"help\", \"init\"]}";
+        }
+        List<Map<String, Object>> responses = serve(requests);
+        assertThat(responses, hasSize(count));
+        for (int i = 0; i < count; i++) {
+            assertThat(responses.get(i).get("id").toString(), is(String.valueOf(i)));
+            assertThat(responses.get(i).get("exitCode").toString(), is("0"));
+        }
+    }
+
+    @Test
+    void testToken() {
+        CliServer server = new CliServer(new HelidonRegistry(), "secret");
+        List<Map<String, Object>> responses = Stream.of(
+                        "{\"id\": 1, \"args\": [\"help\", \"init\"]}",
+                        "{\"id\": 2, \"token\": \"other\", \"args\": [\"help\", \"init\"]}",
+                        "{\"id\": 3, \"token\": \"secret\", \"args\": [\"help\", \"init\"]}")
+                .map(server::handle)
+                .map(Json::parseObject)
+                .collect(Collectors.toList());
+        assertThat(responses.get(0).get("exitCode").toString(), is("2"));
+        assertThat(responses.get(0).get("output"), is(List.of("Invalid request: invalid token")));
+        assertThat(responses.get(1).get("exitCode").toString(), is("2"));
+        assertThat(responses.get(1).get("output"), is(List.of("Invalid request: invalid token")));
+        assertThat(responses.get(2).get("exitCode").toString(), is("0"));
+    }
+
+    @Test
+    void testTokenFile() throws IOException {
+        Path dir = unique(targetDir(getClass()).resolve("cli-server-ut"), "token");
+        String token = CliServer.newToken();
+        assertThat(token.length(), is(64));
+        assertThat(CliServer.newToken(), is(not(token)));
+        Path file = CliServer.writeToken(dir.resolve("serve.token"), token);
+        assertThat(Files.readString(file), is(token));
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(file)), is("rw-------"));
+        }
+    }
+
+    private static List<Map<String, Object>> serve(String... requests) throws IOException {
+        String input = String.join("\n", requests) + "\n";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new CliServer(new HelidonRegistry()).serve(new ByteArrayInputStream(input.getBytes(UTF_8)),
+                new PrintStream(out, true, UTF_8));
+        return out.toString(UTF_8).lines()
+                  .map(Json::parseObject)
+                  .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link GenerateCommand}.
+ */
+class GenerateCommandTest {
+
+    @Test
+    void testCsvValueSets() throws IOException {
+        Path file = write("values.csv", ""
+                + "artifactId, flavor, theme.base.colors\n"
+                + "\n"
+                + "foo, se, \"cyan,khaki\"\n"
+                + "bar, mp, \"say \"\"hi\"\"\"\n"
+                + "baz,,\n");
+        assertThat(GenerateCommand.valueSets(file), is(List.of(
+                Map.of("artifactId", "foo", "flavor", "se", "theme.base.colors", "cyan,khaki"),
+                Map.of("artifactId", "bar", "flavor", "mp", "theme.base.colors", "say \"hi\""),
+                Map.of("artifactId", "baz"))));
+    }
+
+    @Test
+    void testJsonValueSets() throws IOException {
+        Path file = write("values.jsonl", ""
+                + "{\"artifactId\": \"foo\", \"flavor\": \"se\"}\n"
+                + "\n"
+                + "{\"artifactId\": \"bar\", \"docker\": true, \"groupId\": null}\n"
+                + "{\"artifactId\": \"baz\", \"media\": [\"json\", \"multipart\"], \"extra\": []}\n");
+        assertThat(GenerateCommand.valueSets(file), is(List.of(
+                Map.of("artifactId", "foo", "flavor", "se"),
+                Map.of("artifactId", "bar", "docker", "true"),
+                Map.of("artifactId", "baz", "media", "json,multipart", "extra", "none"))));
+    }
+
+    @Test
+    void testInvalidValueSets() throws IOException {
+        Path csv = write("invalid.csv", "artifactId,flavor\nfoo\n");
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> GenerateCommand.valueSets(csv));
+        assertThat(ex.getMessage(), is(csv + ":2: expected 2 fields, found 1"));
+
+        Path json = write("invalid.jsonl", "{\"artifactId\": \"foo\"}\n{\"artifactId\"}\n");
+        ex = assertThrows(IllegalArgumentException.class, () -> GenerateCommand.valueSets(json));
+        assertThat(ex.getMessage(), is(json + ":2: expected ':' at position 13"));
+
+        Path nested = write("nested.jsonl", "{\"media\": [[\"json\"]]}\n");
+        ex = assertThrows(IllegalArgumentException.class, () -> GenerateCommand.valueSets(nested));
+        assertThat(ex.getMessage(), is(nested + ":1: 'media' must only contain scalar values"));
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path dir = unique(targetDir(getClass()).resolve("generate-ut"), "values");
+        return Files.writeString(Files.createDirectories(dir).resolve(name), content);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import io.helidon.build.cli.common.ArchetypesData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests {@link MetadataSnapshot}.
+ */
+class MetadataSnapshotTest {
+
+    private static final String VERSIONS = ""
+            + "<data>\n"
+            + "    <archetypes>\n"
+            + "        <version>2.0.0</version>\n"
+            + "        <version default=\"true\">3.0.0</version>\n"
+            + "    </archetypes>\n"
+            + "    <rules>\n"
+            + "        <rule archetype=\"[2.0.0,3.0.0)\" cli=\"[2.0.0,5.0.0)\"/>\n"
+            + "    </rules>\n"
+            + "</data>\n";
+
+    private Path rootDir;
+    private Path versionsFile;
+    private Path propertiesFile;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        rootDir = unique(targetDir(getClass()).resolve("snapshot-ut"), "metadata");
+        Files.createDirectories(rootDir.resolve("3.0.0"));
+        versionsFile = Files.writeString(rootDir.resolve("versions.xml"), VERSIONS);
+        propertiesFile = Files.writeString(rootDir.resolve("3.0.0/metadata.properties"), "cli.version=3.0.0\n");
+    }
+
+    @Test
+    void testSnapshotIsUsedUntilSourceChanges() throws IOException {
+        MetadataSnapshot snapshot = new MetadataSnapshot(rootDir);
+        assertThat(snapshot.archetypesData(versionsFile).defaultVersion().toString(), is("3.0.0"));
+        assertThat(snapshot.properties(propertiesFile).property("cli.version"), is("3.0.0"));
+        assertThat(Files.exists(rootDir.resolve(MetadataSnapshot.FILE_NAME)), is(true));
+
+        // same size and time, the sources are not parsed again
+        rewrite(versionsFile, VERSIONS.replace("default=\"true\">3.0.0", "default=\"true\">3.0.1"), true);
+        rewrite(propertiesFile, "cli.version=3.0.1\n", true);
+        snapshot = new MetadataSnapshot(rootDir);
+        ArchetypesData data = snapshot.archetypesData(versionsFile);
+        assertThat(data.defaultVersion().toString(), is("3.0.0"));
+        assertThat(data.versions(), contains("3.0.0", "2.0.0"));
+        assertThat(data.rules().size(), is(1));
+        assertThat(snapshot.properties(propertiesFile).property("cli.version"), is("3.0.0"));
+
+        // changed sources are parsed again
+        rewrite(versionsFile, VERSIONS.replace("default=\"true\">3.0.0", "default=\"true\">3.0.10"), false);
+        rewrite(propertiesFile, "cli.version=3.0.10\n", false);
+        snapshot = new MetadataSnapshot(rootDir);
+        assertThat(snapshot.archetypesData(versionsFile).defaultVersion().toString(), is("3.0.10"));
+        assertThat(snapshot.properties(propertiesFile).property("cli.version"), is("3.0.10"));
+    }
+
+    @Test
+    void testInvalidSnapshotIsIgnored() throws IOException {
+        Files.writeString(rootDir.resolve(MetadataSnapshot.FILE_NAME), "not a snapshot");
+        MetadataSnapshot snapshot = new MetadataSnapshot(rootDir);
+        assertThat(snapshot.archetypesData(versionsFile).defaultVersion().toString(), is("3.0.0"));
+        assertThat(new MetadataSnapshot(rootDir).archetypesData(versionsFile).versions(), contains("3.0.0", "2.0.0"));
+    }
+
+    private static void rewrite(Path file, String content, boolean keepTime) throws IOException {
+        FileTime lastModified = Files.getLastModifiedTime(file);
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, keepTime
+                ? lastModified
+                : FileTime.fromMillis(lastModified.toMillis() + 1000));
+    }
+}
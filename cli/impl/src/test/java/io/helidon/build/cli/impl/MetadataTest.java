@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.build.cli.impl;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayDeque;
@@ -24,6 +25,9 @@ import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.helidon.build.archetype.engine.v1.ArchetypeCatalog;
 import io.helidon.build.archetype.engine.v1.ArchetypeCatalog.ArchetypeEntry;
@@ -62,13 +66,16 @@ import static io.helidon.build.common.PrintStreams.STDOUT;
 import static io.helidon.build.common.maven.MavenVersion.toMavenVersion;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * Unit test for class {@link Metadata}.
@@ -78,10 +85,8 @@ class MetadataTest {
 
     static final Path CWD = TestFiles.targetDir(MetadataTest.class).resolve("metadata-ut");
     static final String RC1_LAST_UPDATE = VERSION_RC1 + File.separator + LAST_UPDATE_FILE_NAME;
-    static final String RC1_ZIP = VERSION_RC1 + File.separator + CLI_DATA_FILE_NAME;
     static final String RC1_ZIP_URI = VERSION_RC1 + "/" + CLI_DATA_FILE_NAME;
     static final String RC2_LAST_UPDATE = VERSION_RC2 + File.separator + LAST_UPDATE_FILE_NAME;
-    static final String RC2_ZIP = VERSION_RC2 + File.separator + CLI_DATA_FILE_NAME;
     static final String RC2_ZIP_URI = VERSION_RC2 + "/" + CLI_DATA_FILE_NAME;
 
     @BeforeEach
@@ -113,8 +118,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC1_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC1_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC1_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC1_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC1)),
                     allOf(containsString("updated"), containsString(RC1_LAST_UPDATE), containsString("etag " + RC1_ETAG)),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -213,8 +218,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC2_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC2_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC2_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC2_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC2_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC2_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC2)),
                     allOf(containsString("updated"), containsString(RC2_LAST_UPDATE), containsString("etag ")),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -431,8 +436,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC1_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC1_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC1_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC1_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC1)),
                     allOf(containsString("updated"), containsString(RC1_LAST_UPDATE), containsString("etag " + RC1_ETAG)),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -475,8 +480,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC1_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC1_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC1_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC1_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC1)),
                     allOf(containsString("updated"), containsString(RC1_LAST_UPDATE), containsString("etag " + RC1_ETAG)),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -522,8 +527,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC1_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC1_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC1_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC1_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC1)),
                     allOf(containsString("updated"), containsString(RC1_LAST_UPDATE), containsString("etag " + RC1_ETAG)),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -570,8 +575,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC1_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC1_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC1_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC1_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC1)),
                     allOf(containsString("updated"), containsString(RC1_LAST_UPDATE), containsString("etag " + RC1_ETAG)),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -612,8 +617,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC2_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC2_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC2_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC2_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC2_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC2_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC2)),
                     allOf(containsString("updated"), containsString(RC2_LAST_UPDATE), containsString("etag ")),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -654,8 +659,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC1_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC1_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC1_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC1_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC1_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC1)),
                     allOf(containsString("updated"), containsString(RC1_LAST_UPDATE), containsString("etag " + RC1_ETAG)),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
         }
@@ -683,8 +688,8 @@ class MetadataTest {
                     allOf(containsString("downloading"), containsString(RC2_ZIP_URI)),
                     allOf(containsString("connecting"), containsString(RC2_ZIP_URI)),
                     allOf(containsString("connected"), containsString(RC2_ZIP_URI)),
-                    allOf(containsString("unzipping"), containsString(RC2_ZIP)),
-                    allOf(containsString("deleting"), containsString(RC2_ZIP)),
+                    allOf(containsString("unzipping"), containsString(RC2_ZIP_URI)),
+                    allOf(containsString("replaced"), containsString(VERSION_RC2)),
                     allOf(containsString("updated"), containsString(RC2_LAST_UPDATE), containsString("etag ")),
                     allOf(containsString("wrote"), containsString(VERSIONS_FILE_NAME))));
 
@@ -713,6 +718,113 @@ class MetadataTest {
         }
     }
 
+    @Test
+    void testConcurrentUpdateFailures() {
+        try (TestContext ctx = new TestContext(RC2).start()) {
+            Metadata meta = Metadata.builder()
+                    .rootDir(ctx.userConfig.cacheDir())
+                    .url("http://localhost:1")
+                    .updateFrequency(24)
+                    .updateFrequencyUnits(TimeUnit.HOURS)
+                    .pluginStdOut(PrintStreams.accept(STDOUT, ctx.recorder::addEntry))
+                    .build();
+
+            // cli-data and versions.xml are fetched concurrently, both failures are reported
+            Metadata.UpdateFailed e = assertThrows(Metadata.UpdateFailed.class, () -> meta.catalogOf(VERSION_RC2));
+            assertThat(e.getSuppressed().length, is(1));
+            assertThat(e.getSuppressed()[0], is(instanceOf(Metadata.UpdateFailed.class)));
+        }
+    }
+
+    @Test
+    void testUpdateWaitingForLockIsSkipped() throws Exception {
+        try (TestContext ctx = new TestContext(RC1).start()) {
+            Metadata holder = ctx.metadata(24, TimeUnit.HOURS);
+            Metadata waiter = ctx.metadata(24, TimeUnit.HOURS);
+            AtomicReference<Throwable> error = new AtomicReference<>();
+            Thread thread;
+            Metadata.UPDATE_LOCK.lock();
+            try {
+                // the metadata is stale, the update waits for the lock
+                thread = new Thread(() -> {
+                    try {
+                        waiter.catalogOf(VERSION_RC1);
+                    } catch (Throwable e) {
+                        error.set(e);
+                    }
+                });
+                thread.start();
+                while (!Metadata.UPDATE_LOCK.hasQueuedThread(thread)) {
+                    Thread.sleep(10);
+                }
+
+                // the holder of the lock refreshes the metadata
+                holder.catalogOf(VERSION_RC1);
+                assertThat(ctx.recorder.entries(), hasItem(
+                        allOf(containsString("downloading"), containsString(RC1_ZIP_URI))));
+            } finally {
+                Metadata.UPDATE_LOCK.unlock();
+            }
+            thread.join();
+            assertThat(error.get(), is(nullValue()));
+            assertThat(ctx.recorder.entries(), not(hasItem(containsString("downloading"))));
+        }
+    }
+
+    @Test
+    void testIsStaleWithin() throws Metadata.UpdateFailed {
+        try (TestContext ctx = new TestContext(RC1).start()) {
+            Metadata meta = ctx.metadata(24, TimeUnit.HOURS);
+            assertThat(meta.isStaleWithin(0), is(true));
+
+            meta.defaultVersion();
+            assertThat(meta.isStaleWithin(0), is(false));
+            assertThat(meta.isStaleWithin(TimeUnit.HOURS.toMillis(23)), is(false));
+            assertThat(meta.isStaleWithin(TimeUnit.HOURS.toMillis(25)), is(true));
+
+            // updates disabled
+            meta = ctx.metadata(-1, TimeUnit.HOURS);
+            assertThat(meta.isStaleWithin(TimeUnit.HOURS.toMillis(25)), is(false));
+        }
+    }
+
+    @Test
+    void testArchetypeV2DirIsExplodedOnce() throws Exception {
+        Path cacheDir = unique(CWD, "exploded");
+        Path versionDir = ensureDirectory(cacheDir.resolve("3.0.0"));
+        Files.writeString(versionDir.resolve(LAST_UPDATE_FILE_NAME), "");
+        Path jar = versionDir.resolve("helidon-3.0.0.jar");
+        TestFiles.writeJar(jar, Map.of(), Map.of("main.xml", "<archetype-script/>".getBytes(StandardCharsets.UTF_8)));
+        Metadata meta = Metadata.builder()
+                .rootDir(cacheDir)
+                .updateFrequency(-1)
+                .build();
+
+        Path dir = meta.archetypeV2DirOf("3.0.0");
+        assertThat(dir.getParent(), is(versionDir.resolve("helidon-3.0.0-exploded")));
+        assertThat(Files.readString(dir.resolve("main.xml")), is("<archetype-script/>"));
+
+        // the jar is unchanged, the exploded directory is reused
+        Path marker = Files.writeString(dir.resolve("marker"), "");
+        assertThat(meta.archetypeV2DirOf("3.0.0"), is(dir));
+        assertThat(Files.exists(marker), is(true));
+
+        // the jar changed, the archetype is exploded again and the previous directory is left untouched
+        String updated = "<archetype-script>updated</archetype-script>";
+        TestFiles.writeJar(jar, Map.of(), Map.of("main.xml", updated.getBytes(StandardCharsets.UTF_8)));
+        Path newDir = meta.archetypeV2DirOf("3.0.0");
+        assertThat(newDir, is(not(dir)));
+        assertThat(Files.exists(marker), is(true));
+        assertThat(Files.readString(newDir.resolve("main.xml")), is(updated));
+        try (Stream<Path> files = Files.list(versionDir)) {
+            assertThat(files.map(p -> p.getFileName().toString()).collect(Collectors.toList()),
+                    containsInAnyOrder(LAST_UPDATE_FILE_NAME, "helidon-3.0.0.jar", "helidon-3.0.0-exploded"));
+        }
+        try (Stream<Path> files = Files.list(dir.getParent())) {
+            assertThat(files.collect(Collectors.toList()), containsInAnyOrder(dir, newDir));
+        }
+    }
+
     static final class TestContext implements AutoCloseable {
 
         static final ThreadLocal<Deque<UserConfig>> THREAD_LOCAL = ThreadLocal.withInitial(ArrayDeque::new);
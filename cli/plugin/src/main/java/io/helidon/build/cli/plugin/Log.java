@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,7 +31,7 @@ class Log {
      * Line separator.
      */
     public static final String EOL = System.getProperty("line.separator");
-    private static final AtomicReference<Consumer<String>> OUT = new AtomicReference<>(System.out::println);
+    private static final ThreadLocal<Consumer<String>> OUT = ThreadLocal.withInitial(() -> System.out::println);
     private static final AtomicReference<Verbosity> VERBOSITY = new AtomicReference<>(Verbosity.NORMAL);
     private static final String DEBUG_STYLE = "italic";
     private static final String WARN_STYLE = "YELLOW";
@@ -109,7 +109,8 @@ class Log {
     }
 
     /**
-     * Sets the output consumer.
+     * Sets the output consumer of the current thread, so that plugins executed concurrently
+     * in the same JVM do not share their output.
      *
      * @param outputConsumer The output consumer.
      */
@@ -117,6 +118,13 @@ class Log {
         OUT.set(outputConsumer);
     }
 
+    /**
+     * Resets the output consumer of the current thread to the default.
+     */
+    static void resetOutput() {
+        OUT.remove();
+    }
+
     /**
      * Returns whether debug messages will be written.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,13 +15,23 @@
  */
 package io.helidon.build.cli.plugin;
 
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * An abstract CLI plugin.
  */
 public abstract class Plugin {
 
+    /**
+     * The plugins created without reflection, so that they can be executed in a native executable.
+     */
+    private static final Map<String, Supplier<Plugin>> NATIVE_PLUGINS = Map.of(
+            "UpdateVersions", UpdateVersions::new,
+            "UpdateVersion", UpdateVersion::new);
+
     /**
      * Main entry point.
      *
@@ -47,11 +57,24 @@ public abstract class Plugin {
     public static void execute(String[] args, Consumer<String> logConsumer) throws Exception {
         if (args.length > 0) {
             Log.output(logConsumer);
-            final Plugin plugin = Plugin.newInstance(args[0]);
-            plugin.parse(args).execute();
+            try {
+                final Plugin plugin = Plugin.newInstance(args[0]);
+                plugin.parse(args).execute();
+            } finally {
+                Log.resetOutput();
+            }
         }
     }
 
+    /**
+     * Returns the names of the plugins that can be executed in a native executable.
+     *
+     * @return The unqualified plugin class names.
+     */
+    public static Set<String> nativePlugins() {
+        return NATIVE_PLUGINS.keySet();
+    }
+
     /**
      * Exception that is always logged with only the message.
      */
@@ -79,13 +102,18 @@ public abstract class Plugin {
 
     /**
      * Returns a new instance from the given name, where the class name is constructed by
-     * prepending this package name.
+     * prepending this package name. The {@link #nativePlugins() native plugins} are created
+     * without reflection.
      *
      * @param simpleClassName The unqualified plugin class name.
      * @return The instance.
      * @throws Exception If an error occurs.
      */
     static Plugin newInstance(String simpleClassName) throws Exception {
+        final Supplier<Plugin> factory = NATIVE_PLUGINS.get(simpleClassName);
+        if (factory != null) {
+            return factory.get();
+        }
         final String className = Plugin.class.getPackageName() + "." + simpleClassName;
         return (Plugin) Class.forName(className).getDeclaredConstructor().newInstance();
     }
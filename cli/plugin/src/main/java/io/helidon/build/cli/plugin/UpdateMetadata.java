@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.plugin;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A plugin that updates {@code versions.xml} and, if {@code --version} is given, the cli data for that version.
+ * It is meant to run in the background: the update is skipped if another process holds the lock file in the
+ * cache directory.
+ */
+class UpdateMetadata extends Plugin {
+    private static final String LOCK_FILE_NAME = ".update.lock";
+
+    private final UpdateVersions versions;
+    private UpdateVersion version;
+
+    /**
+     * Constructor.
+     */
+    UpdateMetadata() {
+        this.versions = new UpdateVersions();
+    }
+
+    @Override
+    Plugin parse(String[] args) throws Exception {
+        versions.parse(args);
+        if (versions.version() != null) {
+            version = new UpdateVersion();
+            version.parse(args);
+        }
+        return this;
+    }
+
+    @Override
+    void validateArgs() {
+        // validated by the update plugins
+    }
+
+    @Override
+    void execute() throws Exception {
+        Path lockFile = versions.cacheDir().resolve(LOCK_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE);
+             FileLock lock = tryLock(channel)) {
+            if (lock == null) {
+                Log.debug("%s is locked, skipping update", lockFile);
+                return;
+            }
+            versions.execute();
+            if (version != null) {
+                version.execute();
+            }
+        }
+    }
+
+    private static FileLock tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // held by this JVM
+            return null;
+        }
+    }
+}
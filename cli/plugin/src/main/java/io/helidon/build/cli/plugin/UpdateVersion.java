@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,12 +15,15 @@
  */
 package io.helidon.build.cli.plugin;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
@@ -30,6 +33,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
@@ -61,6 +65,7 @@ class UpdateVersion extends UpdateBase {
     @Override
     protected void doExecute() throws IOException {
         String version = version();
+        deleteStaleDirs(version);
         Path versionDir = cacheDir().resolve(version);
         Path lastUpdateFile = versionDir.resolve(LAST_UPDATE_FILE_NAME);
         URL url = resolve(version + REMOTE_DATA_FILE_SUFFIX);
@@ -68,8 +73,7 @@ class UpdateVersion extends UpdateBase {
         URLConnection connection = httpGet(url, headers);
         int status = status(connection);
         if (status == STATUS_OK) {
-            download(connection, versionDir);
-            writeLastUpdate(connection, lastUpdateFile);
+            download(connection, url, versionDir);
         } else if (status == STATUS_NOT_MODIFIED) {
             Log.debug("not modified %s", url);
             writeLastUpdate(connection, lastUpdateFile); // just to touch it
@@ -88,48 +92,106 @@ class UpdateVersion extends UpdateBase {
     }
 
     private void writeLastUpdate(URLConnection connection, Path lastUpdateFile) throws IOException {
-        final String etag = connection.getHeaderField(ETAG_HEADER);
-        final String content = etag == null ? NO_ETAG : etag;
+        final String content = etag(connection);
         final InputStream input = new ByteArrayInputStream(content.getBytes(UTF_8));
         Files.copy(input, lastUpdateFile, REPLACE_EXISTING);
         Log.debug("updated %s with etag %s", lastUpdateFile, content);
     }
 
-    private void download(URLConnection connection, Path versionDir) throws IOException {
-        if (Files.exists(versionDir)) {
-            deleteDirectoryContent(versionDir);
-        } else {
-            Files.createDirectories(versionDir);
-        }
-
-        Path zipFile = versionDir.resolve(ZIP_FILE_NAME);
-        Files.copy(connection.getInputStream(), zipFile);
+    private static String etag(URLConnection connection) {
+        final String etag = connection.getHeaderField(ETAG_HEADER);
+        return etag == null ? NO_ETAG : etag;
+    }
 
-        unzip(zipFile, versionDir);
+    private void download(URLConnection connection, URL url, Path versionDir) throws IOException {
+        // unzip into a new directory and swap it with the current one, so that a failed download
+        // does not leave an incomplete version directory behind
+        Path tempDir = Files.createTempDirectory(cacheDir(), "." + version() + "-");
+        try {
+            try (InputStream in = connection.getInputStream()) {
+                unzip(in, url, tempDir);
+            }
+            String etag = etag(connection);
+            Files.writeString(tempDir.resolve(LAST_UPDATE_FILE_NAME), etag);
+            replace(versionDir, tempDir);
+            Log.debug("updated %s with etag %s", versionDir.resolve(LAST_UPDATE_FILE_NAME), etag);
+        } finally {
+            if (Files.exists(tempDir)) {
+                deleteDirectory(tempDir);
+            }
+        }
+    }
 
-        Log.debug("deleting %s", zipFile);
-        Files.delete(zipFile);
+    private void deleteStaleDirs(String version) throws IOException {
+        // left behind by an interrupted update, see download and replace
+        if (Files.isDirectory(cacheDir())) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir(), "." + version + "-*")) {
+                for (Path staleDir : stream) {
+                    if (Files.isDirectory(staleDir)) {
+                        deleteDirectory(staleDir);
+                    }
+                }
+            }
+        }
     }
 
-    private static void unzip(Path zipFile, Path destDir) throws IOException {
-        Log.debug("unzipping %s to %s", zipFile, destDir);
-        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(zipFile))) {
+    private static void unzip(InputStream in, URL url, Path destDir) throws IOException {
+        Log.debug("unzipping %s to %s", url, destDir);
+        final Path rootDir = destDir.toAbsolutePath().normalize();
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(in))) {
             ZipEntry entry = zip.getNextEntry();
             while (entry != null) {
-                final Path destFile = destDir.resolve(entry.getName());
-                Files.copy(zip, destFile);
+                final Path destFile = rootDir.resolve(entry.getName()).normalize();
+                if (!destFile.startsWith(rootDir)) {
+                    throw new IOException("Invalid zip entry: " + entry.getName());
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(destFile);
+                } else {
+                    Files.createDirectories(destFile.getParent());
+                    Files.copy(zip, destFile);
+                }
                 entry = zip.getNextEntry();
             }
             zip.closeEntry();
         }
     }
 
-    private static void deleteDirectoryContent(Path directory) throws IOException {
+    private static void replace(Path versionDir, Path newDir) throws IOException {
+        if (Files.exists(versionDir)) {
+            Path oldDir = newDir.resolveSibling(newDir.getFileName() + ".old");
+            move(versionDir, oldDir);
+            try {
+                move(newDir, versionDir);
+            } catch (IOException e) {
+                // restore the current version directory
+                try {
+                    move(oldDir, versionDir);
+                } catch (IOException ex) {
+                    e.addSuppressed(ex);
+                }
+                throw e;
+            }
+            deleteDirectory(oldDir);
+        } else {
+            move(newDir, versionDir);
+        }
+        Log.debug("replaced %s", versionDir);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
         Log.debug("deleting %s", directory);
         //noinspection DuplicatedCode
         try (Stream<Path> stream = Files.walk(directory)) {
             stream.sorted(Comparator.reverseOrder())
-                  .filter(file -> !file.equals(directory))
                   .forEach(file -> {
                       try {
                           Files.delete(file);
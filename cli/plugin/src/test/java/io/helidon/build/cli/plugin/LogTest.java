@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,8 +17,17 @@ package io.helidon.build.cli.plugin;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -38,4 +47,34 @@ class LogTest {
             Log.output(original);
         }
     }
+
+    @Test
+    void testThreadOutput() throws InterruptedException {
+        Consumer<String> original = Log.output();
+        List<String> lines = new ArrayList<>();
+        List<String> threadLines = new ArrayList<>();
+        try {
+            Log.output(lines::add);
+            Thread thread = new Thread(() -> {
+                Log.output(threadLines::add);
+                Log.info("from thread");
+            });
+            thread.start();
+            thread.join();
+            assertThat(lines, empty());
+            assertThat(threadLines, contains("from thread"));
+        } finally {
+            Log.output(original);
+        }
+    }
+
+    @Test
+    void testPluginOutputIsReset() {
+        Consumer<String> original = Log.output();
+        List<String> lines = new ArrayList<>();
+        Consumer<String> output = lines::add;
+        assertThrows(ClassNotFoundException.class, () -> Plugin.execute(new String[] {"Unknown"}, output));
+        assertThat(Log.output(), is(not(sameInstance(output))));
+        Log.output(original);
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.plugin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for class {@link UpdateMetadata}.
+ */
+class UpdateMetadataTest {
+
+    private static final String VERSION = "1.0.0";
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setup() throws IOException {
+        Path remoteDir = Files.createDirectories(dir.resolve("remote").resolve(VERSION));
+        Files.writeString(remoteDir.getParent().resolve("versions.xml"), "<data/>");
+        try (OutputStream os = Files.newOutputStream(remoteDir.resolve("cli-data.zip"));
+             ZipOutputStream zos = new ZipOutputStream(os)) {
+            zos.putNextEntry(new ZipEntry("metadata.properties"));
+            zos.write("cli.version=1.0.0".getBytes());
+            zos.closeEntry();
+        }
+        Files.createDirectories(dir.resolve("cache"));
+    }
+
+    @Test
+    void testUpdate() throws Exception {
+        execute();
+
+        assertThat(Files.readString(dir.resolve("cache/versions.xml")), is("<data/>"));
+        assertThat(Files.exists(dir.resolve("cache").resolve(VERSION).resolve("metadata.properties")), is(true));
+    }
+
+    @Test
+    void testSkippedWhenLocked() throws Exception {
+        Path lockFile = dir.resolve("cache/.update.lock");
+        try (FileChannel channel = FileChannel.open(lockFile, CREATE, WRITE); FileLock ignored = channel.lock()) {
+            execute();
+        }
+
+        assertThat(Files.exists(dir.resolve("cache/versions.xml")), is(false));
+        assertThat(Files.exists(dir.resolve("cache").resolve(VERSION)), is(false));
+    }
+
+    private void execute() throws Exception {
+        String baseUrl = dir.resolve("remote").toUri().toString();
+        Plugin.execute(new String[] {
+                "UpdateMetadata",
+                "--baseUrl", baseUrl.substring(0, baseUrl.length() - 1),
+                "--cacheDir", dir.resolve("cache").toString(),
+                "--version", VERSION,
+                "--cliVersion", VERSION,
+                "--maxAttempts", "1"
+        }, line -> { });
+    }
+}
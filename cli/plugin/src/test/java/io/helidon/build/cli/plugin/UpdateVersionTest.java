@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.plugin;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for class {@link UpdateVersion}.
+ */
+class UpdateVersionTest {
+
+    private static final String VERSION = "1.0.0";
+    private static final int ENTRY_SIZE = 16 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testReplaceVersionDir() throws Exception {
+        Path remoteZip = writeZip("a.properties", "b.jar");
+        Path versionDir = oldVersionDir();
+
+        execute(remoteZip);
+
+        assertThat(Files.exists(versionDir.resolve("old.properties")), is(false));
+        assertThat(Files.size(versionDir.resolve("a.properties")), is((long) ENTRY_SIZE));
+        assertThat(Files.size(versionDir.resolve("b.jar")), is((long) ENTRY_SIZE));
+        assertThat(Files.exists(versionDir.resolve(".lastUpdate")), is(true));
+        assertThat(list(versionDir.getParent()), contains(VERSION));
+    }
+
+    @Test
+    void testFailedDownloadKeepsVersionDir() throws Exception {
+        Path remoteZip = writeZip("a.properties", "b.jar");
+        byte[] bytes = Files.readAllBytes(remoteZip);
+        Files.write(remoteZip, Arrays.copyOf(bytes, bytes.length / 4));
+        Path versionDir = oldVersionDir();
+
+        assertThrows(Plugin.Failed.class, () -> execute(remoteZip));
+
+        assertThat(Files.readString(versionDir.resolve("old.properties")), is("old"));
+        assertThat(list(versionDir.getParent()), contains(VERSION));
+    }
+
+    @Test
+    void testStaleDirsAreDeleted() throws Exception {
+        Path remoteZip = writeZip("a.properties");
+        Path versionDir = oldVersionDir();
+        Files.createDirectories(versionDir.resolveSibling("." + VERSION + "-123").resolve("dir"));
+        Files.createDirectories(versionDir.resolveSibling("." + VERSION + "-456.old"));
+        Files.createDirectories(versionDir.resolveSibling(".2.0.0-789"));
+
+        execute(remoteZip);
+
+        assertThat(list(versionDir.getParent()), containsInAnyOrder(VERSION, ".2.0.0-789"));
+    }
+
+    @Test
+    void testZipEntriesOutsideOfVersionDir() throws Exception {
+        Path versionDir = oldVersionDir();
+
+        // the cache directory is normalized
+        Files.createDirectories(dir.resolve("other"));
+        execute(writeZip("a.properties"), dir.resolve("other/../cache"));
+        assertThat(Files.size(versionDir.resolve("a.properties")), is((long) ENTRY_SIZE));
+
+        assertThrows(Plugin.Failed.class, () -> execute(writeZip("../../evil.properties"), dir.resolve("cache")));
+        assertThat(Files.exists(dir.resolve("evil.properties")), is(false));
+        assertThat(Files.size(versionDir.resolve("a.properties")), is((long) ENTRY_SIZE));
+    }
+
+    private void execute(Path remoteZip) throws Exception {
+        execute(remoteZip, dir.resolve("cache"));
+    }
+
+    private void execute(Path remoteZip, Path cacheDir) throws Exception {
+        String baseUrl = remoteZip.getParent().getParent().toUri().toString();
+        Plugin.execute(new String[] {
+                "UpdateVersion",
+                "--baseUrl", baseUrl.substring(0, baseUrl.length() - 1),
+                "--cacheDir", cacheDir.toString(),
+                "--version", VERSION,
+                "--cliVersion", VERSION,
+                "--maxAttempts", "1"
+        }, line -> { });
+    }
+
+    private Path oldVersionDir() throws IOException {
+        Path versionDir = Files.createDirectories(dir.resolve("cache").resolve(VERSION));
+        Files.writeString(versionDir.resolve("old.properties"), "old");
+        return versionDir;
+    }
+
+    private Path writeZip(String... entries) throws IOException {
+        Path zipFile = Files.createDirectories(dir.resolve("remote").resolve(VERSION)).resolve("cli-data.zip");
+        Random random = new Random(0);
+        try (OutputStream os = Files.newOutputStream(zipFile); ZipOutputStream zos = new ZipOutputStream(os)) {
+            for (String entry : entries) {
+                // random content does not compress, a truncated archive ends in the middle of the first entry
+                byte[] content = new byte[ENTRY_SIZE];
+                random.nextBytes(content);
+                zos.putNextEntry(new ZipEntry(entry));
+                zos.write(content);
+                zos.closeEntry();
+            }
+        }
+        return zipFile;
+    }
+
+    private static List<String> list(Path dir) throws IOException {
+        try (Stream<Path> stream = Files.list(dir)) {
+            return stream.map(path -> path.getFileName().toString()).collect(Collectors.toList());
+        }
+    }
+}
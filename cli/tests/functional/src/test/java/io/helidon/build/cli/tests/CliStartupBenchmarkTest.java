@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.cli.tests;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.build.cli.tests.ProcessInvocation.Monitor;
+import io.helidon.build.common.logging.Log;
+import io.helidon.build.common.test.utils.TestFiles;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static io.helidon.build.cli.tests.FunctionalUtils.CLI_EXE;
+import static io.helidon.build.cli.tests.FunctionalUtils.CLI_NATIVE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+
+/**
+ * Measures the startup time of the CLI, i.e. the time to parse the command line and render the help.
+ * The number of iterations is set with the {@code cli.benchmark.iterations} system property.
+ */
+class CliStartupBenchmarkTest {
+
+    private static final Path CWD = TestFiles.targetDir(CliStartupBenchmarkTest.class).resolve("cli-startup-benchmark");
+    private static final int ITERATIONS = Math.max(Integer.getInteger("cli.benchmark.iterations", 5), 1);
+
+    @Test
+    void testHelpStartup() {
+        benchmark("jvm", CLI_EXE.get());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "native.image", matches = "true")
+    void testHelpStartupNativeImage() {
+        benchmark("native", CLI_NATIVE.get());
+    }
+
+    private static void benchmark(String name, Path bin) {
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            try (Monitor monitor = new CliInvocation()
+                    .bin(bin)
+                    .cwd(CWD)
+                    .args("help", "init")
+                    .start()) {
+
+                monitor.await();
+                samples[i] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                assertThat(monitor.output(), containsString("Usage:"));
+            }
+        }
+        Arrays.sort(samples);
+        Log.info("%s startup: min %dms, p50 %dms, max %dms (%d iterations)",
+                name, samples[0], samples[ITERATIONS / 2], samples[ITERATIONS - 1], ITERATIONS);
+    }
+}
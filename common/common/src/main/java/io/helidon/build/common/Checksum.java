@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2025, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -118,8 +118,8 @@ public interface Checksum {
     final class MD5 implements Checksum {
 
         private static final char[] HEX_CODE = "0123456789ABCDEF".toCharArray();
-        private static volatile ByteBuffer buffer;
         private final MessageDigest md;
+        private ByteBuffer buffer;
 
         /**
          * Create a new instance.
@@ -156,12 +156,9 @@ public interface Checksum {
             try {
                 RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r");
                 FileChannel fc = raf.getChannel();
+                // the buffer is per instance so that distinct instances can be used concurrently
                 if (buffer == null) {
-                    synchronized (MD5.class) {
-                        if (buffer == null) {
-                            buffer = ByteBuffer.allocate(4096);
-                        }
-                    }
+                    buffer = ByteBuffer.allocate(4096);
                 }
                 while (fc.read(buffer) > 0) {
                     buffer.flip();
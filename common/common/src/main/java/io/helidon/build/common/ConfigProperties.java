@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,18 @@ public class ConfigProperties {
         load();
     }
 
+    /**
+     * Constructor from already loaded properties.
+     *
+     * @param file       The file.
+     * @param properties The properties.
+     */
+    public ConfigProperties(Path file, Map<String, String> properties) {
+        this.file = file;
+        this.properties = new Properties();
+        this.properties.putAll(properties);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -48,6 +48,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Random;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
@@ -1186,7 +1187,7 @@ public final class FileUtils {
      */
     public static void saveToPropertiesFile(Map<String, String> values, Path filePath) {
         try (OutputStream output = Files.newOutputStream(filePath)) {
-            Properties props = new Properties();
+            Properties props = new SortedProperties();
             props.putAll(values);
             props.store(output, null);
         } catch (IOException e) {
@@ -1222,4 +1223,17 @@ public final class FileUtils {
             throw new UncheckedIOException(e);
         }
     }
+
+    /**
+     * Properties that are stored in the natural order of the keys.
+     */
+    private static final class SortedProperties extends Properties {
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            Set<Map.Entry<Object, Object>> entries = new TreeSet<>(Comparator.comparing(e -> String.valueOf(e.getKey())));
+            entries.addAll(super.entrySet());
+            return entries;
+        }
+    }
 }
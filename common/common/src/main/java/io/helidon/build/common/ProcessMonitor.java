@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,7 +19,6 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -335,11 +334,23 @@ public final class ProcessMonitor {
      * @throws IllegalStateException If the process did not exit after all the attempts
      */
     public ProcessMonitor stop() {
+        return stop(GRACEFUL_STOP_TIMEOUT, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the process gracefully, waiting up to the given time before stopping it forcibly.
+     *
+     * @param timeout The maximum time to wait for the process to exit gracefully.
+     * @param unit    The time unit of the {@code timeout} argument.
+     * @return This instance.
+     * @throws IllegalStateException If the process did not exit after all the attempts
+     */
+    public ProcessMonitor stop(long timeout, TimeUnit unit) {
         long pid = process.toHandle().pid();
         process.destroy();
         try {
             try {
-                exitFuture.get(GRACEFUL_STOP_TIMEOUT, TimeUnit.SECONDS);
+                exitFuture.get(timeout, unit);
             } catch (TimeoutException e) {
                 process.destroyForcibly();
                 try {
@@ -451,7 +462,6 @@ public final class ProcessMonitor {
 
         private final List<ProcessMonitor> processes = new ArrayList<>();
         private int backoff = 0;
-        private Iterator<ProcessMonitor> iterator;
 
         private MonitorThread() {
             start();
@@ -483,20 +493,21 @@ public final class ProcessMonitor {
                     LockSupport.park();
                 }
 
-                iterator = processes.iterator();
+                // iterate over a copy to guard concurrent registration
                 boolean ticked = true;
-                while (iterator.hasNext()) {
-                    if (!tick(iterator.next())) {
+                for (ProcessMonitor process : snapshot()) {
+                    if (!tick(process)) {
                         ticked = false;
                     }
                 }
 
-                if (!processes.isEmpty()) {
+                int size = snapshot().size();
+                if (size > 0) {
                     // sleep to avoid consuming cpu
                     backoff = ticked ? 0 : backoff < 5 ? backoff + 1 : backoff;
                     try {
                         //noinspection BusyWait
-                        Thread.sleep((50L / processes.size()) * backoff);
+                        Thread.sleep((50L / size) * backoff);
                     } catch (InterruptedException e) {
                         // ignore
                     }
@@ -508,7 +519,7 @@ public final class ProcessMonitor {
             // use a copy since the monitor thread will react to the stop operation
             // and remove processes from the list
             CompletableFuture<Void> exitFuture = CompletableFuture.allOf(
-                    new ArrayList<>(processes)
+                    snapshot()
                             .stream()
                             .map(p -> {
                                 p.recorder.stop();
@@ -525,6 +536,12 @@ public final class ProcessMonitor {
             }
         }
 
+        private List<ProcessMonitor> snapshot() {
+            synchronized (processes) {
+                return new ArrayList<>(processes);
+            }
+        }
+
         private boolean tick(ProcessMonitor process) {
             try {
                 return process.recorder.tick();
@@ -535,7 +552,9 @@ public final class ProcessMonitor {
                 if (!process.isAlive()) {
                     process.recorder.drain();
                     process.exitFuture.complete(null);
-                    iterator.remove();
+                    synchronized (processes) {
+                        processes.remove(process);
+                    }
                 }
             }
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -33,6 +33,7 @@ public class LogRecorder implements AutoCloseable {
 
     private final List<String> entries = new LinkedList<>();
     private final LogLevel level;
+    private final boolean capture;
 
     /**
      * Create a new instance.
@@ -40,7 +41,20 @@ public class LogRecorder implements AutoCloseable {
      * @param level level
      */
     public LogRecorder(LogLevel level) {
+        this(level, false);
+    }
+
+    /**
+     * Create a new instance.
+     * A capturing recorder records the entries that pass the current log level, and prevents them from being
+     * written while it is started.
+     *
+     * @param level   level
+     * @param capture {@code true} if the recorded entries should not be written
+     */
+    public LogRecorder(LogLevel level, boolean capture) {
         this.level = level;
+        this.capture = capture;
     }
 
     /**
@@ -64,6 +78,15 @@ public class LogRecorder implements AutoCloseable {
         return level;
     }
 
+    /**
+     * Test if this recorder captures the entries instead of letting them be written.
+     *
+     * @return {@code true} if capturing
+     */
+    public boolean captures() {
+        return capture;
+    }
+
     /**
      * Add a new log entry to record.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -80,13 +80,28 @@ public abstract class LogWriter {
      * @param entry log entry
      */
     protected final void recordEntry(LogLevel level, String entry) {
+        boolean written = level.ordinal() >= LogLevel.get().ordinal();
         for (LogRecorder recorder : recorders) {
-            if (level.ordinal() >= recorder.level().ordinal()) {
+            if (recorder.captures() ? written : level.ordinal() >= recorder.level().ordinal()) {
                 recorder.addEntry(entry);
             }
         }
     }
 
+    /**
+     * Test if a started recorder captures the entries, in which case the entries must not be written.
+     *
+     * @return {@code true} if capturing
+     */
+    protected final boolean capturing() {
+        for (LogRecorder recorder : recorders) {
+            if (recorder.captures()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Get the lowest recorder log level.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -48,6 +48,9 @@ public final class SystemLogWriter extends LogWriter {
         if (record || write) {
             String entry = LogFormatter.format(level, thrown, message, args);
             recordEntry(level, entry);
+            if (capturing()) {
+                return;
+            }
             switch (level) {
                 case DEBUG:
                 case VERBOSE:
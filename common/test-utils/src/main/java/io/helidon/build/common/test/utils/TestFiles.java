@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,17 @@
 package io.helidon.build.common.test.utils;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 
 /**
  * Test files utility.
@@ -80,4 +87,43 @@ public abstract class TestFiles {
     public static String pathOf(Path path) {
         return path.toString().replace("\\", "/");
     }
+
+    /**
+     * Write a jar file, the content of each entry is its name.
+     *
+     * @param file      The jar file.
+     * @param classPath The {@code Class-Path} manifest attribute, may be {@code null}.
+     * @param entries   The entry names.
+     * @throws IOException if an IO error occurs
+     */
+    public static void writeJar(Path file, String classPath, String... entries) throws IOException {
+        Map<String, byte[]> content = new LinkedHashMap<>();
+        for (String entry : entries) {
+            content.put(entry, entry.getBytes());
+        }
+        writeJar(file, classPath != null ? Map.of(Attributes.Name.CLASS_PATH.toString(), classPath) : Map.of(), content);
+    }
+
+    /**
+     * Write a jar file.
+     *
+     * @param file       The jar file.
+     * @param attributes The main attributes of the manifest, in addition to {@code Manifest-Version}.
+     * @param entries    The entries, keyed by name.
+     * @throws IOException if an IO error occurs
+     */
+    public static void writeJar(Path file, Map<String, String> attributes, Map<String, byte[]> entries)
+            throws IOException {
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        attributes.forEach(manifest.getMainAttributes()::putValue);
+        try (OutputStream os = Files.newOutputStream(file); JarOutputStream jos = new JarOutputStream(os, manifest)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                jos.putNextEntry(new JarEntry(entry.getKey()));
+                jos.write(entry.getValue());
+                jos.closeEntry();
+            }
+        }
+    }
 }
@@ -27,11 +27,20 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
+import io.helidon.build.common.CurrentThreadExecutorService;
+import io.helidon.build.common.LazyValue;
 import io.helidon.build.common.logging.Log;
 
 import static io.helidon.build.common.FileUtils.ensureDirectory;
 import static io.helidon.build.common.FileUtils.list;
+import static io.helidon.build.common.FileUtils.requireDirectory;
 import static io.helidon.build.common.FileUtils.sizeOf;
 import static java.util.jar.Attributes.Name.IMPLEMENTATION_VERSION;
 
@@ -54,6 +63,7 @@ public final class Application implements ResourceContainer {
     private final List<Jar> allJars;
     private final boolean isMicroprofile;
     private final String version;
+    private final LazyValue<ResourceIndex> resourceIndex;
 
     /**
      * Returns a new instance with the given Java Home and main jar.
@@ -71,6 +81,7 @@ public final class Application implements ResourceContainer {
         this.allJars = List.copyOf(concat(mainJar, classPath));
         this.isMicroprofile = isMicroprofile(classPath);
         this.version = extractHelidonVersion(classPath);
+        this.resourceIndex = new LazyValue<>(() -> ResourceIndex.create(JavaRuntime.CURRENT_JDK, allJars));
     }
 
     /**
@@ -82,23 +93,91 @@ public final class Application implements ResourceContainer {
         return JavaDependencies.collect(allJars);
     }
 
+    /**
+     * Returns the Java module names on which this application depends.
+     *
+     * @param jdepsCacheDir The directory used to cache the {@code jdeps} results, may be {@code null}.
+     * @return The module names.
+     */
+    public Set<String> dependencies(Path jdepsCacheDir) {
+        return JavaDependencies.collect(allJars, jdepsCacheDir);
+    }
+
     /**
      * Copy this application into the given Java Runtime Image.
+     * The jars are installed concurrently.
      *
      * @param jriDirectory Path to the JRI in which to install this application.
      * @param stripDebug   {@code true} if debug information should be stripped from classes.
      * @return The location of the installed application jar.
      */
     public Path install(Path jriDirectory, boolean stripDebug) {
+        return install(jriDirectory, stripDebug, jar -> true);
+    }
+
+    /**
+     * Copy the jars of this application that match the given filter into the given Java Runtime Image.
+     * The jars are installed concurrently, and their classes are stripped concurrently by a separate pool.
+     *
+     * @param jriDirectory Path to the JRI in which to install this application.
+     * @param stripDebug   {@code true} if debug information should be stripped from classes.
+     * @param filter       The jars to install.
+     * @return The location of the installed application jar.
+     */
+    Path install(Path jriDirectory, boolean stripDebug, Predicate<Jar> filter) {
         Path appRootDir = mainJar.path().getParent();
         Path appInstallDir = ensureDirectory(jriDirectory.resolve(APP_DIR));
-        Path installedAppJar = mainJar.copy(appInstallDir, isMicroprofile(), stripDebug);
-        for (Jar jar : classPath) {
-            Path relativeDir = appRootDir.relativize(jar.path().getParent());
-            Path installDir = ensureDirectory(appInstallDir.resolve(relativeDir));
-            jar.copy(installDir, isMicroprofile(), stripDebug);
+        Path installedAppJar = requireDirectory(appInstallDir).resolve(mainJar.path().getFileName());
+        ExecutorService executor = executor(allJars.size(), "jar-install-");
+        // the installs wait for the stripped classes, they cannot be stripped by the install pool
+        ExecutorService stripExecutor = stripDebug ? executor(Integer.MAX_VALUE, "jar-strip-") : null;
+        try {
+            List<Future<Path>> futures = new ArrayList<>();
+            for (Jar jar : allJars) {
+                if (filter.test(jar)) {
+                    Path relativeDir = appRootDir.relativize(jar.path().getParent());
+                    Path installDir = ensureDirectory(appInstallDir.resolve(relativeDir));
+                    futures.add(executor.submit(() -> jar.copy(installDir, isMicroprofile(), stripDebug, stripExecutor)));
+                }
+            }
+            for (Future<Path> future : futures) {
+                future.get();
+            }
+            return installedAppJar;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            executor.shutdownNow();
+            if (stripExecutor != null) {
+                stripExecutor.shutdownNow();
+            }
         }
-        return installedAppJar;
+    }
+
+    /**
+     * Returns the jars of this application, starting with the main jar.
+     *
+     * @return The jars.
+     */
+    List<Jar> jars() {
+        return allJars;
+    }
+
+    /**
+     * Returns the path of the given jar relative to the main jar directory.
+     *
+     * @param jar The jar.
+     * @return The relative path, using {@code /} as separator.
+     */
+    String relativize(Jar jar) {
+        return mainJar.path().getParent().relativize(jar.path()).toString().replace('\\', '/');
     }
 
     /**
@@ -189,10 +268,31 @@ public final class Application implements ResourceContainer {
         return helidonVersion.equals("1.4.1") ? "✅" : "!";
     }
 
+    /**
+     * Returns the index of the resources of this application, created on first use.
+     *
+     * @return The index.
+     */
+    ResourceIndex resourceIndex() {
+        return resourceIndex.get();
+    }
+
     @Override
     public boolean containsResource(String resourcePath) {
-        return allJars.stream()
-                .anyMatch(jar -> jar.containsResource(resourcePath));
+        return resourceIndex().jar(resourcePath) != null;
+    }
+
+    private static ExecutorService executor(int size, String namePrefix) {
+        int nThreads = Math.min(Runtime.getRuntime().availableProcessors(), size);
+        if (nThreads <= 1) {
+            return new CurrentThreadExecutorService();
+        }
+        AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(nThreads, r -> {
+            Thread thread = new Thread(r, namePrefix + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private static boolean isMicroprofile(List<Jar> classPath) {
@@ -25,11 +25,14 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import io.helidon.build.common.OSType;
 import io.helidon.build.common.PrintStreams;
 import io.helidon.build.common.ProcessMonitor;
+import io.helidon.build.common.logging.Log;
 import io.helidon.build.common.logging.LogFormatter;
 import io.helidon.build.common.logging.LogLevel;
 
@@ -41,7 +44,9 @@ import static io.helidon.build.common.OSType.CURRENT_OS;
 import static io.helidon.build.common.PrintStreams.DEVNULL;
 import static io.helidon.build.common.PrintStreams.STDERR;
 import static io.helidon.build.common.PrintStreams.STDOUT;
+import static io.helidon.build.linker.Configuration.DEFAULT_APPLICATION_PORT;
 import static io.helidon.build.linker.Configuration.DEFAULT_MAX_APP_START_SECONDS;
+import static io.helidon.build.linker.Configuration.DEFAULT_TRAINING_ITERATIONS;
 import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
 import static java.util.Objects.requireNonNull;
 
@@ -55,6 +60,7 @@ public final class ClassDataSharing {
     private final Path archiveFile;
     private final List<String> classList;
     private final boolean aot;
+    private final boolean dynamic;
 
     /**
      * Returns a new {@link Builder}.
@@ -71,6 +77,7 @@ public final class ClassDataSharing {
         this.archiveFile = builder.archiveFile;
         this.classList = builder.classList;
         this.aot = builder.aot;
+        this.dynamic = builder.dynamic;
     }
 
     /**
@@ -118,6 +125,15 @@ public final class ClassDataSharing {
         return aot;
     }
 
+    /**
+     * True if the archive is a dynamic archive, layered on top of the default CDS archive of the JRI.
+     *
+     * @return true if dynamic.
+     */
+    public boolean dynamic() {
+        return dynamic;
+    }
+
     /**
      * Builder.
      */
@@ -125,6 +141,7 @@ public final class ClassDataSharing {
         private Path jri;
         private String applicationModule;
         private boolean aot = false;
+        private boolean dynamic = false;
         private Path mainJar;
         private Path classListFile;
         private Path archiveFile;
@@ -138,6 +155,10 @@ public final class ClassDataSharing {
         private List<String> args = List.of();
         private String exitOnStartedValue = "!";
         private int maxWaitSeconds = DEFAULT_MAX_APP_START_SECONDS;
+        private Path trainingScript;
+        private int trainingPort = DEFAULT_APPLICATION_PORT;
+        private int trainingIterations = DEFAULT_TRAINING_ITERATIONS;
+        private TrainingWorkload workload;
 
         private Builder() {
         }
@@ -239,6 +260,19 @@ public final class ClassDataSharing {
             return this;
         }
 
+        /**
+         * Sets whether to create the archive in a single training run using {@code -XX:ArchiveClassesAtExit}.
+         * The archive is then layered on top of the default CDS archive of the JRI, which is created if needed.
+         * Ignored if the JDK does not support dynamic archives or if a class list file is provided. Default is false.
+         *
+         * @param dynamic {@code true} if a dynamic archive should be created.
+         * @return The builder.
+         */
+        public Builder dynamic(boolean dynamic) {
+            this.dynamic = dynamic;
+            return this;
+        }
+
         /**
          * Sets whether to output from the build process(es) should be logged.
          * Defaults to {@code false} and will include the output in any exception message.
@@ -262,6 +296,41 @@ public final class ClassDataSharing {
             return this;
         }
 
+        /**
+         * Sets the training script replayed against the started application when recording the class list,
+         * dynamic archive or AOT cache. If not set, the application exits as soon as it has started.
+         * The application is stopped gracefully once the workload completes, which is not supported on Windows.
+         *
+         * @param trainingScript The script file, may be {@code null}.
+         * @return The builder.
+         */
+        public Builder trainingScript(Path trainingScript) {
+            this.trainingScript = trainingScript == null ? null : requireFile(trainingScript);
+            return this;
+        }
+
+        /**
+         * Sets the port used to resolve the relative paths of the training script.
+         *
+         * @param trainingPort The port.
+         * @return The builder.
+         */
+        public Builder trainingPort(int trainingPort) {
+            this.trainingPort = trainingPort;
+            return this;
+        }
+
+        /**
+         * Sets the number of times the training script is replayed.
+         *
+         * @param trainingIterations The number of iterations.
+         * @return The builder.
+         */
+        public Builder trainingIterations(int trainingIterations) {
+            this.trainingIterations = trainingIterations;
+            return this;
+        }
+
         /**
          * Sets the path of the class list file to use. One is generated if not provided.
          *
@@ -309,6 +378,14 @@ public final class ClassDataSharing {
                 this.targetDescription = "module " + target + " in " + jri;
             }
 
+            if (trainingScript != null) {
+                if (CURRENT_OS == OSType.Windows) {
+                    // the process can only be terminated forcibly, the archive would not be written
+                    throw new IllegalStateException("Training workload is not supported on Windows");
+                }
+                this.workload = TrainingWorkload.parse(trainingScript, trainingPort, trainingIterations);
+            }
+
             if (aot) {
                 if (createArchive) {
                     if (archiveFile == null) {
@@ -317,6 +394,20 @@ public final class ClassDataSharing {
                 }
                 buildAotCache();
             } else {
+                if (dynamic && !CURRENT_JDK.cdsSupportsDynamicArchive()) {
+                    Log.warn("Dynamic CDS archives require JDK 13 or later, creating a static archive");
+                    dynamic = false;
+                }
+                if (dynamic && createArchive && classListFile == null) {
+                    if (archiveFile == null) {
+                        archiveFile = requireDirectory(jri.resolve("lib")).resolve("start.jsa");
+                    }
+                    this.classListFile = tempFile();
+                    buildDynamicArchive();
+                    this.classList = loadClassList();
+                    return new ClassDataSharing(this);
+                }
+                dynamic = false;
                 if (classListFile == null) {
                     this.classListFile = tempFile();
                     this.classList = buildClassList();
@@ -336,7 +427,7 @@ public final class ClassDataSharing {
         }
 
         private List<String> buildClassList() throws Exception {
-            execute("Creating startup class list for " + targetDescription,
+            record("Creating startup class list for " + targetDescription,
                     "-Xshare:off",
                     "-XX:DumpLoadedClassList=" + classListFile,
                     "-Dfile.encoding=UTF-8");
@@ -366,11 +457,29 @@ public final class ClassDataSharing {
             }
         }
 
+        @SuppressWarnings("ResultOfMethodCallIgnored")
+        private void buildDynamicArchive() throws Exception {
+            // the dynamic archive requires the default CDS archive, which jlink does not create
+            Path baseArchive = jri.resolve(CURRENT_OS == OSType.Windows ? "bin" : "lib").resolve("server/classes.jsa");
+            if (!Files.exists(baseArchive)) {
+                execute("Creating default Class Data Sharing archive " + baseArchive,
+                        List.of(javaPath().toString(), "-Xshare:dump"));
+            }
+            record("Creating dynamic Class Data Sharing archive " + archiveFile + " for " + targetDescription,
+                    "-XX:ArchiveClassesAtExit=" + archiveFile,
+                    "-XX:DumpLoadedClassList=" + classListFile,
+                    "-Dfile.encoding=UTF-8");
+            if (CURRENT_OS == OSType.Windows) {
+                // Try to make the archive file writable so that a second run can delete the image
+                jri.resolve(archiveFile).toFile().setWritable(true);
+            }
+        }
+
         @SuppressWarnings("ResultOfMethodCallIgnored")
         private void buildAotCache() throws Exception {
            Path cachePath = jri.resolve(archiveFile);
            final String action = "Creating AOTCache " + cachePath + " for " + targetDescription;
-           execute(action,
+           record(action,
                    "-Xlog:aot",
                    "-XX:AOTCacheOutput=" + cachePath,
                    "-Dfile.encoding=UTF-8");
@@ -388,8 +497,15 @@ public final class ClassDataSharing {
                     .collect(Collectors.toList());
         }
 
+        private void record(String action, String... jvmArgs) throws Exception {
+            if (workload == null) {
+                execute(action, jvmArgs);
+            } else {
+                train(action, jvmArgs);
+            }
+        }
+
         private void execute(String action, String... jvmArgs) throws Exception {
-            ProcessBuilder processBuilder = new ProcessBuilder();
             List<String> command = new ArrayList<>();
 
             command.add(javaPath().toString());
@@ -399,8 +515,49 @@ public final class ClassDataSharing {
             command.add(targetOption);
             command.add(target);
             command.addAll(args);
-            processBuilder.command(command);
+            execute(action, command);
+        }
+
+        private void execute(String action, List<String> command) throws Exception {
+            monitor(action, command, Builder::filter)
+                    .execute(maxWaitSeconds, TimeUnit.SECONDS);
+        }
+
+        private void train(String action, String... jvmArgs) throws Exception {
+            List<String> command = new ArrayList<>();
 
+            command.add(javaPath().toString());
+            command.addAll(jvmOptions);
+            command.add("-Xlog:class+load=info");
+            command.addAll(Arrays.asList(jvmArgs));
+            command.add(targetOption);
+            command.add(target);
+            command.addAll(args);
+
+            // count the loaded classes, to compare the training workload with the startup
+            AtomicInteger loaded = new AtomicInteger();
+            ProcessMonitor monitor = monitor(action, command, line -> {
+                if (line.contains("[class,load]")) {
+                    loaded.incrementAndGet();
+                    return false;
+                }
+                return filter(line);
+            }).start();
+            try {
+                workload.awaitReady(monitor::isAlive, maxWaitSeconds);
+                int startup = loaded.get();
+                workload.run();
+                Log.info("Training workload loaded $(bold,blue %d) classes in addition to the $(bold,blue %d)"
+                         + " loaded at startup", loaded.get() - startup, startup);
+            } finally {
+                // the archive is written when the application exits
+                monitor.stop(maxWaitSeconds, TimeUnit.SECONDS);
+            }
+        }
+
+        private ProcessMonitor monitor(String action, List<String> command, Predicate<String> filter) {
+            ProcessBuilder processBuilder = new ProcessBuilder();
+            processBuilder.command(command);
             processBuilder.directory(jri.toFile());
 
             PrintStream stdOut;
@@ -412,14 +569,13 @@ public final class ClassDataSharing {
                 stdOut = DEVNULL;
                 stdErr = DEVNULL;
             }
-            ProcessMonitor.builder()
-                          .description(action)
-                          .processBuilder(processBuilder)
-                          .stdOut(stdOut)
-                          .stdErr(stdErr)
-                          .filter(Builder::filter)
-                          .build()
-                          .execute(maxWaitSeconds, TimeUnit.SECONDS);
+            return ProcessMonitor.builder()
+                                 .description(action)
+                                 .processBuilder(processBuilder)
+                                 .stdOut(stdOut)
+                                 .stdErr(stdErr)
+                                 .filter(filter)
+                                 .build();
         }
 
         private static boolean filter(String line) {
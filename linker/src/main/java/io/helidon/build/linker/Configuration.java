@@ -42,6 +42,8 @@ import static java.util.Objects.requireNonNull;
 public final class Configuration {
     static final String DEFAULT_DEBUG = "-agentlib:jdwp=transport=dt_socket,server=y,suspend=y,address=*:5005";
     static final int DEFAULT_MAX_APP_START_SECONDS = 1000;
+    static final int DEFAULT_APPLICATION_PORT = 8080;
+    static final int DEFAULT_TRAINING_ITERATIONS = 10;
     private final Path mainJar;
     private final List<String> defaultJvm;
     private final List<String> defaultArgs;
@@ -54,6 +56,16 @@ public final class Configuration {
     private final boolean test;
     private final int maxAppStartSeconds;
     private final CacheType cacheType;
+    private final Path jdepsCacheDirectory;
+    private final boolean incremental;
+    private final boolean dynamicArchive;
+    private final Path trainingScript;
+    private final int applicationPort;
+    private final int trainingIterations;
+    private final int benchmarkIterations;
+    private final boolean treeShake;
+    private final List<String> keepClasses;
+    private final boolean layers;
 
     /**
      *  Type of cache.
@@ -95,12 +107,22 @@ public final class Configuration {
         this.test = builder.test;
         this.maxAppStartSeconds = builder.maxAppStartSeconds;
         this.cacheType = builder.cacheType;
+        this.jdepsCacheDirectory = builder.jdepsCacheDirectory;
+        this.incremental = builder.incremental;
+        this.dynamicArchive = builder.dynamicArchive;
+        this.trainingScript = builder.trainingScript;
+        this.applicationPort = builder.applicationPort;
+        this.trainingIterations = builder.trainingIterations;
+        this.benchmarkIterations = builder.benchmarkIterations;
+        this.treeShake = builder.treeShake;
+        this.keepClasses = builder.keepClasses;
+        this.layers = builder.layers;
     }
 
     /**
      * Returns the directory at which to create the JRI.
      *
-     * @return The path, guaranteed to not exist.
+     * @return The path, guaranteed to not exist unless {@link #incremental()} and previously linked.
      */
     public Path jriDirectory() {
         return jriDirectory;
@@ -205,6 +227,96 @@ public final class Configuration {
         return maxAppStartSeconds;
     }
 
+    /**
+     * Returns the directory at which to cache the {@code jdeps} results.
+     *
+     * @return The path, {@code null} if the cache is disabled.
+     */
+    public Path jdepsCacheDirectory() {
+        return jdepsCacheDirectory;
+    }
+
+    /**
+     * Returns whether to reuse the steps of the previous link that have unchanged inputs.
+     *
+     * @return {@code true} if incremental.
+     */
+    public boolean incremental() {
+        return incremental;
+    }
+
+    /**
+     * Returns whether to create the CDS archive in a single training run using a dynamic archive.
+     *
+     * @return {@code true} if dynamic.
+     */
+    public boolean dynamicArchive() {
+        return dynamicArchive;
+    }
+
+    /**
+     * Returns the training script replayed against the application when creating the CDS archive or AOT cache.
+     *
+     * @return The path, or {@code null} if the application is only trained on startup.
+     */
+    public Path trainingScript() {
+        return trainingScript;
+    }
+
+    /**
+     * Returns the HTTP port of the application, used to resolve the relative paths of the training script.
+     *
+     * @return The port.
+     */
+    public int applicationPort() {
+        return applicationPort;
+    }
+
+    /**
+     * Returns the number of times the training script is replayed.
+     *
+     * @return The number of iterations.
+     */
+    public int trainingIterations() {
+        return trainingIterations;
+    }
+
+    /**
+     * Returns the number of times the image is launched to benchmark its startup.
+     *
+     * @return The number of iterations, {@code 0} if the startup is not benchmarked.
+     */
+    public int benchmarkIterations() {
+        return benchmarkIterations;
+    }
+
+    /**
+     * Returns whether to remove the unreachable classes from the application jars.
+     *
+     * @return {@code true} if unreachable classes are removed.
+     */
+    public boolean treeShake() {
+        return treeShake;
+    }
+
+    /**
+     * Returns the patterns of the classes to keep when removing unreachable classes.
+     *
+     * @return The patterns.
+     */
+    public List<String> keepClasses() {
+        return keepClasses;
+    }
+
+    /**
+     * Returns whether to split the image into layers for container builds.
+     *
+     * @return {@code true} if the layers are created.
+     */
+    public boolean layers() {
+        return layers;
+    }
+
     /**
      * A {@link Configuration} builder.
      */
@@ -222,6 +334,16 @@ public final class Configuration {
         private boolean stripDebug;
         private boolean test = true;
         private CacheType cacheType = CacheType.NONE;
+        private Path jdepsCacheDirectory;
+        private boolean incremental;
+        private boolean dynamicArchive;
+        private Path trainingScript;
+        private int applicationPort = DEFAULT_APPLICATION_PORT;
+        private int trainingIterations = DEFAULT_TRAINING_ITERATIONS;
+        private int benchmarkIterations;
+        private boolean treeShake;
+        private List<String> keepClasses = List.of();
+        private boolean layers;
         private int maxAppStartSeconds = DEFAULT_MAX_APP_START_SECONDS;
 
         private Builder() {
@@ -242,6 +364,16 @@ public final class Configuration {
          *     --skipTest                     Do not test the start script.
          *     --verbose                      Log detail messages.
          *     --stripDebug                   Strip debug information from JDK classes. Defaults to false.
+         *     --jdepsCache directory         The directory at which to cache the jdeps results.
+         *     --incremental                  Reuse the steps of the previous link that have unchanged inputs.
+         *     --dynamicArchive               Create the CDS archive in a single training run.
+         *     --trainingScript file          The HTTP requests to replay when creating the CDS archive or AOT cache.
+         *     --applicationPort port         The HTTP port of the application. Defaults to 8080.
+         *     --trainingIterations count     The number of times to replay the training script. Defaults to 10.
+         *     --benchmark count              Launch the image count times to benchmark its startup.
+         *     --treeShake                    Remove the unreachable classes from the application jars.
+         *     --keepClasses patterns         Classes to keep when removing unreachable classes, e.g. a.b.C a.b.* a.c.**
+         *     --layers                       Split the image into layers for container builds.
          * </pre>
          * @return The builder.
          */
@@ -273,6 +405,26 @@ public final class Configuration {
                         verbose(true);
                     } else if (arg.equalsIgnoreCase("--stripDebug")) {
                         stripDebug(true);
+                    } else if (arg.equalsIgnoreCase("--jdepsCache")) {
+                        jdepsCacheDirectory(Paths.get(argAt(++i, args)));
+                    } else if (arg.equalsIgnoreCase("--incremental")) {
+                        incremental(true);
+                    } else if (arg.equalsIgnoreCase("--dynamicArchive")) {
+                        dynamicArchive(true);
+                    } else if (arg.equalsIgnoreCase("--trainingScript")) {
+                        trainingScript(requireExistent(Paths.get(argAt(++i, args))));
+                    } else if (arg.equalsIgnoreCase("--applicationPort")) {
+                        applicationPort(Integer.parseInt(argAt(++i, args)));
+                    } else if (arg.equalsIgnoreCase("--trainingIterations")) {
+                        trainingIterations(Integer.parseInt(argAt(++i, args)));
+                    } else if (arg.equalsIgnoreCase("--benchmark")) {
+                        benchmarkIterations(Integer.parseInt(argAt(++i, args)));
+                    } else if (arg.equalsIgnoreCase("--treeShake")) {
+                        treeShake(true);
+                    } else if (arg.equalsIgnoreCase("--keepClasses")) {
+                        keepClasses(argAt(++i, args));
+                    } else if (arg.equalsIgnoreCase("--layers")) {
+                        layers(true);
                     } else {
                         throw new IllegalArgumentException("Unknown argument: " + arg);
                     }
@@ -495,6 +647,147 @@ public final class Configuration {
             return this;
         }
 
+        /**
+         * Sets the directory at which to cache the {@code jdeps} results.
+         * The results are keyed by jar digest and JDK version.
+         *
+         * @param jdepsCacheDirectory The directory, {@code null} to disable the cache.
+         * @return The builder.
+         */
+        public Builder jdepsCacheDirectory(Path jdepsCacheDirectory) {
+            this.jdepsCacheDirectory = jdepsCacheDirectory;
+            return this;
+        }
+
+        /**
+         * Sets whether to link incrementally. Defaults to {@code false}.
+         * When enabled, the inputs of the link are recorded next to the JRI directory and the next link reuses
+         * the {@code jlink} image, the installed jars and the CDS archive or AOT cache when their inputs are unchanged.
+         * An existing JRI directory without recorded inputs is not reused, see {@link #replace(boolean)}.
+         *
+         * @param incremental {@code true} if incremental.
+         * @return The builder.
+         */
+        public Builder incremental(boolean incremental) {
+            this.incremental = incremental;
+            return this;
+        }
+
+        /**
+         * Sets whether to create the CDS archive in a single training run using {@code -XX:ArchiveClassesAtExit},
+         * on top of the default CDS archive of the JRI. Requires JDK 13 or later, ignored if the cache type is
+         * not {@link CacheType#CDS}. Defaults to {@code false}.
+         *
+         * @param dynamicArchive {@code true} if dynamic.
+         * @return The builder.
+         */
+        public Builder dynamicArchive(boolean dynamicArchive) {
+            this.dynamicArchive = dynamicArchive;
+            return this;
+        }
+
+        /**
+         * Sets the training script replayed against the started application when creating the CDS archive or
+         * AOT cache, so that the classes used to handle requests are also archived. Each line of the script is a
+         * request: {@code <method> <path or url> [body]}. If not set, the application is only trained on startup.
+         *
+         * @param trainingScript The script file, may be {@code null}.
+         * @return The builder.
+         */
+        public Builder trainingScript(Path trainingScript) {
+            this.trainingScript = trainingScript;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP port of the application, used to resolve the relative paths of the training script.
+         * Defaults to {@code 8080}.
+         *
+         * @param applicationPort The port.
+         * @return The builder.
+         */
+        public Builder applicationPort(int applicationPort) {
+            this.applicationPort = applicationPort;
+            return this;
+        }
+
+        /**
+         * Sets the number of times the training script is replayed. Defaults to {@code 10}.
+         *
+         * @param trainingIterations The number of iterations.
+         * @return The builder.
+         */
+        public Builder trainingIterations(int trainingIterations) {
+            this.trainingIterations = trainingIterations;
+            return this;
+        }
+
+        /**
+         * Sets the number of times the image is launched to benchmark its startup, with and without the CDS
+         * archive or AOT cache. Each launch is timed until the application has started, and until it sends its
+         * first response on the application port. Defaults to {@code 0}, i.e. no benchmark.
+         *
+         * @param benchmarkIterations The number of iterations.
+         * @return The builder.
+         */
+        public Builder benchmarkIterations(int benchmarkIterations) {
+            this.benchmarkIterations = benchmarkIterations;
+            return this;
+        }
+
+        /**
+         * Sets whether to remove the classes of the application jars that are not reachable from the main class,
+         * the service providers, the classes loaded by a training run or the {@link #keepClasses(List) keep rules}.
+         * Signed jars, CDI bean archives and jars with a Jandex index are kept whole. Defaults to {@code false}.
+         *
+         * @param treeShake {@code true} if unreachable classes should be removed.
+         * @return The builder.
+         */
+        public Builder treeShake(boolean treeShake) {
+            this.treeShake = treeShake;
+            return this;
+        }
+
+        /**
+         * Sets the classes to keep when removing unreachable classes, e.g. for classes only loaded by reflection.
+         *
+         * @param patterns The patterns, separated by spaces.
+         * @return The builder.
+         */
+        public Builder keepClasses(String patterns) {
+            keepClasses(toList(patterns));
+            return this;
+        }
+
+        /**
+         * Sets the classes to keep when removing unreachable classes, e.g. for classes only loaded by reflection.
+         * A pattern is either a class name ({@code a.b.C}), a package ({@code a.b.*}) or a package and its
+         * sub-packages ({@code a.b.**}).
+         *
+         * @param patterns The patterns.
+         * @return The builder.
+         */
+        public Builder keepClasses(List<String> patterns) {
+            if (isValid(patterns)) {
+                this.keepClasses = patterns;
+            }
+            return this;
+        }
+
+        /**
+         * Sets whether to split the image into layers that change at different rates: the JDK runtime, the release
+         * dependencies, the snapshot dependencies and the application. The layers are created in a
+         * {@code <image>-layers} directory next to the image, with the digest of each layer. Defaults to
+         * {@code false}.
+         *
+         * @param layers {@code true} if the layers should be created.
+         * @return The builder.
+         */
+        public Builder layers(boolean layers) {
+            this.layers = layers;
+            return this;
+        }
+
         /**
          * Returns the {@link Configuration} instance.
          *
@@ -509,14 +802,17 @@ public final class Configuration {
             if (feature < 9) {
                 throw new IllegalArgumentException(CURRENT_JDK.version() + " is an unsupported version, 9 or higher required");
             }
-            jriDirectory = prepareJriDirectory(jriDirectory, mainJar, replace);
+            jriDirectory = prepareJriDirectory(jriDirectory, mainJar, replace, incremental);
             if (verbose) {
                 LogLevel.set(LogLevel.DEBUG);
             }
             return new Configuration(this);
         }
 
-        private static Path prepareJriDirectory(Path jriDirectory, Path mainJar, boolean replaceExisting) {
+        private static Path prepareJriDirectory(Path jriDirectory,
+                                                Path mainJar,
+                                                boolean replaceExisting,
+                                                boolean incremental) {
             if (jriDirectory == null) {
                 String jarName = fileName(requireNonNull(mainJar));
                 String dirName = jarName.substring(0, jarName.lastIndexOf('.')) + "-jri";
@@ -524,7 +820,10 @@ public final class Configuration {
             }
             if (Files.exists(jriDirectory)) {
                 if (Files.isDirectory(jriDirectory)) {
-                    if (replaceExisting) {
+                    if (incremental && LinkerManifest.exists(LinkerManifest.stateDirectory(jriDirectory))) {
+                        // a previous link, the linker decides what to reuse
+                        return jriDirectory;
+                    } else if (replaceExisting) {
                         FileUtils.deleteDirectory(jriDirectory);
                     } else {
                         throw new IllegalArgumentException(jriDirectory + " is an existing directory");
@@ -24,16 +24,23 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.lang.Runtime.Version;
 import java.lang.module.ModuleDescriptor;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
@@ -42,7 +49,6 @@ import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 
-import io.helidon.build.common.InputStreams;
 import io.helidon.build.common.logging.Log;
 
 import org.jboss.jandex.IndexReader;
@@ -58,6 +64,10 @@ import static io.helidon.build.common.FileUtils.requireDirectory;
 import static io.helidon.build.common.FileUtils.requireFile;
 import static io.helidon.build.common.OSType.CURRENT_OS;
 import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
 
@@ -66,6 +76,7 @@ import static java.util.Objects.requireNonNull;
  */
 public final class Jar implements ResourceContainer {
 
+    private static final int MAX_PENDING_ENTRIES = 256;
     private static final Set<PosixFilePermission> POSIX_PERMS = Set.of(
             PosixFilePermission.OWNER_READ,
             PosixFilePermission.OWNER_WRITE,
@@ -272,6 +283,15 @@ public final class Jar implements ResourceContainer {
         return resources.contains(path);
     }
 
+    /**
+     * Returns the names of the entries in this jar.
+     *
+     * @return The entry names.
+     */
+    Set<String> resources() {
+        return Collections.unmodifiableSet(resources);
+    }
+
     /**
      * Returns whether this jar is signed.
      *
@@ -301,6 +321,7 @@ public final class Jar implements ResourceContainer {
 
     /**
      * Copy this jar into the given directory. Adds a Jandex index if required.
+     * An existing file is replaced by a new file rather than rewritten.
      *
      * @param targetDir   The targetDirectory.
      * @param ensureIndex {@code true} if an index should be added if this is a beans archive
@@ -309,8 +330,27 @@ public final class Jar implements ResourceContainer {
      * @return The normalized, absolute path to the new file.
      */
     public Path copy(Path targetDir, boolean ensureIndex, boolean stripDebug) {
+        return copy(targetDir, ensureIndex, stripDebug, Runnable::run);
+    }
+
+    /**
+     * Copy this jar into the given directory. Adds a Jandex index if required.
+     * Class files are stripped concurrently using the given executor, the order of the entries is preserved.
+     * An existing file is replaced by a new file rather than rewritten.
+     *
+     * @param targetDir   The targetDirectory.
+     * @param ensureIndex {@code true} if an index should be added if this is a beans archive
+     *                    and there is no Jandex index present.
+     * @param stripDebug  {@code true} if debug information should be stripped from classes.
+     * @param executor    The executor used to strip the class files, must not be the executor of the
+     *                    calling thread since the copy waits for the stripped classes.
+     * @return The normalized, absolute path to the new file.
+     */
+    public Path copy(Path targetDir, boolean ensureIndex, boolean stripDebug, Executor executor) {
         Path targetFile = requireDirectory(targetDir).resolve(path.getFileName());
-        try (BufferedOutputStream out = new BufferedOutputStream(Files.newOutputStream(targetFile))) {
+        try {
+            // replace rather than rewrite, the previous file may be hard linked
+            Files.deleteIfExists(targetFile);
             Indexer indexer = null;
             byte[] index = null;
             if (ensureIndex && !isJavaModule && isBeansArchive) {
@@ -327,32 +367,43 @@ public final class Jar implements ResourceContainer {
 
             // copy jar manually if index is built or strip debug
             if (indexer != null || stripDebug) {
-                try (JarOutputStream jos = new JarOutputStream(out)) {
+                try (JarOutputStream jos = new JarOutputStream(new BufferedOutputStream(Files.newOutputStream(targetFile)))) {
+                    Deque<PendingEntry> pending = new ArrayDeque<>();
                     Enumeration<JarEntry> enumeration = jar.entries();
                     while (enumeration.hasMoreElements()) {
                         JarEntry entry = enumeration.nextElement();
                         String entryName = entry.getName();
-                        jos.putNextEntry(copyJarEntry(entry));
+                        if (entryName.equals("META-INF/jandex.idx") && (index != null || indexer != null)) {
+                            // added below
+                            continue;
+                        }
+                        CompletableFuture<byte[]> data = null;
                         if (!entry.isDirectory()) {
+                            byte[] bytes;
+                            try (InputStream in = jar.getInputStream(entry)) {
+                                bytes = in.readAllBytes();
+                            }
                             boolean isClassFile = entryName.endsWith(".class") && !entryName.equals("module-info.class");
                             if (isClassFile && indexer != null) {
                                 try {
-                                    indexer.index(jar.getInputStream(entry));
+                                    indexer.index(new ByteArrayInputStream(bytes));
                                 } catch (IOException e) {
                                     Log.warn("  Could not index class %s in %s: %s", entryName, this, e.getMessage());
                                 }
                             }
                             if (isClassFile && stripDebug && !isSigned) {
-                                ClassReader reader = new ClassReader(jar.getInputStream(entry));
-                                ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
-                                reader.accept(writer, ClassReader.SKIP_DEBUG);
-                                jos.write(writer.toByteArray());
-                            } else if (!entryName.equals("META-INF/jandex.idx")) {
-                                InputStreams.transfer(jar.getInputStream(entry), jos);
+                                data = CompletableFuture.supplyAsync(() -> stripDebug(bytes), executor);
+                            } else {
+                                data = CompletableFuture.completedFuture(bytes);
                             }
                         }
-                        jos.flush();
-                        jos.closeEntry();
+                        pending.add(new PendingEntry(copyJarEntry(entry), data));
+                        if (pending.size() >= MAX_PENDING_ENTRIES) {
+                            pending.remove().write(jos);
+                        }
+                    }
+                    while (!pending.isEmpty()) {
+                        pending.remove().write(jos);
                     }
 
                     // (re)build index
@@ -375,7 +426,14 @@ public final class Jar implements ResourceContainer {
                 }
             } else {
                 // otherwise just copy the whole jar file
-                InputStreams.transfer(Files.newInputStream(path), out);
+                try (FileChannel in = FileChannel.open(path, READ);
+                     FileChannel out = FileChannel.open(targetFile, CREATE, TRUNCATE_EXISTING, WRITE)) {
+                    long size = in.size();
+                    long position = 0;
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
             }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
@@ -433,6 +491,13 @@ public final class Jar implements ResourceContainer {
         return null;
     }
 
+    private static byte[] stripDebug(byte[] bytes) {
+        ClassReader reader = new ClassReader(bytes);
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        reader.accept(writer, ClassReader.SKIP_DEBUG);
+        return writer.toByteArray();
+    }
+
     private static JarEntry copyJarEntry(JarEntry entry) {
         JarEntry copy = new JarEntry(entry.getName());
         if (entry.getCreationTime() != null) {
@@ -455,4 +520,32 @@ public final class Jar implements ResourceContainer {
         }
         return copy;
     }
+
+    private static final class PendingEntry {
+
+        private final JarEntry entry;
+        private final CompletableFuture<byte[]> data;
+
+        PendingEntry(JarEntry entry, CompletableFuture<byte[]> data) {
+            this.entry = entry;
+            this.data = data;
+        }
+
+        void write(JarOutputStream jos) throws IOException {
+            jos.putNextEntry(entry);
+            if (data != null) {
+                try {
+                    jos.write(data.join());
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw e;
+                }
+            }
+            jos.flush();
+            jos.closeEntry();
+        }
+    }
 }
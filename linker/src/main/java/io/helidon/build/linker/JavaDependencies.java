@@ -17,8 +17,13 @@
 package io.helidon.build.linker;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.module.ModuleDescriptor;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -26,23 +31,39 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.spi.ToolProvider;
 import java.util.stream.Collectors;
 
+import io.helidon.build.common.Checksum;
+import io.helidon.build.common.CurrentThreadExecutorService;
 import io.helidon.build.common.logging.Log;
 
 import static io.helidon.build.common.InputStreams.toPrintStream;
 import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * Collects Java module dependencies for a set of jars.
+ * The jars that are not modules are analyzed concurrently using {@code jdeps}, the output of {@code jdeps} can
+ * be cached on disk by jar digest and JDK version.
  */
 public final class JavaDependencies {
 
-    private final ToolProvider jdeps = ToolProvider.findFirst("jdeps")
-            .orElseThrow(() -> new IllegalStateException("jdeps not found"));
+    // jdeps instances are not thread-safe
+    private final ThreadLocal<ToolProvider> jdeps = ThreadLocal.withInitial(() -> ToolProvider.findFirst("jdeps")
+            .orElseThrow(() -> new IllegalStateException("jdeps not found")));
+    private final Path cacheDir;
+    private final int parallelism;
 
-    private JavaDependencies() {
+    private JavaDependencies(Path cacheDir, int parallelism) {
+        this.cacheDir = cacheDir != null ? cacheDir.resolve(CURRENT_JDK.version().toString()) : null;
+        this.parallelism = parallelism;
     }
 
     /**
@@ -52,35 +73,91 @@ public final class JavaDependencies {
      * @return The module names.
      */
     public static Set<String> collect(List<Jar> jars) {
-        return new JavaDependencies().collect0(jars);
+        return collect(jars, null);
+    }
+
+    /**
+     * Collect the dependencies of the given jars on the given Java Runtime.
+     *
+     * @param jars     The jars.
+     * @param cacheDir The directory used to cache the {@code jdeps} results, may be {@code null}.
+     * @return The module names.
+     */
+    public static Set<String> collect(List<Jar> jars, Path cacheDir) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return new JavaDependencies(cacheDir, parallelism).collect0(jars);
     }
 
     private Set<String> collect0(List<Jar> jars) {
-        Set<String> dependencies = new HashSet<>();
-        for (Jar jar : jars) {
-            ModuleDescriptor descriptor = jar.moduleDescriptor();
-            if (descriptor != null) {
-                Log.info("  Checking module %s", descriptor.name());
-                for (ModuleDescriptor.Requires require : descriptor.requires()) {
-                    String name = require.name();
-                    if (CURRENT_JDK.moduleNames().contains(name)) {
-                        dependencies.add(name);
-                    }
+        ExecutorService executor = executor(jars.size());
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (Jar jar : jars) {
+                if (jar.moduleDescriptor() == null) {
+                    futures.add(executor.submit(() -> analyze(jar)));
+                } else {
+                    futures.add(null);
                 }
-            } else {
-                String out = jdeps(jar);
-                List<String> lines = out.lines().collect(Collectors.toList());
-                for (String line : lines) {
-                    if (!line.isBlank()) {
-                        String parsed = parseLine(jar, line.trim());
-                        if (parsed != null && CURRENT_JDK.moduleNames().contains(parsed)) {
-                            dependencies.add(parsed);
+            }
+
+            // merge the results in order
+            Set<String> dependencies = new HashSet<>();
+            for (int i = 0; i < jars.size(); i++) {
+                Jar jar = jars.get(i);
+                ModuleDescriptor descriptor = jar.moduleDescriptor();
+                if (descriptor != null) {
+                    Log.info("  Checking module %s", descriptor.name());
+                    for (ModuleDescriptor.Requires require : descriptor.requires()) {
+                        String name = require.name();
+                        if (CURRENT_JDK.moduleNames().contains(name)) {
+                            dependencies.add(name);
+                        }
+                    }
+                } else {
+                    String out = futures.get(i).get();
+                    List<String> lines = out.lines().collect(Collectors.toList());
+                    for (String line : lines) {
+                        if (!line.isBlank()) {
+                            String parsed = parseLine(jar, line.trim());
+                            if (parsed != null && CURRENT_JDK.moduleNames().contains(parsed)) {
+                                dependencies.add(parsed);
+                            }
                         }
                     }
                 }
             }
+            return closure(dependencies);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ExecutorService executor(int size) {
+        int nThreads = Math.min(parallelism, size);
+        if (nThreads <= 1) {
+            return new CurrentThreadExecutorService();
         }
+        AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(nThreads, r -> {
+            Thread thread = new Thread(r, "jdeps-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
+    private static Set<String> closure(Set<String> dependencies) {
         Set<String> closure = new TreeSet<>();
         Deque<String> stack = new ArrayDeque<>(dependencies);
         while (!stack.isEmpty()) {
@@ -95,6 +172,31 @@ public final class JavaDependencies {
         return closure;
     }
 
+    private String analyze(Jar jar) throws IOException {
+        if (cacheDir == null) {
+            return jdeps(jar);
+        }
+        Path cacheFile = cacheDir.resolve(Checksum.md5(jar.path()));
+        if (Files.exists(cacheFile)) {
+            Log.debug("Using cached dependencies of %s", jar);
+            return Files.readString(cacheFile);
+        }
+        String out = jdeps(jar);
+        Files.createDirectories(cacheDir);
+        Path tempFile = Files.createTempFile(cacheDir, "jdeps", ".tmp");
+        try {
+            Files.writeString(tempFile, out);
+            try {
+                Files.move(tempFile, cacheFile, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile, cacheFile, REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        return out;
+    }
+
     private String jdeps(Jar jar) {
         List<String> args = new ArrayList<>();
         if (jar.isMultiRelease()) {
@@ -108,7 +210,7 @@ public final class JavaDependencies {
         args.add(jar.path().toString());
 
         ByteArrayOutputStream out = new ByteArrayOutputStream();
-        int result = jdeps.run(toPrintStream(out, false), System.err, args.toArray(new String[0]));
+        int result = jdeps.get().run(toPrintStream(out, false), System.err, args.toArray(new String[0]));
         if (result != 0) {
             throw new RuntimeException("Could not collect dependencies of " + jar);
         }
@@ -24,6 +24,7 @@ import java.lang.module.ModuleReader;
 import java.lang.module.ModuleReference;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
@@ -47,9 +48,11 @@ public final class JavaRuntime implements ResourceContainer {
     private final LazyValue<Path> path = new LazyValue<>(this::path0);
     private final Runtime.Version version;
     private final Map<String, ModuleReference> systemModules;
+    private final LazyValue<Map<String, String>> packages = new LazyValue<>(this::packages0);
     private final boolean jdepsRequiresMissingDeps;
     private final boolean cdsRequiresUnlock;
     private final boolean cdsSupportsImageCopy;
+    private final boolean cdsSupportsDynamicArchive;
 
     private JavaRuntime() {
         this.version = Runtime.version();
@@ -59,6 +62,7 @@ public final class JavaRuntime implements ResourceContainer {
         this.jdepsRequiresMissingDeps = feature > 11 || (feature == 11 && version.update() >= 11);
         this.cdsRequiresUnlock = feature <= 10;
         this.cdsSupportsImageCopy = feature >= 10;
+        this.cdsSupportsDynamicArchive = feature >= 13;
     }
 
     /**
@@ -92,6 +96,21 @@ public final class JavaRuntime implements ResourceContainer {
                 });
     }
 
+    /**
+     * Returns the name of the module that contains the package of the given class file.
+     * The lookup uses the package index of the system modules and does not open any module.
+     *
+     * @param classFilePath The class file path, e.g. {@code java/lang/String.class}.
+     * @return The module name, or {@code null} if no system module contains the package.
+     */
+    public String moduleOf(String classFilePath) {
+        int index = classFilePath.lastIndexOf('/');
+        if (index < 0) {
+            return null;
+        }
+        return packages.get().get(classFilePath.substring(0, index).replace('/', '.'));
+    }
+
     /**
      * Returns the {@link ModuleDescriptor} for the given name.
      *
@@ -153,11 +172,26 @@ public final class JavaRuntime implements ResourceContainer {
         return cdsSupportsImageCopy;
     }
 
+    /**
+     * Whether CDS supports dynamic archives ({@code -XX:ArchiveClassesAtExit}).
+     *
+     * @return {@code true} if CDS supports dynamic archives, {@code false otherwise}
+     */
+    public boolean cdsSupportsDynamicArchive() {
+        return cdsSupportsDynamicArchive;
+    }
+
     @Override
     public String toString() {
         return "JDK " + version;
     }
 
+    private Map<String, String> packages0() {
+        Map<String, String> result = new HashMap<>();
+        systemModules.forEach((name, ref) -> ref.descriptor().packages().forEach(pkg -> result.put(pkg, name)));
+        return result;
+    }
+
     private Path path0() {
         return requireDirectory(Paths.get(javaHome()));
     }
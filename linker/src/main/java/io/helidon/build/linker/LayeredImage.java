@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import io.helidon.build.common.Checksum;
+import io.helidon.build.common.FileUtils;
+import io.helidon.build.common.logging.Log;
+
+import static io.helidon.build.common.FileUtils.ensureDirectory;
+import static io.helidon.build.common.FileUtils.measuredSize;
+import static io.helidon.build.common.FileUtils.saveToPropertiesFile;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+
+/**
+ * Splits a Java Runtime Image into layers that change at different rates, so that a container build can reuse
+ * the unchanged layers. Each layer is a directory holding the files of the layer at their path in the image, so
+ * that copying all the layers into the same directory recreates the image.
+ * <ul>
+ *     <li>{@code runtime}: the JDK runtime</li>
+ *     <li>{@code dependencies}: the release dependencies</li>
+ *     <li>{@code snapshot-dependencies}: the snapshot dependencies</li>
+ *     <li>{@code application}: the main jar, the start script and the CDS archive or AOT cache</li>
+ * </ul>
+ * The digest of each layer is written to {@code layers.properties}, with a {@code Dockerfile} fragment that
+ * copies the layers in order.
+ */
+final class LayeredImage {
+
+    /**
+     * The name of the file holding the layer digests.
+     */
+    static final String LAYERS_FILE = "layers.properties";
+
+    private static final String RUNTIME = "runtime";
+    private static final String DEPENDENCIES = "dependencies";
+    private static final String SNAPSHOT_DEPENDENCIES = "snapshot-dependencies";
+    private static final String APPLICATION = "application";
+    private static final Pattern SNAPSHOT = Pattern.compile(".*-(SNAPSHOT|\\d{8}\\.\\d{6}-\\d+)\\.jar");
+
+    private final Path jri;
+    private final Path mainJar;
+    private final Path layersDir;
+
+    /**
+     * Create a new instance.
+     *
+     * @param jri       The image directory.
+     * @param mainJar   The main jar, relative to the image.
+     * @param layersDir The directory in which to create the layers.
+     */
+    LayeredImage(Path jri, Path mainJar, Path layersDir) {
+        this.jri = jri.toAbsolutePath().normalize();
+        this.mainJar = mainJar;
+        this.layersDir = layersDir;
+    }
+
+    /**
+     * Create the layers, replacing any existing ones.
+     *
+     * @return The digest of each layer, in order.
+     * @throws UncheckedIOException If an IO error occurs.
+     */
+    Map<String, String> create() {
+        Map<String, List<Path>> layers = new LinkedHashMap<>();
+        for (String layer : List.of(RUNTIME, DEPENDENCIES, SNAPSHOT_DEPENDENCIES, APPLICATION)) {
+            layers.put(layer, new ArrayList<>());
+        }
+        for (Path file : FileUtils.walk(jri, (path, attrs) -> true)) {
+            if (Files.isRegularFile(file)) {
+                Path relative = jri.relativize(file);
+                layers.get(layer(relative)).add(relative);
+            }
+        }
+
+        if (Files.exists(layersDir)) {
+            FileUtils.deleteDirectory(layersDir);
+        }
+        Map<String, String> properties = new TreeMap<>();
+        Map<String, String> digests = new LinkedHashMap<>();
+        StringBuilder dockerfile = new StringBuilder();
+        Log.info("Creating image layers in %s", layersDir);
+        for (Map.Entry<String, List<Path>> entry : layers.entrySet()) {
+            String layer = entry.getKey();
+            List<Path> files = entry.getValue();
+            files.sort(null);
+            Path layerDir = ensureDirectory(layersDir.resolve(layer));
+            Checksum checksum = new Checksum.MD5();
+            long size = 0;
+            for (Path relative : files) {
+                Path source = jri.resolve(relative);
+                Path target = layerDir.resolve(relative);
+                link(source, target);
+                checksum.update(relative.toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+                checksum.update(source);
+                size += FileUtils.sizeOf(source);
+            }
+            String digest = "md5:" + checksum.toHexString().toLowerCase();
+            digests.put(layer, digest);
+            properties.put(layer + ".digest", digest);
+            properties.put(layer + ".files", String.valueOf(files.size()));
+            properties.put(layer + ".size", String.valueOf(size));
+            dockerfile.append("COPY ").append(layer).append("/ ${IMAGE_DIR}/\n");
+            Log.info("  %-22s %5d files %8s %s", layer, files.size(), measuredSize(size), digest);
+        }
+        saveToPropertiesFile(properties, layersDir.resolve(LAYERS_FILE));
+        try {
+            Files.writeString(layersDir.resolve("Dockerfile.layers"), dockerfile.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return digests;
+    }
+
+    private String layer(Path relative) {
+        String path = relative.toString().replace('\\', '/');
+        if (relative.equals(mainJar) || path.startsWith("bin/start") || path.equals("lib/start.jsa")
+            || path.equals("lib/start.aot")) {
+            return APPLICATION;
+        } else if (path.startsWith(Application.APP_DIR + "/")) {
+            return SNAPSHOT.matcher(relative.getFileName().toString()).matches() ? SNAPSHOT_DEPENDENCIES : DEPENDENCIES;
+        }
+        return RUNTIME;
+    }
+
+    private static void link(Path source, Path target) throws UncheckedIOException {
+        try {
+            ensureDirectory(target.getParent());
+            try {
+                // the linker replaces the image files instead of rewriting them, so the layers can share them
+                Files.createLink(target, source);
+            } catch (IOException | UnsupportedOperationException e) {
+                Files.copy(source, target, COPY_ATTRIBUTES);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -17,13 +17,18 @@
 package io.helidon.build.linker;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.spi.ToolProvider;
+import java.util.stream.Collectors;
 
 import io.helidon.build.common.FileUtils;
 import io.helidon.build.common.PrintStreams;
@@ -33,6 +38,7 @@ import io.helidon.build.common.logging.Log;
 import io.helidon.build.common.logging.LogFormatter;
 import io.helidon.build.common.logging.LogLevel;
 
+import static io.helidon.build.common.FileUtils.ensureDirectory;
 import static io.helidon.build.common.FileUtils.fileName;
 import static io.helidon.build.common.FileUtils.fromWorking;
 import static io.helidon.build.common.FileUtils.measuredSize;
@@ -40,6 +46,7 @@ import static io.helidon.build.common.FileUtils.sizeOf;
 import static io.helidon.build.common.PrintStreams.STDERR;
 import static io.helidon.build.common.PrintStreams.STDOUT;
 import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * Create a custom runtime image by finding the Java modules required of a Helidon application and linking them via jlink,
@@ -56,6 +63,7 @@ public final class Linker {
     private String exitOnStarted;
     private Set<String> javaDependencies;
     private Path jriMainJar;
+    private boolean jarsInstalled;
     private StartScript startScript;
     private List<String> startCommand;
     private long appSize;
@@ -66,6 +74,8 @@ public final class Linker {
     private long initialSize;
     private long imageSize;
     private float reduction;
+    private LinkerManifest manifest;
+    private LinkerManifest previousManifest;
 
     /**
      * Main entry point.
@@ -112,12 +122,17 @@ public final class Linker {
         buildApplication();
         collectJavaDependencies();
         buildJlinkArguments();
+        checkPreviousLink();
         buildJri();
         installJars();
+        shakeJars();
         installCdsArchive();
         installStartScript();
         testImage();
+        benchmarkImage();
+        createLayers();
         displayStartScriptHelp();
+        saveManifest();
         computeSizes();
         end();
         return config.jriDirectory();
@@ -147,7 +162,7 @@ public final class Linker {
 
     private void collectJavaDependencies() {
         Log.info("Collecting Java module dependencies...");
-        javaDependencies = application.dependencies();
+        javaDependencies = application.dependencies(config.jdepsCacheDirectory());
         javaDependencies.addAll(config.additionalModules());
         List<String> sorted = new ArrayList<>(javaDependencies);
         sorted.sort(null);
@@ -189,7 +204,36 @@ public final class Linker {
         jlinkArgs.addAll(config.additionalJlinkArgs());
     }
 
+    private void checkPreviousLink() {
+        if (config.incremental()) {
+            manifest = LinkerManifest.create(config, jlinkArgs, application);
+            Path jri = config.jriDirectory();
+            LinkerManifest previous = Files.isDirectory(jri) ? LinkerManifest.load(stateDirectory()) : null;
+            // the manifest is saved again only if this link completes
+            LinkerManifest.delete(stateDirectory());
+            if (previous != null && manifest.sameRuntime(previous)) {
+                previousManifest = previous;
+            } else if (Files.exists(jri)) {
+                FileUtils.deleteDirectory(jri);
+            }
+        }
+    }
+
+    private void saveManifest() {
+        if (manifest != null) {
+            manifest.save(stateDirectory());
+        }
+    }
+
+    private Path stateDirectory() {
+        return LinkerManifest.stateDirectory(config.jriDirectory());
+    }
+
     private void buildJri() {
+        if (previousManifest != null) {
+            Log.info("Reusing base image: %s", jriDirectory());
+            return;
+        }
         Log.info("Creating base image: %s", jriDirectory());
         final int result = jlink.run(System.out, System.err, jlinkArgs.toArray(new String[0]));
         if (result != 0) {
@@ -201,8 +245,64 @@ public final class Linker {
         boolean stripDebug = config.stripDebug();
         Path appDir = jriDirectory().resolve(Application.APP_DIR);
         String message = stripDebug ? ", stripping debug information from all classes" : "";
-        Log.info("Installing %d application jars in %s%s", application.size(), appDir, message);
-        this.jriMainJar = application.install(config.jriDirectory(), stripDebug);
+        if (previousManifest != null) {
+            Path installDir = config.jriDirectory().resolve(Application.APP_DIR);
+            Set<String> removed = manifest.removedJars(previousManifest);
+            for (String jar : removed) {
+                try {
+                    Files.deleteIfExists(installDir.resolve(jar));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            Set<String> changed = manifest.changedJars(previousManifest);
+            if (!manifest.sameTreeShake(previousManifest)
+                    || (config.treeShake() && !(changed.isEmpty() && removed.isEmpty()))) {
+                // the reachable classes depend on all the jars
+                changed = application.jars().stream()
+                        .map(application::relativize)
+                        .collect(Collectors.toSet());
+            }
+            jarsInstalled = !changed.isEmpty();
+            Log.info("Installing %d changed application jars of %d in %s%s", changed.size(), application.size(), appDir, message);
+            Set<String> installed = changed;
+            this.jriMainJar = application.install(config.jriDirectory(), stripDebug,
+                    jar -> installed.contains(application.relativize(jar)));
+        } else {
+            Log.info("Installing %d application jars in %s%s", application.size(), appDir, message);
+            this.jriMainJar = application.install(config.jriDirectory(), stripDebug);
+            jarsInstalled = true;
+        }
+    }
+
+    private void shakeJars() {
+        if (!config.treeShake() || !jarsInstalled) {
+            return;
+        }
+        Path jri = config.jriDirectory();
+        try {
+            // the classes loaded by a training run are roots, e.g. the ones loaded by reflection
+            ClassDataSharing cds = ClassDataSharing.builder()
+                    .jri(jri)
+                    .applicationJar(jriMainJar)
+                    .jvmOptions(config.defaultJvmOptions())
+                    .args(config.defaultArgs())
+                    .createArchive(false)
+                    .trainingScript(config.trainingScript())
+                    .trainingPort(config.applicationPort())
+                    .trainingIterations(config.trainingIterations())
+                    .exitOnStartedValue(exitOnStarted)
+                    .maxWaitSeconds(config.maxAppStartSeconds())
+                    .logOutput(config.verbose())
+                    .build();
+            Path appDir = jri.resolve(Application.APP_DIR);
+            List<Path> jars = application.jars().stream()
+                    .map(jar -> appDir.resolve(application.relativize(jar)))
+                    .collect(Collectors.toList());
+            new TreeShaker(jriMainJar, jars, cds.classList(), config.keepClasses()).shake();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
     }
 
     private Path archiveFile() {
@@ -214,19 +314,56 @@ public final class Linker {
     }
 
     private void installCdsArchive() {
+        Path jri = config.jriDirectory();
+        if (previousManifest != null) {
+            if (config.cacheType() != Configuration.CacheType.NONE
+                    && manifest.sameCache(previousManifest)
+                    && Files.exists(jri.resolve(archiveFile()))) {
+                cdsSize = sizeOf(jri.resolve(archiveFile()));
+                String kind = config.cacheType() == Configuration.CacheType.AOT ? "AOT cache" : "CDS archive";
+                Log.info("Reusing %s %s", kind, archiveFile());
+                return;
+            }
+            try {
+                Files.deleteIfExists(jri.resolve(application.archivePath()));
+                Files.deleteIfExists(jri.resolve(application.aotCachePath()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         if (config.cacheType() != Configuration.CacheType.NONE) {
             try {
-                ClassDataSharing cds = ClassDataSharing.builder()
-                        .jri(config.jriDirectory())
+                ClassDataSharing.Builder builder = ClassDataSharing.builder()
+                        .jri(jri)
                         .applicationJar(jriMainJar)
                         .jvmOptions(config.defaultJvmOptions())
                         .args((config.defaultArgs()))
                         .archiveFile(archiveFile())
                         .aot(config.cacheType() == Configuration.CacheType.AOT)
+                        .dynamic(config.dynamicArchive())
+                        .trainingScript(config.trainingScript())
+                        .trainingPort(config.applicationPort())
+                        .trainingIterations(config.trainingIterations())
                         .exitOnStartedValue(exitOnStarted)
                         .maxWaitSeconds(config.maxAppStartSeconds())
-                        .logOutput(config.verbose())
-                        .build();
+                        .logOutput(config.verbose());
+
+                // the class list does not change if the class names are unchanged
+                Path classListFile = stateDirectory().resolve("start.classlist");
+                boolean reuseClassList = previousManifest != null
+                        && config.cacheType() == Configuration.CacheType.CDS
+                        && !config.dynamicArchive()
+                        && manifest.sameClassList(previousManifest)
+                        && Files.exists(classListFile);
+                if (reuseClassList) {
+                    Log.info("Reusing class list %s", classListFile);
+                    builder.classListFile(classListFile);
+                }
+                ClassDataSharing cds = builder.build();
+                if (manifest != null && !cds.aot() && !reuseClassList) {
+                    ensureDirectory(stateDirectory());
+                    Files.copy(cds.classListFile(), classListFile, REPLACE_EXISTING);
+                }
 
                 // Get the archive size
                 cdsSize = sizeOf(config.jriDirectory().resolve(archiveFile()));
@@ -239,15 +376,20 @@ public final class Linker {
                     // just count one and subtract since some classes in the class list may not have been
                     // put in the archive (see verbose output for examples).
 
-                    Application app = application;
+                    ResourceIndex index = application.resourceIndex();
+                    Map<Jar, Integer> jarCounts = new HashMap<>();
                     int jdkCount = 0;
                     int appCount = 0;
                     for (String name : cds.classList()) {
                         String resourcePath = name + ".class";
-                        if (CURRENT_JDK.containsResource(resourcePath)) {
+                        if (index.jdkModule(resourcePath) != null) {
                             jdkCount++;
-                        } else if (app.containsResource(resourcePath)) {
-                            appCount++;
+                        } else {
+                            Jar jar = index.jar(resourcePath);
+                            if (jar != null) {
+                                jarCounts.merge(jar, 1, Integer::sum);
+                                appCount++;
+                            }
                         }
                     }
 
@@ -262,6 +404,7 @@ public final class Linker {
                         Log.info("CDS archive %s is $(bold,blue %6s) for $(bold,blue %d) classes:"
                                         + " $(bold,blue %d) JDK and $(bold,blue %d) application",
                                 cds.archiveFile(), measuredSize(cdsSize), jdkCount + appCount, jdkCount, appCount);
+                        logCoverage(index, jarCounts);
                     }
                 }
             } catch (Exception e) {
@@ -270,6 +413,20 @@ public final class Linker {
         }
     }
 
+    private void logCoverage(ResourceIndex index, Map<Jar, Integer> jarCounts) {
+        Log.info("CDS archive coverage by jar:");
+        for (Jar jar : application.jars()) {
+            int archived = jarCounts.getOrDefault(jar, 0);
+            int total = index.classCount(jar);
+            if (archived > 0) {
+                Log.info("  %5d of %5d classes (%3d%%) %s",
+                        archived, total, archived * 100 / Math.max(total, 1), jar.name());
+            } else {
+                Log.debug("  %5d of %5d classes (%3d%%) %s", 0, total, 0, jar.name());
+            }
+        }
+    }
+
     private void installStartScript() {
         try {
             startScript = StartScript.builder()
@@ -329,6 +486,28 @@ public final class Linker {
         }
     }
 
+    private void benchmarkImage() {
+        if (config.benchmarkIterations() > 0) {
+            Path mainJar = config.jriDirectory().relativize(jriMainJar);
+            new StartupBenchmark(config, mainJar, exitOnStarted).run(benchmarkFile());
+        }
+    }
+
+    private Path benchmarkFile() {
+        return config.jriDirectory().resolveSibling(imageName + "-benchmark.json");
+    }
+
+    private void createLayers() {
+        if (config.layers()) {
+            Path mainJar = config.jriDirectory().relativize(jriMainJar);
+            new LayeredImage(config.jriDirectory(), mainJar, layersDirectory()).create();
+        }
+    }
+
+    private Path layersDirectory() {
+        return config.jriDirectory().resolveSibling(imageName + "-layers");
+    }
+
     private void displayStartScriptHelp() {
         executeStartScript("--help");
     }
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import io.helidon.build.common.Checksum;
+
+import static io.helidon.build.common.FileUtils.ensureDirectory;
+import static io.helidon.build.common.FileUtils.fileName;
+import static io.helidon.build.common.FileUtils.loadProperties;
+import static io.helidon.build.common.FileUtils.saveToPropertiesFile;
+import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+
+/**
+ * The inputs of a linked image, used to decide which steps can be skipped when linking incrementally.
+ */
+final class LinkerManifest {
+
+    private static final String FILE_NAME = "manifest.properties";
+    private static final String JDK_VERSION = "jdk.version";
+    private static final String JLINK_ARGS = "jlink.args";
+    private static final String CACHE_TYPE = "cache.type";
+    private static final String CACHE_DYNAMIC = "cache.dynamic";
+    private static final String CACHE_JVM_OPTIONS = "cache.jvm.options";
+    private static final String CACHE_ARGS = "cache.args";
+    private static final String CACHE_TRAINING = "cache.training";
+    private static final String TREE_SHAKE = "tree.shake";
+    private static final String JAR_PREFIX = "jar.";
+    private static final String CLASSES_PREFIX = "classes.";
+
+    private final Map<String, String> entries;
+
+    private LinkerManifest(Map<String, String> entries) {
+        this.entries = entries;
+    }
+
+    /**
+     * Create the manifest of the current inputs.
+     *
+     * @param config      The configuration.
+     * @param jlinkArgs   The {@code jlink} arguments.
+     * @param application The application.
+     * @return The manifest.
+     */
+    static LinkerManifest create(Configuration config, List<String> jlinkArgs, Application application) {
+        Map<String, String> entries = new TreeMap<>();
+        entries.put(JDK_VERSION, CURRENT_JDK.version().toString());
+        entries.put(JLINK_ARGS, String.join(" ", jlinkArgs));
+        entries.put(CACHE_TYPE, config.cacheType().name());
+        entries.put(CACHE_DYNAMIC, String.valueOf(config.dynamicArchive()));
+        entries.put(CACHE_JVM_OPTIONS, String.join(" ", config.defaultJvmOptions()));
+        entries.put(CACHE_ARGS, String.join(" ", config.defaultArgs()));
+        if (config.trainingScript() != null) {
+            entries.put(CACHE_TRAINING, String.format("%s:%d:%d", Checksum.md5(config.trainingScript()),
+                    config.applicationPort(), config.trainingIterations()));
+        }
+        if (config.treeShake()) {
+            entries.put(TREE_SHAKE, String.join(" ", config.keepClasses()));
+        }
+        for (Jar jar : application.jars()) {
+            String path = application.relativize(jar);
+            entries.put(JAR_PREFIX + path, Checksum.md5(jar.path()));
+            Set<String> classes = jar.resources().stream()
+                    .filter(name -> name.endsWith(".class"))
+                    .collect(Collectors.toCollection(TreeSet::new));
+            entries.put(CLASSES_PREFIX + path, Checksum.md5(String.join(",", classes)));
+        }
+        return new LinkerManifest(entries);
+    }
+
+    /**
+     * Get the directory where the manifest of the given image is saved.
+     *
+     * @param jriDirectory The image directory.
+     * @return The directory.
+     */
+    static Path stateDirectory(Path jriDirectory) {
+        return jriDirectory.resolveSibling(fileName(jriDirectory) + ".linker");
+    }
+
+    /**
+     * Test if a manifest is saved in the given directory.
+     *
+     * @param stateDir The directory.
+     * @return {@code true} if found.
+     */
+    static boolean exists(Path stateDir) {
+        return Files.isRegularFile(stateDir.resolve(FILE_NAME));
+    }
+
+    /**
+     * Load the manifest saved in the given directory.
+     *
+     * @param stateDir The directory.
+     * @return The manifest, or {@code null} if not found.
+     */
+    static LinkerManifest load(Path stateDir) {
+        Path file = stateDir.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Map<String, String> entries = new TreeMap<>();
+        loadProperties(file).forEach((k, v) -> entries.put((String) k, (String) v));
+        return new LinkerManifest(entries);
+    }
+
+    /**
+     * Delete the manifest saved in the given directory.
+     *
+     * @param stateDir The directory.
+     * @throws UncheckedIOException If an IO error occurs.
+     */
+    static void delete(Path stateDir) {
+        try {
+            Files.deleteIfExists(stateDir.resolve(FILE_NAME));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Save this manifest in the given directory.
+     *
+     * @param stateDir The directory.
+     */
+    void save(Path stateDir) {
+        saveToPropertiesFile(entries, ensureDirectory(stateDir).resolve(FILE_NAME));
+    }
+
+    /**
+     * Test if the {@code jlink} image of the given manifest can be reused.
+     *
+     * @param previous The previous manifest.
+     * @return {@code true} if the JDK version and {@code jlink} arguments are unchanged.
+     */
+    boolean sameRuntime(LinkerManifest previous) {
+        return same(previous, JDK_VERSION) && same(previous, JLINK_ARGS);
+    }
+
+    /**
+     * Test if the CDS archive or AOT cache of the given manifest can be reused.
+     *
+     * @param previous The previous manifest.
+     * @return {@code true} if the cache options and all jars are unchanged.
+     */
+    boolean sameCache(LinkerManifest previous) {
+        return same(previous, CACHE_TYPE)
+               && same(previous, CACHE_DYNAMIC)
+               && same(previous, CACHE_JVM_OPTIONS)
+               && same(previous, CACHE_ARGS)
+               && same(previous, CACHE_TRAINING)
+               && sameTreeShake(previous)
+               && changedJars(previous).isEmpty()
+               && removedJars(previous).isEmpty();
+    }
+
+    /**
+     * Test if the class list of the given manifest can be reused.
+     *
+     * @param previous The previous manifest.
+     * @return {@code true} if the cache options and all class names are unchanged.
+     */
+    boolean sameClassList(LinkerManifest previous) {
+        return same(previous, CACHE_TYPE)
+               && same(previous, CACHE_DYNAMIC)
+               && same(previous, CACHE_JVM_OPTIONS)
+               && same(previous, CACHE_ARGS)
+               && same(previous, CACHE_TRAINING)
+               && entries(CLASSES_PREFIX).equals(previous.entries(CLASSES_PREFIX));
+    }
+
+    /**
+     * Test if the jars of the given manifest were installed with the same tree shaking options.
+     *
+     * @param previous The previous manifest.
+     * @return {@code true} if the tree shaking options are unchanged.
+     */
+    boolean sameTreeShake(LinkerManifest previous) {
+        return same(previous, TREE_SHAKE);
+    }
+
+    /**
+     * Get the jars that are new or changed since the given manifest.
+     *
+     * @param previous The previous manifest.
+     * @return The relative paths of the jars.
+     */
+    Set<String> changedJars(LinkerManifest previous) {
+        Map<String, String> jars = previous.entries(JAR_PREFIX);
+        return entries(JAR_PREFIX).entrySet().stream()
+                .filter(e -> !e.getValue().equals(jars.get(e.getKey())))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Get the jars that have been removed since the given manifest.
+     *
+     * @param previous The previous manifest.
+     * @return The relative paths of the jars.
+     */
+    Set<String> removedJars(LinkerManifest previous) {
+        Set<String> jars = new TreeSet<>(previous.entries(JAR_PREFIX).keySet());
+        jars.removeAll(entries(JAR_PREFIX).keySet());
+        return jars;
+    }
+
+    private boolean same(LinkerManifest previous, String key) {
+        return Objects.equals(entries.get(key), previous.entries.get(key));
+    }
+
+    private Map<String, String> entries(String prefix) {
+        Map<String, String> map = new TreeMap<>();
+        entries.forEach((k, v) -> {
+            if (k.startsWith(prefix)) {
+                map.put(k.substring(prefix.length()), v);
+            }
+        });
+        return map;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.function.BooleanSupplier;
+
+import io.helidon.build.common.logging.Log;
+
+/**
+ * Polls a starting application until it responds to a request.
+ * The application is not ready while it refuses or resets the connections, or responds with {@code 503}.
+ */
+final class ReadinessProbe {
+
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private ReadinessProbe() {
+    }
+
+    /**
+     * Send the given request until the application is ready.
+     *
+     * @param client             The client.
+     * @param request            The request.
+     * @param alive              Tests whether the application process is alive.
+     * @param maxWaitSeconds     The maximum number of seconds to wait.
+     * @param pollIntervalMillis The number of milliseconds between two requests.
+     * @return The status of the first response of the ready application.
+     * @throws IllegalStateException If the application exited or did not respond in time.
+     * @throws InterruptedException  If interrupted.
+     */
+    static int await(HttpClient client,
+                     HttpRequest request,
+                     BooleanSupplier alive,
+                     int maxWaitSeconds,
+                     long pollIntervalMillis) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + maxWaitSeconds * 1000L;
+        while (true) {
+            if (!alive.getAsBoolean()) {
+                throw new IllegalStateException("Application exited before responding");
+            } else if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("Application did not respond within " + maxWaitSeconds + " seconds");
+            }
+            int status = send(client, request);
+            if (status > 0) {
+                return status;
+            }
+            Thread.sleep(pollIntervalMillis);
+        }
+    }
+
+    /**
+     * Send a request to a starting application.
+     *
+     * @param client  The client.
+     * @param request The request.
+     * @return The response status, or {@code -1} if the application is not ready yet.
+     * @throws InterruptedException If interrupted.
+     */
+    static int send(HttpClient client, HttpRequest request) throws InterruptedException {
+        try {
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status == SERVICE_UNAVAILABLE ? -1 : status;
+        } catch (IOException e) {
+            // not listening yet, or the connection was closed or reset while starting
+            Log.debug("Waiting for %s: %s", request.uri(), e.getMessage());
+            return -1;
+        }
+    }
+}
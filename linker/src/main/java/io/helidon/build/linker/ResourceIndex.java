@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.linker;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of the owner of each resource of an application, built once from the jar entries.
+ * Class files in JDK packages are owned by the JDK module exporting the package; other resources
+ * are owned by the first jar on the class path that contains them.
+ */
+final class ResourceIndex {
+
+    private final JavaRuntime jdk;
+    private final Map<String, Jar> jarResources;
+    private final Map<Jar, Integer> classCounts;
+
+    private ResourceIndex(JavaRuntime jdk, Map<String, Jar> jarResources, Map<Jar, Integer> classCounts) {
+        this.jdk = jdk;
+        this.jarResources = jarResources;
+        this.classCounts = classCounts;
+    }
+
+    /**
+     * Create the index.
+     *
+     * @param jdk  The JDK.
+     * @param jars The jars, in class path order.
+     * @return The index.
+     */
+    static ResourceIndex create(JavaRuntime jdk, List<Jar> jars) {
+        Map<String, Jar> jarResources = new HashMap<>();
+        Map<Jar, Integer> classCounts = new HashMap<>();
+        for (Jar jar : jars) {
+            int classes = 0;
+            for (String resource : jar.resources()) {
+                if (jarResources.putIfAbsent(resource, jar) == null && isClass(resource)) {
+                    classes++;
+                }
+            }
+            classCounts.put(jar, classes);
+        }
+        return new ResourceIndex(jdk, jarResources, classCounts);
+    }
+
+    /**
+     * Returns the name of the JDK module that owns the given resource.
+     *
+     * @param resourcePath The resource path.
+     * @return The module name, or {@code null} if not owned by the JDK.
+     */
+    String jdkModule(String resourcePath) {
+        return isClass(resourcePath) ? jdk.moduleOf(resourcePath) : null;
+    }
+
+    /**
+     * Returns the jar that owns the given resource.
+     *
+     * @param resourcePath The resource path.
+     * @return The jar, or {@code null} if no jar contains the resource.
+     */
+    Jar jar(String resourcePath) {
+        return jarResources.get(resourcePath);
+    }
+
+    /**
+     * Returns the number of classes owned by the given jar.
+     *
+     * @param jar The jar.
+     * @return The number of classes.
+     */
+    int classCount(Jar jar) {
+        return classCounts.getOrDefault(jar, 0);
+    }
+
+    private static boolean isClass(String resourcePath) {
+        return resourcePath.endsWith(".class") && !resourcePath.endsWith("module-info.class");
+    }
+}
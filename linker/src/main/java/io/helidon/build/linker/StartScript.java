@@ -50,6 +50,7 @@ import static io.helidon.build.common.OSType.CURRENT_OS;
 import static io.helidon.build.common.PrintStreams.STDERR;
 import static io.helidon.build.common.PrintStreams.STDOUT;
 import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -97,7 +98,7 @@ public class StartScript {
      */
     Path install() {
         try {
-            Files.copy(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), scriptFile);
+            Files.copy(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8)), scriptFile, REPLACE_EXISTING);
             if (CURRENT_OS.isPosix()) {
                 Files.setPosixFilePermissions(scriptFile, Set.of(
                         PosixFilePermission.OWNER_READ,
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.linker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import io.helidon.build.common.logging.Log;
+
+import static io.helidon.build.common.FileUtils.javaExecutableInDir;
+import static io.helidon.build.common.FileUtils.measuredSize;
+import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+
+/**
+ * Measures the startup of a linked image, with and without its CDS archive or AOT cache.
+ * Each iteration launches the application twice: once to time the launch until the application
+ * has started and exits, and once to time the first HTTP response and to sample the resident set size.
+ */
+final class StartupBenchmark {
+
+    private static final long POLL_INTERVAL_MILLIS = 10;
+    private static final int[] PERCENTILES = {50, 90, 99};
+    private static final Path PROC = Path.of("/proc");
+
+    private final Configuration config;
+    private final Path jri;
+    private final Path mainJar;
+    private final String exitOnStartedValue;
+    private final HttpClient client;
+
+    /**
+     * Create a new benchmark.
+     *
+     * @param config             The configuration.
+     * @param mainJar            The main jar, relative to the image.
+     * @param exitOnStartedValue The value of the {@code exit.on.started} property.
+     */
+    StartupBenchmark(Configuration config, Path mainJar, String exitOnStartedValue) {
+        this.config = config;
+        this.jri = config.jriDirectory();
+        this.mainJar = mainJar;
+        this.exitOnStartedValue = exitOnStartedValue;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+    }
+
+    /**
+     * Run the benchmark and write the results.
+     *
+     * @param resultFile The file to write the results to.
+     * @throws UncheckedIOException If an IO error occurs.
+     */
+    void run(Path resultFile) {
+        int iterations = config.benchmarkIterations();
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        switch (config.cacheType()) {
+            case CDS:
+                List<String> cds = new ArrayList<>();
+                if (CURRENT_JDK.cdsRequiresUnlock()) {
+                    cds.add("-XX:+UnlockDiagnosticVMOptions");
+                }
+                cds.add("-XX:SharedArchiveFile=lib" + File.separator + "start.jsa");
+                cds.add("-Xshare:auto");
+                variants.put("cds", cds);
+                break;
+            case AOT:
+                variants.put("aot", List.of("-XX:AOTCache=lib" + File.separator + "start.aot"));
+                break;
+            default:
+        }
+        variants.put("no-cache", List.of());
+
+        Log.info();
+        Log.info("Benchmarking startup, $(bold,blue %d) iterations", iterations);
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            Result result = new Result(variant.getKey(), iterations);
+            for (int i = 0; i < iterations; i++) {
+                result.startup[i] = launchUntilStarted(variant.getValue());
+                launchUntilFirstResponse(variant.getValue(), result, i);
+            }
+            results.add(result);
+            Log.info("  %-8s startup %s, first response %s, RSS %s", result.name,
+                    percentiles(result.startup, " ms"), percentiles(result.firstResponse, " ms"), rss(result.rss));
+        }
+        try {
+            Files.writeString(resultFile, toJson(results));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Log.info("Benchmark results written to %s", resultFile);
+    }
+
+    private long launchUntilStarted(List<String> options) {
+        List<String> command = command(options);
+        command.add(command.indexOf("-jar"), "-Dexit.on.started=" + exitOnStartedValue);
+        long start = System.nanoTime();
+        Process process = start(command);
+        try {
+            if (!process.waitFor(config.maxAppStartSeconds(), TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IllegalStateException("Application did not start within "
+                                                + config.maxAppStartSeconds() + " seconds");
+            }
+            if (process.exitValue() != 0) {
+                throw new IllegalStateException("Application failed with exit code " + process.exitValue());
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            throw new IllegalStateException(e);
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private void launchUntilFirstResponse(List<String> options, Result result, int iteration) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + config.applicationPort() + "/"))
+                .timeout(Duration.ofSeconds(config.maxAppStartSeconds()))
+                .build();
+        long start = System.nanoTime();
+        Process process = start(command(options));
+        try {
+            ReadinessProbe.await(client, request, process::isAlive, config.maxAppStartSeconds(), POLL_INTERVAL_MILLIS);
+            result.firstResponse[iteration] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            result.rss[iteration] = rss(process.pid());
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            process.destroy();
+            try {
+                if (!process.waitFor(config.maxAppStartSeconds(), TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException ignored) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private List<String> command(List<String> options) {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutableInDir(jri).toString());
+        command.addAll(options);
+        command.addAll(config.defaultJvmOptions());
+        command.add("-jar");
+        command.add(mainJar.toString());
+        command.addAll(config.defaultArgs());
+        return command;
+    }
+
+    private Process start(List<String> command) {
+        try {
+            return new ProcessBuilder(command)
+                    .directory(jri.toFile())
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the resident set size of the given process, only supported on Linux.
+     *
+     * @param pid The process id.
+     * @return The size in bytes, or {@code -1} if not supported.
+     */
+    private static long rss(long pid) {
+        Path status = PROC.resolve(String.valueOf(pid)).resolve("status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    String[] tokens = line.substring(6).trim().split("\\s+");
+                    return Long.parseLong(tokens[0]) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            Log.debug("Unable to read %s: %s", status, e.getMessage());
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the nearest-rank percentile of the given samples.
+     *
+     * @param samples    The samples.
+     * @param percentile The percentile.
+     * @return The value.
+     */
+    static long percentile(long[] samples, int percentile) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static String percentiles(long[] samples, String unit) {
+        return Arrays.stream(PERCENTILES)
+                .mapToObj(p -> "p" + p + " " + percentile(samples, p) + unit)
+                .collect(Collectors.joining(" "));
+    }
+
+    private static String rss(long[] samples) {
+        long p50 = percentile(samples, 50);
+        return p50 < 0 ? "n/a" : "p50 " + measuredSize(p50);
+    }
+
+    private String toJson(List<Result> results) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"image\": \"").append(escape(jri.getFileName().toString())).append("\",\n");
+        json.append("  \"jdk\": \"").append(CURRENT_JDK.version()).append("\",\n");
+        json.append("  \"cacheType\": \"").append(config.cacheType()).append("\",\n");
+        json.append("  \"stripDebug\": ").append(config.stripDebug()).append(",\n");
+        json.append("  \"iterations\": ").append(config.benchmarkIterations()).append(",\n");
+        json.append("  \"variants\": [\n");
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            json.append("    {\n");
+            json.append("      \"name\": \"").append(result.name).append("\",\n");
+            json.append("      \"startupMillis\": ").append(toJson(result.startup)).append(",\n");
+            json.append("      \"firstResponseMillis\": ").append(toJson(result.firstResponse)).append(",\n");
+            json.append("      \"rssBytes\": ").append(toJson(result.rss)).append("\n");
+            json.append(i < results.size() - 1 ? "    },\n" : "    }\n");
+        }
+        json.append("  ]\n");
+        json.append("}\n");
+        return json.toString();
+    }
+
+    private static String toJson(long[] samples) {
+        StringBuilder json = new StringBuilder("{");
+        for (int p : PERCENTILES) {
+            json.append("\"p").append(p).append("\": ").append(percentile(samples, p)).append(", ");
+        }
+        json.append("\"samples\": ")
+            .append(Arrays.stream(samples).mapToObj(String::valueOf).collect(Collectors.joining(", ", "[", "]")))
+            .append("}");
+        return json.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static final class Result {
+        private final String name;
+        private final long[] startup;
+        private final long[] firstResponse;
+        private final long[] rss;
+
+        private Result(String name, int iterations) {
+            this.name = name;
+            this.startup = new long[iterations];
+            this.firstResponse = new long[iterations];
+            this.rss = new long[iterations];
+        }
+    }
+}
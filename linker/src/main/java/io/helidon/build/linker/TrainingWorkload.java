@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import io.helidon.build.common.logging.Log;
+
+/**
+ * A training workload replayed against a started application, so that the CDS archive or AOT cache
+ * also captures the classes used to handle requests. The script contains one request per line:
+ * <pre>
+ *     # comment
+ *     GET /greet
+ *     PUT /greet/greeting {"greeting" : "Hola"}
+ * </pre>
+ * The first token is the HTTP method, the second a path relative to {@code http://localhost:<port>} or an
+ * absolute URL, and the optional remainder of the line is the request body.
+ */
+final class TrainingWorkload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final Path script;
+    private final List<Request> requests;
+    private final int iterations;
+    private final HttpClient client;
+    private boolean probed;
+    private int failures;
+
+    private TrainingWorkload(Path script, List<Request> requests, int iterations) {
+        this.script = script;
+        this.requests = requests;
+        this.iterations = iterations;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    /**
+     * Parse a training script.
+     *
+     * @param script     The script file.
+     * @param port       The port of the application.
+     * @param iterations The number of times to replay the script.
+     * @return The workload.
+     * @throws UncheckedIOException     If the script cannot be read.
+     * @throws IllegalArgumentException If the script is invalid.
+     */
+    static TrainingWorkload parse(Path script, int port, int iterations) {
+        URI base = URI.create("http://localhost:" + port + "/");
+        List<Request> requests = new ArrayList<>();
+        try {
+            int lineNumber = 0;
+            for (String line : Files.readAllLines(script)) {
+                lineNumber++;
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] tokens = trimmed.split("\\s+", 3);
+                if (tokens.length < 2) {
+                    throw new IllegalArgumentException(String.format(
+                            "%s:%d: expected '<method> <path> [body]'", script, lineNumber));
+                }
+                String target = tokens[1];
+                URI uri = target.contains("://") ? URI.create(target) : base.resolve(target);
+                requests.add(new Request(tokens[0].toUpperCase(), uri, tokens.length > 2 ? tokens[2] : null));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException(script + " does not contain any request");
+        }
+        return new TrainingWorkload(script, requests, Math.max(iterations, 1));
+    }
+
+    /**
+     * Wait until the application is ready, see {@link ReadinessProbe}.
+     * The first request of the script is used as the readiness probe, it is not sent again by {@link #run()}.
+     *
+     * @param alive          Tests whether the application process is alive.
+     * @param maxWaitSeconds The maximum number of seconds to wait.
+     * @throws IllegalStateException If the application exited or did not start in time.
+     * @throws InterruptedException  If interrupted.
+     */
+    void awaitReady(BooleanSupplier alive, int maxWaitSeconds) throws InterruptedException {
+        Request request = requests.get(0);
+        int status = ReadinessProbe.await(client, httpRequest(request), alive, maxWaitSeconds, POLL_INTERVAL_MILLIS);
+        checkStatus(request, status);
+        probed = true;
+    }
+
+    /**
+     * Replay the script.
+     *
+     * @throws UncheckedIOException If a request fails.
+     * @throws InterruptedException If interrupted.
+     */
+    void run() throws InterruptedException {
+        Log.info("Running training workload %s, %d requests", script.getFileName(), requests.size() * iterations);
+        for (int i = 0; i < iterations; i++) {
+            for (int j = i == 0 && probed ? 1 : 0; j < requests.size(); j++) {
+                try {
+                    send(requests.get(j));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        if (failures > 0) {
+            Log.warn("%d training requests returned an error status", failures);
+        }
+    }
+
+    private void send(Request request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(httpRequest(request), HttpResponse.BodyHandlers.discarding());
+        checkStatus(request, response.statusCode());
+    }
+
+    private void checkStatus(Request request, int status) {
+        if (status >= 400) {
+            failures++;
+            Log.debug("%s %s returned %d", request.method, request.uri, status);
+        }
+    }
+
+    private static HttpRequest httpRequest(Request request) {
+        HttpRequest.BodyPublisher body = request.body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofString(request.body);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.uri)
+                .timeout(REQUEST_TIMEOUT)
+                .method(request.method, body);
+        if (request.body != null) {
+            builder.header("Content-Type", request.body.startsWith("{") || request.body.startsWith("[")
+                    ? "application/json" : "text/plain");
+        }
+        return builder.build();
+    }
+
+    private static final class Request {
+        private final String method;
+        private final URI uri;
+        private final String body;
+
+        private Request(String method, URI uri, String body) {
+            this.method = method;
+            this.uri = uri;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.linker;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.helidon.build.common.logging.Log;
+
+import static io.helidon.build.common.FileUtils.measuredSize;
+import static io.helidon.build.common.FileUtils.sizeOf;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Removes the classes of the installed application jars that are not reachable.
+ * <p>
+ * The roots are the main class, the service provider entries, the classes of a class list recorded
+ * during a training run, the classes matching the keep rules, and the class names that appear in the
+ * resources of any jar (e.g. {@code logging.properties}). A class reaches every class named in its
+ * constant pool, including type descriptors and string constants, which covers most reflective lookups.
+ * <p>
+ * Jars that are signed, that are CDI bean archives or that contain a Jandex index are kept whole, since
+ * their classes are discovered by scanning. The main jar is also kept whole.
+ */
+final class TreeShaker {
+
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+    private static final String SERVICES_PREFIX = "META-INF/services/";
+    private static final int MAX_RESOURCE_SIZE = 1024 * 1024;
+    private static final Pattern DESCRIPTOR = Pattern.compile("L([\\w/$]+)[;<]");
+    private static final Pattern CLASS_NAME = Pattern.compile("[A-Za-z_$][\\w$]*(?:[./][A-Za-z_$][\\w$]*)+");
+
+    private final Path mainJar;
+    private final List<Path> jars;
+    private final Collection<String> roots;
+    private final List<String> keepRules;
+    private final Map<String, Path> owners = new HashMap<>();
+    private final Map<String, List<String>> entryNames = new HashMap<>();
+    private final Map<Path, JarFile> jarFiles = new HashMap<>();
+    private final Map<Path, Set<String>> jarClasses = new HashMap<>();
+    private final Set<Path> wholeJars = new HashSet<>();
+    private final Set<String> reachable = new HashSet<>();
+    private final Deque<String> queue = new ArrayDeque<>();
+
+    /**
+     * Create a new tree shaker.
+     *
+     * @param mainJar   The installed main jar.
+     * @param jars      The installed jars, including the main jar, in class path order.
+     * @param roots     Additional root classes, as internal names, e.g. from a class list.
+     * @param keepRules Class name patterns to keep: {@code a.b.C}, {@code a.b.*} or {@code a.b.**}.
+     */
+    TreeShaker(Path mainJar, List<Path> jars, Collection<String> roots, List<String> keepRules) {
+        this.mainJar = mainJar;
+        this.jars = jars;
+        this.roots = roots;
+        this.keepRules = keepRules;
+    }
+
+    /**
+     * Remove the unreachable classes.
+     *
+     * @return The number of bytes saved.
+     * @throws UncheckedIOException If an IO error occurs.
+     */
+    long shake() {
+        try {
+            analyze();
+            return rewrite();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the reachable classes.
+     *
+     * @return The internal names of the reachable classes.
+     */
+    Set<String> reachable() {
+        return reachable;
+    }
+
+    private void analyze() throws IOException {
+        try {
+            for (Path jar : jars) {
+                jarFiles.put(jar, new JarFile(jar.toFile()));
+            }
+            List<String> resourceNames = index();
+            for (Path jar : wholeJars) {
+                jarClasses.get(jar).forEach(this::reach);
+            }
+            roots.forEach(this::reach);
+            resourceNames.forEach(this::reach);
+            for (String name : owners.keySet()) {
+                if (keep(name)) {
+                    reach(name);
+                }
+            }
+            while (!queue.isEmpty()) {
+                String name = queue.pop();
+                for (String reference : references(name)) {
+                    reach(reference);
+                }
+            }
+        } finally {
+            for (JarFile jarFile : jarFiles.values()) {
+                jarFile.close();
+            }
+        }
+    }
+
+    private List<String> index() throws IOException {
+        List<String> resourceNames = new ArrayList<>();
+        for (Path jar : jars) {
+            Set<String> classes = new HashSet<>();
+            boolean keepWhole = jar.equals(mainJar);
+            JarFile jarFile = jarFiles.get(jar);
+            Manifest manifest = jarFile.getManifest();
+            if (manifest != null) {
+                String mainClass = manifest.getMainAttributes().getValue(Attributes.Name.MAIN_CLASS);
+                if (mainClass != null) {
+                    resourceNames.add(mainClass.replace('.', '/'));
+                }
+            }
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String entryName = entry.getName();
+                if (entryName.endsWith(".class")) {
+                    String name = className(entryName);
+                    if (!name.endsWith("module-info") && !name.endsWith("package-info")) {
+                        classes.add(name);
+                        if (owners.putIfAbsent(name, jar) == null || owners.get(name).equals(jar)) {
+                            entryNames.computeIfAbsent(name, n -> new ArrayList<>()).add(entryName);
+                        }
+                    }
+                } else if (entryName.endsWith(".SF")
+                           || entryName.equals("META-INF/beans.xml")
+                           || entryName.equals("META-INF/jandex.idx")) {
+                    keepWhole = true;
+                } else if (!entry.isDirectory() && entry.getSize() <= MAX_RESOURCE_SIZE) {
+                    if (entryName.startsWith(SERVICES_PREFIX)) {
+                        resourceNames.add(entryName.substring(SERVICES_PREFIX.length()).replace('.', '/'));
+                    }
+                    try (InputStream in = jarFile.getInputStream(entry)) {
+                        String content = new String(in.readAllBytes(), StandardCharsets.ISO_8859_1);
+                        Matcher matcher = CLASS_NAME.matcher(content);
+                        while (matcher.find()) {
+                            resourceNames.add(matcher.group().replace('.', '/'));
+                        }
+                    }
+                }
+            }
+            jarClasses.put(jar, classes);
+            if (keepWhole) {
+                wholeJars.add(jar);
+            }
+        }
+        return resourceNames;
+    }
+
+    private void reach(String name) {
+        if (owners.containsKey(name) && reachable.add(name)) {
+            queue.push(name);
+            // nested classes are only referenced from their outer class through attributes
+            int index = name.lastIndexOf('$');
+            if (index > 0) {
+                reach(name.substring(0, index));
+            }
+        }
+    }
+
+    private boolean keep(String name) {
+        String className = name.replace('/', '.');
+        for (String rule : keepRules) {
+            if (rule.endsWith(".**")) {
+                if (className.startsWith(rule.substring(0, rule.length() - 2))) {
+                    return true;
+                }
+            } else if (rule.endsWith(".*")) {
+                String pkg = rule.substring(0, rule.length() - 1);
+                if (className.startsWith(pkg) && className.indexOf('.', pkg.length()) < 0) {
+                    return true;
+                }
+            } else if (className.equals(rule) || className.startsWith(rule + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> references(String name) throws IOException {
+        Set<String> references = new HashSet<>();
+        JarFile jarFile = jarFiles.get(owners.get(name));
+        for (String entryName : entryNames.get(name)) {
+            try (InputStream in = jarFile.getInputStream(jarFile.getJarEntry(entryName))) {
+                for (String value : constantPoolStrings(in.readAllBytes())) {
+                    Matcher matcher = DESCRIPTOR.matcher(value);
+                    while (matcher.find()) {
+                        references.add(matcher.group(1));
+                    }
+                    references.add(value.replace('.', '/'));
+                }
+            }
+        }
+        return references;
+    }
+
+    private long rewrite() throws IOException {
+        long saved = 0;
+        int removedClasses = 0;
+        int totalClasses = 0;
+        int rewrittenJars = 0;
+        for (Path jar : jars) {
+            Set<String> classes = jarClasses.get(jar);
+            totalClasses += classes.size();
+            if (wholeJars.contains(jar)) {
+                continue;
+            }
+            Set<String> removed = new HashSet<>(classes);
+            removed.removeAll(reachable);
+            if (removed.isEmpty()) {
+                continue;
+            }
+            long size = sizeOf(jar);
+            Path tempFile = jar.resolveSibling(jar.getFileName() + ".tmp");
+            try (JarFile jarFile = new JarFile(jar.toFile());
+                 OutputStream os = Files.newOutputStream(tempFile);
+                 JarOutputStream jos = new JarOutputStream(os)) {
+                Enumeration<JarEntry> entries = jarFile.entries();
+                while (entries.hasMoreElements()) {
+                    JarEntry entry = entries.nextElement();
+                    String entryName = entry.getName();
+                    if (entryName.endsWith(".class") && removed.contains(className(entryName))) {
+                        continue;
+                    }
+                    JarEntry newEntry = new JarEntry(entryName);
+                    newEntry.setTime(entry.getTime());
+                    jos.putNextEntry(newEntry);
+                    try (InputStream in = jarFile.getInputStream(entry)) {
+                        in.transferTo(jos);
+                    }
+                    jos.closeEntry();
+                }
+            }
+            PosixFileAttributeView view = Files.getFileAttributeView(jar, PosixFileAttributeView.class);
+            if (view != null) {
+                Files.setPosixFilePermissions(tempFile, view.readAttributes().permissions());
+            }
+            Files.move(tempFile, jar, REPLACE_EXISTING);
+            saved += size - sizeOf(jar);
+            removedClasses += removed.size();
+            rewrittenJars++;
+            Log.debug("  Removed %d of %d classes from %s", removed.size(), classes.size(), jar.getFileName());
+        }
+        Log.info("Removed $(bold,blue %d) unreachable classes of %d from %d jars, saving $(bold,blue %s)",
+                removedClasses, totalClasses, rewrittenJars, measuredSize(saved));
+        return saved;
+    }
+
+    private static String className(String entryName) {
+        String name = entryName;
+        if (name.startsWith(VERSIONS_PREFIX)) {
+            int index = name.indexOf('/', VERSIONS_PREFIX.length());
+            name = name.substring(index + 1);
+        }
+        return name.substring(0, name.length() - ".class".length());
+    }
+
+    /**
+     * Returns the {@code CONSTANT_Utf8} entries of a class file, which hold every class name, descriptor,
+     * signature and string constant used by the class.
+     *
+     * @param bytes The class file.
+     * @return The strings.
+     * @throws IOException If the class file is invalid.
+     */
+    static List<String> constantPoolStrings(byte[] bytes) throws IOException {
+        List<String> strings = new ArrayList<>();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.readInt();               // magic
+        in.readUnsignedShort();     // minor version
+        in.readUnsignedShort();     // major version
+        int count = in.readUnsignedShort();
+        for (int i = 1; i < count; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:             // Utf8
+                    strings.add(in.readUTF());
+                    break;
+                case 7:             // Class
+                case 8:             // String
+                case 16:            // MethodType
+                case 19:            // Module
+                case 20:            // Package
+                    in.skipBytes(2);
+                    break;
+                case 15:            // MethodHandle
+                    in.skipBytes(3);
+                    break;
+                case 3:             // Integer
+                case 4:             // Float
+                case 9:             // Fieldref
+                case 10:            // Methodref
+                case 11:            // InterfaceMethodref
+                case 12:            // NameAndType
+                case 17:            // Dynamic
+                case 18:            // InvokeDynamic
+                    in.skipBytes(4);
+                    break;
+                case 5:             // Long
+                case 6:             // Double
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Invalid constant pool tag " + tag);
+            }
+        }
+        return strings;
+    }
+}
@@ -23,6 +23,7 @@ module helidon.linker {
 
     requires jdk.jlink;
     requires jdk.jdeps;
+    requires java.net.http;
     requires org.jboss.jandex;
     requires org.fusesource.jansi;
     requires org.objectweb.asm;
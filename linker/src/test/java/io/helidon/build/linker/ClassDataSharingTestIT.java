@@ -15,8 +15,10 @@
  */
 package io.helidon.build.linker;
 
+import java.net.ServerSocket;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import io.helidon.build.common.logging.LogLevel;
 import io.helidon.build.common.test.utils.ConfigurationParameterSource;
@@ -34,6 +36,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import static io.helidon.build.common.FileUtils.javaHome;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -101,4 +104,37 @@ class ClassDataSharingTestIT {
         assertThat(Files.exists(archive), is(true));
         assertThat(Files.isRegularFile(archive), is(true));
     }
+
+    @Tag("se")
+    @ParameterizedTest
+    @ConfigurationParameterSource("basedir")
+    @DisabledOnOs(OS.WINDOWS)
+    void testQuickstartSeTrainingWorkload(String basedir) throws Exception {
+        Path mainJar = Path.of(basedir).resolve("target/quickstart-se.jar");
+        ClassDataSharing startup = ClassDataSharing.builder()
+                                                   .jri(JAVA_HOME)
+                                                   .applicationJar(mainJar)
+                                                   .createArchive(false)
+                                                   .logOutput(true)
+                                                   .build();
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Path script = Files.writeString(Files.createTempFile("training", ".txt"), "GET /greet\nGET /greet/Joe\n");
+        ClassDataSharing trained = ClassDataSharing.builder()
+                                                   .jri(JAVA_HOME)
+                                                   .applicationJar(mainJar)
+                                                   .jvmOptions(List.of("-Dserver.port=" + port))
+                                                   .trainingScript(script)
+                                                   .trainingPort(port)
+                                                   .trainingIterations(2)
+                                                   .createArchive(false)
+                                                   .logOutput(true)
+                                                   .build();
+
+        // the classes used to handle the requests are only loaded by the training workload
+        assertThat(trained.classList().size(), is(greaterThan(startup.classList().size())));
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static io.helidon.build.common.test.utils.TestFiles.writeJar;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit test for class {@link Jar}.
+ */
+class JarTest {
+
+    @Test
+    void testCopyKeepsIndex() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "jar-ut");
+        Path file = dir.resolve("lib.jar");
+        Path targetDir = Files.createDirectories(dir.resolve("target"));
+        writeJar(file, null, "META-INF/jandex.idx", "lib/lib.properties");
+
+        Path copy = Jar.open(file).copy(targetDir, false, true);
+        try (JarFile jar = new JarFile(copy.toFile())) {
+            JarEntry entry = jar.getJarEntry("META-INF/jandex.idx");
+            assertThat(entry, is(notNullValue()));
+            try (InputStream in = jar.getInputStream(entry)) {
+                assertThat(new String(in.readAllBytes()), is("META-INF/jandex.idx"));
+            }
+            assertThat(jar.getJarEntry("lib/lib.properties"), is(notNullValue()));
+        }
+    }
+
+    @Test
+    void testCopyStripsWithExecutor() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "jar-ut");
+        Path file = dir.resolve("lib.jar");
+        Path targetDir = Files.createDirectories(dir.resolve("target"));
+        byte[] classFile;
+        try (InputStream in = JarTest.class.getResourceAsStream("JarTest.class")) {
+            classFile = in.readAllBytes();
+        }
+        writeJar(file, Map.of(), Map.of("lib/JarTest.class", classFile, "lib/lib.properties", new byte[0]));
+
+        AtomicInteger tasks = new AtomicInteger();
+        Path copy = Jar.open(file).copy(targetDir, false, true, task -> {
+            tasks.incrementAndGet();
+            task.run();
+        });
+        assertThat(tasks.get(), is(1));
+        try (JarFile jar = new JarFile(copy.toFile())) {
+            JarEntry entry = jar.getJarEntry("lib/JarTest.class");
+            assertThat(entry, is(notNullValue()));
+            assertThat(entry.getSize() < classFile.length, is(true));
+        }
+    }
+
+    @Test
+    void testCopyReplacesFile() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "jar-ut");
+        Path file = dir.resolve("lib.jar");
+        Path targetDir = Files.createDirectories(dir.resolve("target"));
+        writeJar(file, null, "lib/lib.properties");
+        Path copy = Jar.open(file).copy(targetDir, false, false);
+        Path link = Files.createLink(dir.resolve("link.jar"), copy);
+
+        writeJar(file, null, "lib/lib2.properties");
+        Jar.open(file).copy(targetDir, false, false);
+        try (JarFile jar = new JarFile(link.toFile())) {
+            assertThat(jar.getJarEntry("lib/lib.properties"), is(notNullValue()));
+            assertThat(jar.getJarEntry("lib/lib2.properties"), is(nullValue()));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.listFiles;
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for class {@link JavaDependencies}.
+ */
+class JavaDependenciesTest {
+
+    @Test
+    void testCache() throws URISyntaxException {
+        Path jarFile = Path.of(Matcher.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path cacheDir = unique(targetDir(this.getClass()), "jdeps-cache");
+        List<Jar> jars = List.of(Jar.open(jarFile));
+
+        Set<String> dependencies = JavaDependencies.collect(jars, cacheDir);
+        assertThat(dependencies, hasItem("java.base"));
+        assertThat(listFiles(cacheDir.resolve(CURRENT_JDK.version().toString()), (path, attrs) -> attrs.isRegularFile()).size(),
+                is(1));
+
+        // cached
+        assertThat(JavaDependencies.collect(jars, cacheDir), is(dependencies));
+        assertThat(JavaDependencies.collect(jars), is(dependencies));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Unit test for class {@link LayeredImage}.
+ */
+class LayeredImageTest {
+
+    @Test
+    void testLayers() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "layered-image");
+        Path jri = dir.resolve("app-jri");
+        write(jri, "bin/java", "bin/start", "lib/modules", "lib/start.jsa", "release",
+                "app/app.jar", "app/libs/lib-1.0.jar", "app/libs/other-2.0-SNAPSHOT.jar",
+                "app/libs/nightly-1.0-20260101.120000-3.jar");
+        Path layersDir = dir.resolve("app-jri-layers");
+
+        Map<String, String> digests = new LayeredImage(jri, Path.of("app/app.jar"), layersDir).create();
+
+        assertThat(digests.keySet(), contains("runtime", "dependencies", "snapshot-dependencies", "application"));
+        assertLayer(layersDir, "runtime", "bin/java", "lib/modules", "release");
+        assertLayer(layersDir, "dependencies", "app/libs/lib-1.0.jar");
+        assertLayer(layersDir, "snapshot-dependencies",
+                "app/libs/other-2.0-SNAPSHOT.jar", "app/libs/nightly-1.0-20260101.120000-3.jar");
+        assertLayer(layersDir, "application", "app/app.jar", "bin/start", "lib/start.jsa");
+        assertThat(Files.exists(layersDir.resolve("runtime/app/app.jar")), is(false));
+
+        Properties properties = new Properties();
+        try (var reader = Files.newBufferedReader(layersDir.resolve(LayeredImage.LAYERS_FILE))) {
+            properties.load(reader);
+        }
+        assertThat(properties.getProperty("runtime.digest"), is(digests.get("runtime")));
+        assertThat(properties.getProperty("snapshot-dependencies.files"), is("2"));
+
+        // only the changed layer gets a new digest
+        Files.writeString(jri.resolve("app/app.jar"), "changed");
+        Map<String, String> updated = new LayeredImage(jri, Path.of("app/app.jar"), layersDir).create();
+        assertThat(updated.get("runtime"), is(digests.get("runtime")));
+        assertThat(updated.get("dependencies"), is(digests.get("dependencies")));
+        assertThat(updated.get("snapshot-dependencies"), is(digests.get("snapshot-dependencies")));
+        assertThat(updated.get("application"), is(not(digests.get("application"))));
+    }
+
+    private static void assertLayer(Path layersDir, String layer, String... files) {
+        for (String file : files) {
+            assertThat(layer + "/" + file, Files.isRegularFile(layersDir.resolve(layer).resolve(file)), is(true));
+        }
+    }
+
+    private static void write(Path dir, String... files) throws IOException {
+        for (String file : files) {
+            Path path = dir.resolve(file);
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, file);
+        }
+    }
+}
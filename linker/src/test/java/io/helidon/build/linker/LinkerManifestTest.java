@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static io.helidon.build.common.test.utils.TestFiles.writeJar;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for class {@link LinkerManifest}.
+ */
+class LinkerManifestTest {
+
+    @Test
+    void testChanges() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "linker-manifest");
+        Path mainJar = dir.resolve("app.jar");
+        Path libJar = dir.resolve("libs/lib.jar");
+        Files.createDirectories(libJar.getParent());
+        writeJar(libJar, null, "lib/Lib.class");
+        writeJar(mainJar, "libs/lib.jar", "app/Main.class");
+
+        Configuration config = Configuration.builder()
+                .mainJar(mainJar)
+                .jriDirectory(dir.resolve("app-jri"))
+                .build();
+        assertThat(LinkerManifest.load(dir), is(nullValue()));
+        LinkerManifest previous = LinkerManifest.create(config, List.of("--add-modules", "java.base"),
+                Application.create(mainJar));
+        previous.save(dir);
+        previous = LinkerManifest.load(dir);
+
+        // same inputs
+        LinkerManifest manifest = LinkerManifest.create(config, List.of("--add-modules", "java.base"),
+                Application.create(mainJar));
+        assertThat(manifest.sameRuntime(previous), is(true));
+        assertThat(manifest.sameCache(previous), is(true));
+        assertThat(manifest.changedJars(previous), is(Set.of()));
+
+        // different modules
+        manifest = LinkerManifest.create(config, List.of("--add-modules", "java.base,java.sql"),
+                Application.create(mainJar));
+        assertThat(manifest.sameRuntime(previous), is(false));
+
+        // same classes, different content
+        writeJar(libJar, null, "lib/Lib.class", "lib/lib.properties");
+        manifest = LinkerManifest.create(config, List.of("--add-modules", "java.base"), Application.create(mainJar));
+        assertThat(manifest.sameRuntime(previous), is(true));
+        assertThat(manifest.changedJars(previous), is(Set.of("libs/lib.jar")));
+        assertThat(manifest.sameCache(previous), is(false));
+        assertThat(manifest.sameClassList(previous), is(true));
+
+        // new class
+        writeJar(libJar, null, "lib/Lib.class", "lib/Lib2.class");
+        manifest = LinkerManifest.create(config, List.of("--add-modules", "java.base"), Application.create(mainJar));
+        assertThat(manifest.sameClassList(previous), is(false));
+
+        // removed jar
+        writeJar(mainJar, null, "app/Main.class");
+        manifest = LinkerManifest.create(config, List.of("--add-modules", "java.base"), Application.create(mainJar));
+        assertThat(manifest.removedJars(previous), is(Set.of("libs/lib.jar")));
+
+        LinkerManifest.delete(dir);
+        assertThat(LinkerManifest.load(dir), is(nullValue()));
+    }
+
+    @Test
+    void testExistingDirectory() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "linker-manifest");
+        Path mainJar = dir.resolve("app.jar");
+        Path jri = Files.createDirectories(dir.resolve("app-jri"));
+        writeJar(mainJar, null, "app/Main.class");
+        Configuration.Builder builder = Configuration.builder()
+                .mainJar(mainJar)
+                .jriDirectory(jri)
+                .incremental(true);
+
+        // not linked by us
+        assertThrows(IllegalArgumentException.class, builder::build);
+        assertThat(Files.isDirectory(jri), is(true));
+
+        // previously linked
+        Path stateDir = LinkerManifest.stateDirectory(jri);
+        assertThat(stateDir, is(dir.resolve("app-jri.linker")));
+        Configuration config = Configuration.builder()
+                .mainJar(mainJar)
+                .jriDirectory(dir.resolve("other-jri"))
+                .build();
+        LinkerManifest.create(config, List.of(), Application.create(mainJar)).save(stateDir);
+        assertThat(builder.build().jriDirectory(), is(jri));
+        assertThat(Files.isDirectory(jri), is(true));
+    }
+}
@@ -16,11 +16,16 @@
 package io.helidon.build.linker;
 
 import java.io.IOException;
+import java.net.ServerSocket;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import io.helidon.build.common.ProcessMonitor;
 import io.helidon.build.common.test.utils.ConfigurationParameterSource;
 import io.helidon.build.common.test.utils.JUnitLauncher;
 
@@ -33,12 +38,14 @@ import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.params.ParameterizedTest;
 
+import static io.helidon.build.common.FileUtils.javaExecutableInDir;
 import static io.helidon.build.common.FileUtils.listFiles;
 import static io.helidon.build.common.FileUtils.requireDirectory;
 import static io.helidon.build.common.FileUtils.requireFile;
 import static io.helidon.build.common.FileUtils.sizeOf;
 import static io.helidon.build.common.OSType.CURRENT_OS;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
 
@@ -212,6 +219,162 @@ class LinkerTestIT {
         assertScript(jri);
     }
 
+    @Tag("se")
+    @Order(9)
+    @ParameterizedTest
+    @ConfigurationParameterSource("basedir")
+    void testQuickstartSeIncremental(String basedir) throws Exception {
+        Path mainJar = Path.of(basedir).resolve("target/quickstart-se.jar");
+        Path targetDir = mainJar.getParent();
+        Configuration.Builder builder = Configuration.builder()
+                                                     .jriDirectory(targetDir.resolve("se-jri-incremental"))
+                                                     .mainJar(mainJar)
+                                                     .replace(true)
+                                                     .incremental(true)
+                                                     .cacheType(Configuration.CacheType.CDS);
+        Path jri = Linker.linker(builder.build()).link();
+        assertApplication(jri, mainJar.getFileName().toString());
+        assertCdsArchive(jri, true);
+        requireFile(targetDir.resolve("se-jri-incremental.linker/manifest.properties"));
+        FileTime modulesTime = Files.getLastModifiedTime(jri.resolve("lib/modules"));
+        FileTime archiveTime = Files.getLastModifiedTime(jri.resolve("lib/start.jsa"));
+
+        // unchanged inputs
+        jri = Linker.linker(builder.build()).link();
+        assertApplication(jri, mainJar.getFileName().toString());
+        assertCdsArchive(jri, true);
+        assertScript(jri);
+        assertThat(Files.getLastModifiedTime(jri.resolve("lib/modules")), is(modulesTime));
+        assertThat(Files.getLastModifiedTime(jri.resolve("lib/start.jsa")), is(archiveTime));
+    }
+
+    @Tag("se")
+    @Order(10)
+    @ParameterizedTest
+    @ConfigurationParameterSource("basedir")
+    @EnabledForJreRange(min = JRE.JAVA_13)
+    void testQuickstartSeDynamicArchive(String basedir) throws Exception {
+        Path mainJar = Path.of(basedir).resolve("target/quickstart-se.jar");
+        Path targetDir = mainJar.getParent();
+        Configuration config = Configuration.builder()
+                                            .jriDirectory(targetDir.resolve("se-jri-dynamic"))
+                                            .mainJar(mainJar)
+                                            .replace(true)
+                                            .dynamicArchive(true)
+                                            .cacheType(Configuration.CacheType.CDS)
+                                            .build();
+        Path jri = Linker.linker(config).link();
+
+        requireDirectory(jri);
+        assertApplication(jri, mainJar.getFileName().toString());
+        assertCdsArchive(jri, true);
+        assertScript(jri);
+
+        // -Xshare:on fails if the archive cannot be mapped
+        String output = ProcessMonitor.builder()
+                .processBuilder(new ProcessBuilder()
+                        .directory(jri.toFile())
+                        .command(javaExecutableInDir(jri).toString(),
+                                "-XX:SharedArchiveFile=lib/start.jsa",
+                                "-Xshare:on",
+                                "-Xlog:class+load=info",
+                                "-Dexit.on.started=!",
+                                "-jar",
+                                "app/" + mainJar.getFileName()))
+                .capture(true)
+                .build()
+                .execute(60, TimeUnit.SECONDS)
+                .output();
+        assertThat(output, containsString("source: shared objects file (top)"));
+    }
+
+    @Tag("se")
+    @Order(11)
+    @ParameterizedTest
+    @ConfigurationParameterSource("basedir")
+    void testQuickstartSeBenchmark(String basedir) throws Exception {
+        Path mainJar = Path.of(basedir).resolve("target/quickstart-se.jar");
+        Path targetDir = mainJar.getParent();
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        Configuration config = Configuration.builder()
+                                            .jriDirectory(targetDir.resolve("se-jri-benchmark"))
+                                            .mainJar(mainJar)
+                                            .replace(true)
+                                            .defaultJvmOptions(List.of("-Dserver.port=" + port))
+                                            .applicationPort(port)
+                                            .benchmarkIterations(2)
+                                            .cacheType(Configuration.CacheType.CDS)
+                                            .build();
+        Path jri = Linker.linker(config).link();
+
+        requireDirectory(jri);
+        Path resultFile = requireFile(targetDir.resolve("se-jri-benchmark-benchmark.json"));
+        String results = Files.readString(resultFile);
+        assertThat(results, containsString("\"name\": \"cds\""));
+        assertThat(results, containsString("\"name\": \"no-cache\""));
+        assertThat(results, containsString("\"firstResponseMillis\""));
+    }
+
+    @Tag("se")
+    @Order(12)
+    @ParameterizedTest
+    @ConfigurationParameterSource("basedir")
+    void testQuickstartSeTreeShake(String basedir) throws Exception {
+        Path mainJar = Path.of(basedir).resolve("target/quickstart-se.jar");
+        Path targetDir = mainJar.getParent();
+        Configuration config = Configuration.builder()
+                                            .jriDirectory(targetDir.resolve("se-jri-tree-shake"))
+                                            .mainJar(mainJar)
+                                            .replace(true)
+                                            .treeShake(true)
+                                            .cacheType(Configuration.CacheType.CDS)
+                                            .build();
+
+        // the image is started by the linker, which fails if a required class was removed
+        Path jri = Linker.linker(config).link();
+
+        requireDirectory(jri);
+        assertApplication(jri, mainJar.getFileName().toString());
+        assertCdsArchive(jri, true);
+        assertThat(sizeOf(jri.resolve("app")), is(lessThan(sizeOf(targetDir.resolve("libs"))
+                                                            + sizeOf(mainJar))));
+    }
+
+    @Tag("se")
+    @Order(13)
+    @ParameterizedTest
+    @ConfigurationParameterSource("basedir")
+    void testQuickstartSeLayers(String basedir) throws Exception {
+        Path mainJar = Path.of(basedir).resolve("target/quickstart-se.jar");
+        Path targetDir = mainJar.getParent();
+        Configuration config = Configuration.builder()
+                                            .jriDirectory(targetDir.resolve("se-jri-layers"))
+                                            .mainJar(mainJar)
+                                            .replace(true)
+                                            .layers(true)
+                                            .cacheType(Configuration.CacheType.CDS)
+                                            .build();
+        Path jri = Linker.linker(config).link();
+
+        Path layersDir = requireDirectory(targetDir.resolve("se-jri-layers-layers"));
+        requireFile(layersDir.resolve(LayeredImage.LAYERS_FILE));
+        Path application = requireDirectory(layersDir.resolve("application"));
+        requireFile(application.resolve("app").resolve(mainJar.getFileName()));
+        requireFile(application.resolve("lib/start.jsa"));
+        requireFile(layersDir.resolve("runtime/lib/modules"));
+        int dependencies = 0;
+        for (String layer : List.of("dependencies", "snapshot-dependencies")) {
+            Path libs = layersDir.resolve(layer).resolve("app/libs");
+            if (Files.isDirectory(libs)) {
+                dependencies += listFiles(libs, (path, attrs) -> attrs.isRegularFile()).size();
+            }
+        }
+        assertThat(dependencies, is(listFiles(jri.resolve("app/libs"), (path, attrs) -> attrs.isRegularFile()).size()));
+    }
+
     private static void assertApplication(Path jri, String mainJarName) throws IOException {
         requireDirectory(jri);
         Path appDir = requireDirectory(jri.resolve("app"));
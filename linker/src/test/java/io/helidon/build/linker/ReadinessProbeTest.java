@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for class {@link ReadinessProbe}.
+ */
+class ReadinessProbeTest {
+
+    // the client retries once a GET request closed before responding
+    private static final List<String> RESPONSES = List.of(
+            "", "", "HTTP/1.1 503 Service Unavailable", "HTTP/1.1 404 Not Found");
+
+    @Test
+    void testSend() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            start(server);
+            HttpClient client = HttpClient.newHttpClient();
+            HttpRequest request = request(server);
+
+            // closed before responding, then not ready
+            assertThat(ReadinessProbe.send(client, request), is(-1));
+            assertThat(ReadinessProbe.send(client, request), is(-1));
+            assertThat(ReadinessProbe.send(client, request), is(404));
+        }
+    }
+
+    @Test
+    void testAwait() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            start(server);
+            HttpClient client = HttpClient.newHttpClient();
+            HttpRequest request = request(server);
+            assertThat(ReadinessProbe.await(client, request, () -> true, 10, 10), is(404));
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                    () -> ReadinessProbe.await(client, request, () -> false, 10, 10));
+            assertThat(ex.getMessage(), is("Application exited before responding"));
+        }
+    }
+
+    private static HttpRequest request(ServerSocket server) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getLocalPort() + "/")).build();
+    }
+
+    private static void start(ServerSocket server) {
+        Thread thread = new Thread(() -> serve(server));
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void serve(ServerSocket server) {
+        for (String response : RESPONSES) {
+            try (Socket socket = server.accept()) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+                String line;
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    // skip headers
+                }
+                if (!response.isEmpty()) {
+                    OutputStream out = socket.getOutputStream();
+                    out.write((response + "\r\nContent-Length: 0\r\nConnection: close\r\n\r\n").getBytes(UTF_8));
+                    out.flush();
+                }
+            } catch (IOException ignored) {
+                // closed
+            }
+        }
+    }
+}
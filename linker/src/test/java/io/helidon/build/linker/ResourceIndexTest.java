@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static io.helidon.build.common.test.utils.TestFiles.writeJar;
+import static io.helidon.build.linker.JavaRuntime.CURRENT_JDK;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit test for class {@link ResourceIndex}.
+ */
+class ResourceIndexTest {
+
+    @Test
+    void testOwners() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "resource-index");
+        Path mainJar = dir.resolve("app.jar");
+        Path libJar = dir.resolve("libs/lib.jar");
+        Files.createDirectories(libJar.getParent());
+        writeJar(libJar, null, "lib/Lib.class", "app/Main.class", "lib/lib.properties");
+        writeJar(mainJar, "libs/lib.jar", "app/Main.class", "app/module-info.class");
+
+        Application application = Application.create(mainJar);
+        ResourceIndex index = application.resourceIndex();
+        Jar main = application.jars().get(0);
+        Jar lib = application.jars().get(1);
+
+        assertThat(index.jdkModule("java/lang/String.class"), is("java.base"));
+        assertThat(index.jdkModule("java/sql/Connection.class"), is("java.sql"));
+        assertThat(index.jdkModule("lib/Lib.class"), is(nullValue()));
+        assertThat(index.jar("app/Main.class"), is(main));
+        assertThat(index.jar("lib/Lib.class"), is(lib));
+        assertThat(index.jar("lib/lib.properties"), is(lib));
+        assertThat(index.jar("lib/Missing.class"), is(nullValue()));
+        assertThat(index.classCount(main), is(1));
+        assertThat(index.classCount(lib), is(1));
+        assertThat(application.containsResource("lib/Lib.class"), is(true));
+        assertThat(CURRENT_JDK.moduleOf("Unnamed.class"), is(nullValue()));
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Unit test for class {@link StartupBenchmark}.
+ */
+class StartupBenchmarkTest {
+
+    @Test
+    void testPercentile() {
+        long[] samples = {40, 10, 30, 20, 50, 60, 70, 80, 90, 100};
+        assertThat(StartupBenchmark.percentile(samples, 50), is(50L));
+        assertThat(StartupBenchmark.percentile(samples, 90), is(90L));
+        assertThat(StartupBenchmark.percentile(samples, 99), is(100L));
+        assertThat(StartupBenchmark.percentile(new long[] {7}, 50), is(7L));
+        assertThat(samples[0], is(40L));
+    }
+}
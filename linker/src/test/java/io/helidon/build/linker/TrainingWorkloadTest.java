@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.linker;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for class {@link TrainingWorkload}.
+ */
+class TrainingWorkloadTest {
+
+    @Test
+    void testReplay() throws Exception {
+        List<String> requests = new CopyOnWriteArrayList<>();
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            Thread thread = new Thread(() -> serve(server, requests));
+            thread.setDaemon(true);
+            thread.start();
+            Path dir = unique(targetDir(this.getClass()), "training");
+            Path script = Files.writeString(Files.createDirectories(dir).resolve("training.txt"),
+                    "# greetings\nGET /greet\n\nput /greet/greeting {\"greeting\" : \"Hola\"}\n");
+            TrainingWorkload workload = TrainingWorkload.parse(script, server.getLocalPort(), 2);
+            workload.awaitReady(() -> true, 10);
+            workload.run();
+        }
+        // the readiness probe is the first request of the workload, sent until the application is ready
+        assertThat(requests, is(List.of(
+                "GET /greet ",
+                "GET /greet ",
+                "PUT /greet/greeting {\"greeting\" : \"Hola\"}",
+                "GET /greet ",
+                "PUT /greet/greeting {\"greeting\" : \"Hola\"}")));
+    }
+
+    @Test
+    void testInvalidScript() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "training");
+        Path script = Files.writeString(Files.createDirectories(dir).resolve("training.txt"), "GET\n");
+        assertThrows(IllegalArgumentException.class, () -> TrainingWorkload.parse(script, 8080, 1));
+        Files.writeString(script, "# nothing\n");
+        assertThrows(IllegalArgumentException.class, () -> TrainingWorkload.parse(script, 8080, 1));
+    }
+
+    private static void serve(ServerSocket server, List<String> requests) {
+        while (!server.isClosed()) {
+            try (Socket socket = server.accept()) {
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), UTF_8));
+                String request = reader.readLine();
+                int contentLength = 0;
+                String line;
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    if (line.toLowerCase().startsWith("content-length:")) {
+                        contentLength = Integer.parseInt(line.substring(15).trim());
+                    }
+                }
+                char[] body = new char[contentLength];
+                int read = 0;
+                while (read < contentLength) {
+                    read += reader.read(body, read, contentLength - read);
+                }
+                requests.add(request.substring(0, request.lastIndexOf(' ')) + " " + new String(body));
+                // still starting when the first request is received
+                String status = requests.size() == 1 ? "503 Service Unavailable" : "200 OK";
+                OutputStream out = socket.getOutputStream();
+                out.write(("HTTP/1.1 " + status + "\r\nContent-Length: 0\r\nConnection: close\r\n\r\n").getBytes(UTF_8));
+                out.flush();
+            } catch (IOException ignored) {
+                // closed
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.linker;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static io.helidon.build.common.test.utils.TestFiles.writeJar;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Unit test for class {@link TreeShaker}.
+ */
+class TreeShakerTest {
+
+    @Test
+    void testShake() throws IOException {
+        Path dir = unique(targetDir(this.getClass()), "tree-shaker");
+        Files.createDirectories(dir);
+        Path mainJar = dir.resolve("app.jar");
+        Path libJar = dir.resolve("lib.jar");
+        Path beansJar = dir.resolve("beans.jar");
+        writeJar(mainJar, Map.of("Main-Class", "main.Main"), Map.of(
+                "main/Main.class", classFile("main/Main", "a/A", null)));
+        writeJar(libJar, Map.of(), Map.of(
+                "a/A.class", classFile("a/A", "b/B", "e.Named"),
+                "b/B.class", classFile("b/B", null, null),
+                "c/Unused.class", classFile("c/Unused", "b/B", null),
+                "d/Kept.class", classFile("d/Kept", null, null),
+                "e/Named.class", classFile("e/Named", null, null),
+                "f/Loaded.class", classFile("f/Loaded", null, null),
+                "s/Api.class", classFile("s/Api", null, null),
+                "s/Impl.class", classFile("s/Impl", null, null),
+                "META-INF/services/s.Api", "s.Impl\n".getBytes()));
+        writeJar(beansJar, Map.of(), Map.of(
+                "g/Bean.class", classFile("g/Bean", null, null),
+                "META-INF/beans.xml", new byte[0]));
+
+        TreeShaker shaker = new TreeShaker(mainJar, List.of(mainJar, libJar, beansJar),
+                List.of("f/Loaded", "java/lang/Object"), List.of("d.*"));
+        long saved = shaker.shake();
+
+        assertThat(shaker.reachable(), hasItems("main/Main", "a/A", "b/B", "d/Kept", "e/Named", "f/Loaded",
+                "s/Api", "s/Impl", "g/Bean"));
+        assertThat(shaker.reachable(), not(hasItems("c/Unused")));
+        assertThat(saved, is(greaterThan(0L)));
+        try (JarFile jar = new JarFile(libJar.toFile())) {
+            assertThat(jar.getEntry("c/Unused.class"), is(nullValue()));
+            assertThat(jar.getEntry("b/B.class"), is(notNullValue()));
+            assertThat(jar.getEntry("META-INF/services/s.Api"), is(notNullValue()));
+        }
+    }
+
+    @Test
+    void testConstantPoolStrings() throws IOException {
+        List<String> strings = TreeShaker.constantPoolStrings(classFile("a/A", "b/B", "e.Named"));
+        assertThat(strings, hasItems("a/A", "Lb/B;", "e.Named"));
+    }
+
+    private static byte[] classFile(String name, String fieldType, String constant) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V11, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object", null);
+        if (fieldType != null) {
+            writer.visitField(Opcodes.ACC_PRIVATE, "field", "L" + fieldType + ";", null, null).visitEnd();
+        }
+        if (constant != null) {
+            writer.visitField(Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, "NAME", "Ljava/lang/String;", null, constant)
+                    .visitEnd();
+        }
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
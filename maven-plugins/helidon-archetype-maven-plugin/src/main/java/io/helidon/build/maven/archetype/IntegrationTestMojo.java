@@ -27,17 +27,25 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.build.archetype.engine.v2.ArchetypeEngineV2;
 import io.helidon.build.archetype.engine.v2.ScriptCompiler;
 import io.helidon.build.archetype.engine.v2.Variations;
+import io.helidon.build.common.CurrentThreadExecutorService;
 import io.helidon.build.common.Lists;
 import io.helidon.build.common.Maps;
 import io.helidon.build.common.PathFinder;
@@ -48,6 +56,8 @@ import io.helidon.build.common.ProcessMonitor.ProcessTimeoutException;
 import io.helidon.build.common.ansi.AnsiConsoleInstaller;
 import io.helidon.build.common.logging.Log;
 import io.helidon.build.common.maven.plugin.MavenArtifact;
+import io.helidon.build.maven.archetype.TestResults.TestResult;
+import io.helidon.build.maven.archetype.TestResults.TestStatus;
 import io.helidon.build.maven.archetype.config.Validation;
 
 import org.apache.maven.RepositoryUtils;
@@ -257,6 +267,34 @@ public class IntegrationTestMojo extends AbstractMojo {
     @Parameter(property = "archetype.test.test")
     private String tests;
 
+    /**
+     * Number of tests to process concurrently.
+     * The build logs are not streamed to the mojo log when greater than {@code 1}.
+     */
+    @Parameter(property = "archetype.test.parallelism", defaultValue = "1")
+    private int parallelism;
+
+    /**
+     * Index of the shard to process, between {@code 0} and {@code shardCount - 1}.
+     * Test {@code i} belongs to shard {@code (i - 1) % shardCount}.
+     */
+    @Parameter(property = "archetype.test.shardIndex", defaultValue = "0")
+    private int shardIndex;
+
+    /**
+     * Number of shards used to split the tests across executions.
+     */
+    @Parameter(property = "archetype.test.shardCount", defaultValue = "1")
+    private int shardCount;
+
+    /**
+     * File used to record the outcome of the builds of the generated projects.
+     * When set, a project is not built again if its generated files are unchanged since its last passing build.
+     * The file should be located outside of the build directory to persist across builds.
+     */
+    @Parameter(property = "archetype.test.resultsFile")
+    private File resultsFile;
+
     /**
      * Maven invoker environment variables.
      */
@@ -288,9 +326,11 @@ public class IntegrationTestMojo extends AbstractMojo {
     @Parameter
     private List<Validation> validations;
 
+    private final Object generatorLock = new Object();
+    private final Set<Path> outputDirs = new HashSet<>();
     private Path cli = null;
     private Variations variations;
-    private int index = 1;
+    private ResultsDatabase resultsDb;
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
@@ -309,7 +349,17 @@ public class IntegrationTestMojo extends AbstractMojo {
             throw new MojoFailureException("Archetype not found");
         }
 
+        if (parallelism < 1) {
+            throw new MojoFailureException("Parameter 'parallelism' must be 1 or greater");
+        }
+        if (shardCount < 1 || shardIndex < 0 || shardIndex >= shardCount) {
+            throw new MojoFailureException("Parameter 'shardIndex' must be between 0 and 'shardCount' - 1");
+        }
+
         String testName = fileName(project.getFile().toPath().getParent());
+        if (resultsFile != null) {
+            resultsDb = ResultsDatabase.load(resultsFile.toPath());
+        }
         try {
             if (generateTests) {
                 logVariations(testName);
@@ -330,22 +380,90 @@ public class IntegrationTestMojo extends AbstractMojo {
                     return;
                 }
 
-                Map<Integer, Variations.Entry> variations = filterVariations();
-                for (Map.Entry<Integer, Variations.Entry> entry : variations.entrySet()) {
-                    index = entry.getKey();
-                    Map<String, String> variation = new LinkedHashMap<>(entry.getValue());
-                    String artifactId = variation.getOrDefault("artifactId", "myproject");
-                    if (index > 1) {
-                        variation.put("artifactId", artifactId + "-" + index);
+                List<TestResult> results = processIntegrationTests(testName, archetypeFile);
+                Log.info("");
+                Path testsDir = testsDirectory.toPath();
+                String header = shardCount > 1 ? String.format("Shard: %d/%d", shardIndex + 1, shardCount) : null;
+                Log.info("Results CSV file: " + TestResults.writeCsv(testsDir.resolve("results.csv"), results));
+                Log.info("Results markdown file: "
+                         + TestResults.writeSummary(testsDir.resolve("results.md"), results, header));
+                List<TestResult> failures = Lists.filter(results, r -> r.status() == TestStatus.FAILED);
+                if (!failures.isEmpty()) {
+                    Exception error = failures.get(0).error();
+                    if (failures.size() == 1 && error instanceof MojoExecutionException) {
+                        throw (MojoExecutionException) error;
                     }
-                    processIntegrationTest(testName, variation, archetypeFile);
+                    throw new MojoExecutionException("Integration test failed, projects: "
+                                                     + String.join(", ", Lists.map(failures, r -> r.projectName())),
+                            error);
                 }
             } else {
-                processIntegrationTest(testName, externalValues, archetypeFile);
+                processIntegrationTest(testName, -1, externalValues, outputDir(externalValues), archetypeFile);
             }
         } catch (IOException e) {
             Log.error(e, "Integration test failed with error(s)");
             throw new MojoExecutionException("Integration test failed with error(s)");
+        } finally {
+            if (resultsDb != null) {
+                resultsDb.save();
+            }
+        }
+    }
+
+    private List<TestResult> processIntegrationTests(String testName, File archetypeFile) throws MojoExecutionException {
+        Map<Integer, Variations.Entry> variations = filterVariations();
+        if (shardCount > 1) {
+            Log.info("Shard: %d/%d, projects: %d", shardIndex + 1, shardCount, variations.size());
+        }
+        if (parallelism > 1) {
+            Log.info("Parallelism: %d, build logs are not streamed", parallelism);
+        }
+        ExecutorService executor = parallelism > 1
+                ? Executors.newFixedThreadPool(parallelism)
+                : new CurrentThreadExecutorService();
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Future<TestResult>> futures = new ArrayList<>();
+        try {
+            for (Map.Entry<Integer, Variations.Entry> entry : variations.entrySet()) {
+                int index = entry.getKey();
+                Map<String, String> variation = new LinkedHashMap<>(entry.getValue());
+                String artifactId = variation.getOrDefault("artifactId", "myproject");
+                if (index > 1) {
+                    variation.put("artifactId", artifactId + "-" + index);
+                }
+                // output directories are reserved by the current thread
+                Path outputDir = outputDir(variation);
+                futures.add(executor.submit(() -> {
+                    String projectName = fileName(outputDir);
+                    if (failed.get()) {
+                        return new TestResult(index, projectName, TestStatus.SKIPPED, 0, null);
+                    }
+                    long startTime = System.currentTimeMillis();
+                    try {
+                        boolean built = processIntegrationTest(testName, index, variation, outputDir, archetypeFile);
+                        long duration = System.currentTimeMillis() - startTime;
+                        TestStatus status = built ? TestStatus.PASSED : TestStatus.UNCHANGED;
+                        return new TestResult(index, projectName, status, duration, null);
+                    } catch (IOException | MojoExecutionException | RuntimeException ex) {
+                        failed.set(true);
+                        Log.error(ex, "Project '%s' failed", projectName);
+                        long duration = System.currentTimeMillis() - startTime;
+                        return new TestResult(index, projectName, TestStatus.FAILED, duration, ex);
+                    }
+                }));
+            }
+            List<TestResult> results = new ArrayList<>();
+            for (Future<TestResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException ex) {
+            throw new MojoExecutionException(ex.getMessage(), ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MojoExecutionException(ex.getMessage(), ex);
+        } finally {
+            executor.shutdownNow();
         }
     }
 
@@ -470,45 +588,80 @@ public class IntegrationTestMojo extends AbstractMojo {
                 }
             }
         }
+        if (shardCount > 1) {
+            indexes.keySet().removeIf(i -> (i - 1) % shardCount != shardIndex);
+        }
         return indexes;
     }
 
-    private void processIntegrationTest(String testName,
-                                        Map<String, String> externalValues,
-                                        File archetypeFile) throws IOException, MojoExecutionException {
+    private Path outputDir(Map<String, String> externalValues) {
+        Path testsDir = testsDirectory.toPath();
+        String artifactId = externalValues.getOrDefault("artifactId", "myproject");
+        Path outputDir = unique(testsDir, artifactId);
+        for (int i = 1; !outputDirs.add(outputDir); i++) {
+            outputDir = unique(testsDir, artifactId + "-" + i);
+        }
+        return outputDir;
+    }
+
+    private boolean processIntegrationTest(String testName,
+                                           int index,
+                                           Map<String, String> externalValues,
+                                           Path outputDir,
+                                           File archetypeFile) throws IOException, MojoExecutionException {
 
-        logTestDescription(testName, externalValues);
+        logTestDescription(testName, index, externalValues);
 
         Path testsDir = testsDirectory.toPath();
         ensureDirectory(testsDir);
 
         // ensure artifactId matches the directory
         Map<String, String> values = new HashMap<>(externalValues);
-        Path outputDir = unique(testsDir, values.getOrDefault("artifactId", "myproject"));
         String projectName = fileName(outputDir);
         values.put("artifactId", projectName);
 
-        switch (invokerId) {
-            case "helidon":
-                Log.info("Generating project '" + projectName + "' using Helidon archetype engine");
-                helidonEmbedded(archetypeFile.toPath(), values, outputDir);
-                break;
-            case "maven":
-                Log.info("Generating project '" + projectName + "' using Maven archetype");
-                System.setProperty("interactiveMode", "false");
-                mavenEmbedded(
-                        project.getGroupId(),
-                        project.getArtifactId(),
-                        project.getVersion(),
-                        archetypeFile,
-                        Maps.toProperties(values),
-                        testsDir);
-                break;
-            default:
-                Log.info("Generating project '" + projectName + "' using Helidon CLI");
-                helidonInit(values, outputDir);
-        }
-        invokePostArchetypeGenerationGoals(outputDir);
+        // the generators are not thread-safe
+        synchronized (generatorLock) {
+            switch (invokerId) {
+                case "helidon":
+                    Log.info("Generating project '" + projectName + "' using Helidon archetype engine");
+                    helidonEmbedded(archetypeFile.toPath(), values, outputDir);
+                    break;
+                case "maven":
+                    Log.info("Generating project '" + projectName + "' using Maven archetype");
+                    System.setProperty("interactiveMode", "false");
+                    mavenEmbedded(
+                            project.getGroupId(),
+                            project.getArtifactId(),
+                            project.getVersion(),
+                            archetypeFile,
+                            Maps.toProperties(values),
+                            testsDir);
+                    break;
+                default:
+                    Log.info("Generating project '" + projectName + "' using Helidon CLI");
+                    helidonInit(values, outputDir);
+            }
+        }
+        if (resultsDb == null) {
+            invokePostArchetypeGenerationGoals(outputDir);
+            return true;
+        }
+        // the project name is unique to a run, the key and digest must not depend on it
+        String key = ResultsDatabase.key(externalValues, testGoal, testProfiles, properties);
+        String digest = ResultsDatabase.digest(outputDir, externalValues.getOrDefault("artifactId", "myproject"));
+        if (resultsDb.passed(key, digest)) {
+            Log.info("Project '%s' is unchanged since its last passing build, skipping", projectName);
+            return false;
+        }
+        boolean passed = false;
+        try {
+            invokePostArchetypeGenerationGoals(outputDir);
+            passed = true;
+        } finally {
+            resultsDb.put(key, digest, passed);
+        }
+        return true;
     }
 
     private String invokerExe() {
@@ -557,7 +710,7 @@ public class IntegrationTestMojo extends AbstractMojo {
         logInputs("externalDefaults", externalDefaults, maxKeyWidth);
     }
 
-    private void logTestDescription(String testName, Map<String, String> externalValues) {
+    private void logTestDescription(String testName, int index, Map<String, String> externalValues) {
         String description = Bold.apply("Test: ") + BoldBlue.apply(testName);
         if (variations != null && index > 0) {
             int total = endIndex == -1 ? variations.size() : endIndex;
@@ -653,7 +806,8 @@ public class IntegrationTestMojo extends AbstractMojo {
     private void invokePostArchetypeGenerationGoals(Path basedir) throws IOException, MojoExecutionException {
         FileLogger logger = setupBuildLogger(basedir);
 
-        Log.info(String.format("Invoking post-archetype-generation goal: %s, profiles: %s", testGoal, testProfiles));
+        Log.info(String.format("Invoking post-archetype-generation goal: %s, profiles: %s, project: %s",
+                testGoal, testProfiles, fileName(basedir)));
 
         File localRepo = session.getRepositorySession().getLocalRepository().getBasedir();
         InvocationRequest request = new DefaultInvocationRequest()
@@ -700,6 +854,10 @@ public class IntegrationTestMojo extends AbstractMojo {
             }
         } catch (MavenInvocationException ex) {
             throw new MojoExecutionException(ex.getMessage(), ex);
+        } finally {
+            if (logger != null) {
+                logger.close();
+            }
         }
     }
 
@@ -723,7 +881,7 @@ public class IntegrationTestMojo extends AbstractMojo {
         FileLogger logger = null;
         if (!noLog) {
             Path logFile = basedir.resolve("build.log");
-            logger = new FileLogger(logFile, streamLogs);
+            logger = new FileLogger(logFile, streamLogs && parallelism == 1);
             Log.debug("build log initialized in: " + logFile);
         }
         return logger;
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.maven.archetype;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.helidon.build.common.Lists;
+import io.helidon.build.common.logging.Log;
+import io.helidon.build.maven.archetype.TestResults.TestResult;
+import io.helidon.build.maven.archetype.TestResults.TestStatus;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import static io.helidon.build.common.FileUtils.ensureDirectory;
+
+/**
+ * {@code archetype:merge-results} mojo.
+ * Merges the {@code results.csv} files written by the shards of {@code archetype:integration-test}.
+ */
+@Mojo(name = "merge-results")
+public class MergeResultsMojo extends AbstractMojo {
+
+    /**
+     * Skip this goal.
+     */
+    @Parameter(property = "archetype.merge.skip")
+    private boolean skip = false;
+
+    /**
+     * Directory scanned recursively for the {@code results.csv} files to merge.
+     */
+    @Parameter(property = "archetype.merge.shardsDirectory", defaultValue = "${project.build.directory}/shards",
+               required = true)
+    private File shardsDirectory;
+
+    /**
+     * Directory where the merged {@code results.csv} and {@code results.md} files are written.
+     */
+    @Parameter(property = "archetype.merge.outputDirectory", defaultValue = "${project.build.directory}/tests",
+               required = true)
+    private File outputDirectory;
+
+    /**
+     * Whether to fail if the merged results contain a failed test.
+     */
+    @Parameter(property = "archetype.merge.failOnError", defaultValue = "true")
+    private boolean failOnError;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            return;
+        }
+        Path outputDir = outputDirectory.toPath().toAbsolutePath();
+        Path csvFile = outputDir.resolve("results.csv");
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(shardsDirectory.toPath())) {
+            files = stream.map(Path::toAbsolutePath)
+                    .filter(file -> file.getFileName().toString().equals("results.csv") && !file.equals(csvFile))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException ex) {
+            throw new MojoExecutionException("Unable to scan " + shardsDirectory, ex);
+        }
+        if (files.isEmpty()) {
+            throw new MojoFailureException("No results.csv file found in " + shardsDirectory);
+        }
+        files.forEach(file -> Log.info("Merging results: " + file));
+        List<TestResult> results = TestResults.merge(files);
+        ensureDirectory(outputDir);
+        Log.info("Results CSV file: " + TestResults.writeCsv(csvFile, results));
+        Log.info("Results markdown file: "
+                 + TestResults.writeSummary(outputDir.resolve("results.md"), results, "Shards: " + files.size()));
+        List<TestResult> failures = Lists.filter(results, r -> r.status() == TestStatus.FAILED);
+        if (failOnError && !failures.isEmpty()) {
+            throw new MojoFailureException("Integration test failed, projects: "
+                                           + String.join(", ", Lists.map(failures, r -> r.projectName())));
+        }
+    }
+}
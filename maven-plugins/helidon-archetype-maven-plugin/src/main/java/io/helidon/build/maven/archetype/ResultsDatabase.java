@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.maven.archetype;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.helidon.build.common.Checksum;
+
+import static io.helidon.build.common.FileUtils.loadProperties;
+import static io.helidon.build.common.FileUtils.saveToPropertiesFile;
+
+/**
+ * Local database of the archetype integration tests results.
+ * Maps a test key to the digest of the generated project and the outcome of its build.
+ */
+final class ResultsDatabase {
+
+    private static final String PASSED = "PASSED";
+    private static final String FAILED = "FAILED";
+
+    private final Path file;
+    private final Map<String, String> entries = new HashMap<>();
+
+    private ResultsDatabase(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Load a database.
+     *
+     * @param file database file, may not exist
+     * @return ResultsDatabase
+     */
+    static ResultsDatabase load(Path file) {
+        ResultsDatabase db = new ResultsDatabase(file);
+        if (Files.exists(file)) {
+            loadProperties(file).forEach((k, v) -> db.entries.put((String) k, (String) v));
+        }
+        return db;
+    }
+
+    /**
+     * Compute the key of a test.
+     *
+     * @param values     the archetype inputs used to generate the project
+     * @param goal       build goal
+     * @param profiles   build profiles
+     * @param properties build properties
+     * @return key
+     */
+    static String key(Map<String, String> values, String goal, List<String> profiles, Map<String, String> properties) {
+        return Checksum.md5(new TreeMap<>(values) + ";" + goal + ";" + profiles + ";" + new TreeMap<>(properties));
+    }
+
+    /**
+     * Compute the digest of a generated project.
+     * The project directory name is unique to a run, its occurrences are replaced with the given name.
+     *
+     * @param dir  project directory
+     * @param name the requested project name
+     * @return digest
+     */
+    static String digest(Path dir, String name) {
+        String projectName = dir.getFileName().toString();
+        Checksum checksum = new Checksum.MD5();
+        try (Stream<Path> stream = Files.walk(dir)) {
+            List<Path> files = stream.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+            for (Path file : files) {
+                String path = dir.relativize(file).toString().replace('\\', '/');
+                if (projectName.equals(name)) {
+                    checksum.update(path.getBytes(StandardCharsets.UTF_8));
+                    checksum.update(file);
+                } else {
+                    // ISO-8859-1 maps every byte to a char
+                    String content = new String(Files.readAllBytes(file), StandardCharsets.ISO_8859_1);
+                    checksum.update(path.replace(projectName, name).getBytes(StandardCharsets.UTF_8));
+                    checksum.update(content.replace(projectName, name).getBytes(StandardCharsets.ISO_8859_1));
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return checksum.toHexString();
+    }
+
+    /**
+     * Test if the last build of a project with the given digest passed.
+     *
+     * @param key    test key
+     * @param digest project digest
+     * @return {@code true} if passed, {@code false} otherwise
+     */
+    synchronized boolean passed(String key, String digest) {
+        return (digest + "," + PASSED).equals(entries.get(key));
+    }
+
+    /**
+     * Record the outcome of a build.
+     *
+     * @param key    test key
+     * @param digest project digest
+     * @param passed {@code true} if the build passed
+     */
+    synchronized void put(String key, String digest, boolean passed) {
+        entries.put(key, digest + "," + (passed ? PASSED : FAILED));
+    }
+
+    /**
+     * Save the database.
+     */
+    synchronized void save() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        saveToPropertiesFile(entries, file);
+    }
+}
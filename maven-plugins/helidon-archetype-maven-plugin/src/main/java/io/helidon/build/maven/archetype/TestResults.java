@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.maven.archetype;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Results of the archetype integration tests.
+ * The results of each execution are written to a {@code results.csv} file and a {@code results.md} summary,
+ * the files of several executions (e.g. shards) can be merged.
+ */
+final class TestResults {
+
+    private static final String CSV_HEADER = "index,project,status,duration";
+
+    private TestResults() {
+    }
+
+    /**
+     * Read a results CSV file.
+     *
+     * @param file CSV file
+     * @return results
+     */
+    static List<TestResult> readCsv(Path file) {
+        List<TestResult> results = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line = reader.readLine();
+            if (!CSV_HEADER.equals(line)) {
+                throw new IllegalStateException("Invalid results file: " + file);
+            }
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length != 4) {
+                    throw new IllegalStateException(String.format("Invalid results file: %s, line: %s", file, line));
+                }
+                results.add(new TestResult(
+                        Integer.parseInt(columns[0]),
+                        columns[1],
+                        TestStatus.valueOf(columns[2]),
+                        Long.parseLong(columns[3]),
+                        null));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return results;
+    }
+
+    /**
+     * Merge results CSV files.
+     *
+     * @param files CSV files
+     * @return results, sorted by index
+     */
+    static List<TestResult> merge(List<Path> files) {
+        List<TestResult> results = new ArrayList<>();
+        for (Path file : files) {
+            results.addAll(readCsv(file));
+        }
+        results.sort(Comparator.comparingInt(r -> r.index));
+        return results;
+    }
+
+    /**
+     * Write a results CSV file.
+     *
+     * @param file    CSV file
+     * @param results results
+     * @return file
+     */
+    static Path writeCsv(Path file, List<TestResult> results) {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println(CSV_HEADER);
+            for (TestResult result : results) {
+                writer.printf("%d,%s,%s,%d%n", result.index, result.projectName, result.status, result.duration);
+            }
+            writer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return file;
+    }
+
+    /**
+     * Write a results markdown summary.
+     *
+     * @param file    markdown file
+     * @param results results
+     * @param header  header line, may be {@code null}
+     * @return file
+     */
+    static Path writeSummary(Path file, List<TestResult> results, String header) {
+        try (PrintWriter printer = new PrintWriter(Files.newBufferedWriter(file))) {
+            printer.println("# Results Summary");
+            printer.println();
+            if (header != null) {
+                printer.printf("%s%n%n", header);
+            }
+            for (TestStatus status : TestStatus.values()) {
+                long count = results.stream().filter(r -> r.status == status).count();
+                printer.printf("%s: %d%n", status, count);
+            }
+            printer.println();
+            printer.println("| Index | Project | Status | Duration (ms) |");
+            printer.println("|-------|---------|--------|---------------|");
+            for (TestResult result : results) {
+                printer.printf("| %d | %s | %s | %d |%n",
+                        result.index, result.projectName, result.status, result.duration);
+            }
+            printer.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return file;
+    }
+
+    /**
+     * Test status.
+     */
+    enum TestStatus {
+        PASSED,
+        FAILED,
+        SKIPPED,
+        UNCHANGED
+    }
+
+    /**
+     * Test result.
+     */
+    static final class TestResult {
+
+        private final int index;
+        private final String projectName;
+        private final TestStatus status;
+        private final long duration;
+        private final Exception error;
+
+        TestResult(int index, String projectName, TestStatus status, long duration, Exception error) {
+            this.index = index;
+            this.projectName = projectName;
+            this.status = status;
+            this.duration = duration;
+            this.error = error;
+        }
+
+        /**
+         * Get the variation index.
+         *
+         * @return index
+         */
+        int index() {
+            return index;
+        }
+
+        /**
+         * Get the project name.
+         *
+         * @return project name
+         */
+        String projectName() {
+            return projectName;
+        }
+
+        /**
+         * Get the status.
+         *
+         * @return status
+         */
+        TestStatus status() {
+            return status;
+        }
+
+        /**
+         * Get the duration.
+         *
+         * @return duration in milliseconds
+         */
+        long duration() {
+            return duration;
+        }
+
+        /**
+         * Get the error.
+         *
+         * @return error, {@code null} if the test did not fail or if the result was read from a file
+         */
+        Exception error() {
+            return error;
+        }
+    }
+}
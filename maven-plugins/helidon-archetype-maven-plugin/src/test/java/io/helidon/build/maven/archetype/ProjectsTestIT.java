@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -124,6 +124,22 @@ class ProjectsTestIT {
         assertProjectShape(projectDir, "square");
     }
 
+    @ParameterizedTest
+    @ConfigurationParameterSource("basedir")
+    void test8(String basedir) throws IOException {
+        Path projectDir = projectsDir(basedir);
+        // shard 1 of 2 contains the projects 1 and 3
+        assertProjectCount(projectDir, 2);
+        List<String> results = Files.readAllLines(projectDir.resolve("results.csv"));
+        assertThat(results.size(), is(3));
+        assertThat(results.get(0), is("index,project,status,duration"));
+        assertThat(results.get(1).startsWith("1,"), is(true));
+        assertThat(results.get(1).contains(",PASSED,"), is(true));
+        assertThat(results.get(2).startsWith("3,"), is(true));
+        assertThat(results.get(2).contains(",PASSED,"), is(true));
+        assertThat(Files.exists(projectDir.resolve("results.md")), is(true));
+    }
+
     private static Path projectsDir(String baseDir) {
         return projectsDir(baseDir, null);
     }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.maven.archetype;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.fileName;
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests {@link ResultsDatabase}.
+ */
+class ResultsDatabaseTest {
+
+    @Test
+    void testDigest() throws IOException {
+        Path dir = unique(targetDir(this.getClass()).resolve("results-db-ut"), "digest");
+        Files.createDirectories(dir.resolve("src"));
+        Files.writeString(dir.resolve("pom.xml"), "<project/>");
+        Files.writeString(dir.resolve("src/Main.java"), "class Main {}");
+        String digest = ResultsDatabase.digest(dir, fileName(dir));
+        assertThat(ResultsDatabase.digest(dir, fileName(dir)), is(digest));
+
+        Files.writeString(dir.resolve("src/Main.java"), "class Main { }");
+        assertThat(ResultsDatabase.digest(dir, fileName(dir)), is(not(digest)));
+    }
+
+    @Test
+    void testDigestWithUniqueName() throws IOException {
+        Path baseDir = targetDir(this.getClass()).resolve("results-db-ut");
+        Path dir1 = unique(baseDir, "myproject");
+        Files.createDirectories(dir1);
+        Path dir2 = unique(baseDir, "myproject");
+        Files.createDirectories(dir2);
+        Files.writeString(dir1.resolve("pom.xml"), "<artifactId>" + fileName(dir1) + "</artifactId>");
+        Files.writeString(dir2.resolve("pom.xml"), "<artifactId>" + fileName(dir2) + "</artifactId>");
+        assertThat(fileName(dir1), is(not(fileName(dir2))));
+        assertThat(ResultsDatabase.digest(dir1, "myproject"), is(ResultsDatabase.digest(dir2, "myproject")));
+    }
+
+    @Test
+    void testKey() {
+        String key = ResultsDatabase.key(Map.of("a", "1", "b", "2"), "package", List.of(), Map.of());
+        assertThat(ResultsDatabase.key(Map.of("b", "2", "a", "1"), "package", List.of(), Map.of()), is(key));
+        assertThat(ResultsDatabase.key(Map.of("a", "1", "b", "2"), "verify", List.of(), Map.of()), is(not(key)));
+    }
+
+    @Test
+    void testSaveAndLoad() throws IOException {
+        Path file = unique(targetDir(this.getClass()).resolve("results-db-ut"), "results", ".properties");
+        ResultsDatabase db = ResultsDatabase.load(file);
+        assertThat(db.passed("key1", "digest1"), is(false));
+
+        db.put("key1", "digest1", true);
+        db.put("key2", "digest2", false);
+        db.save();
+
+        db = ResultsDatabase.load(file);
+        assertThat(db.passed("key1", "digest1"), is(true));
+        assertThat(db.passed("key1", "digest2"), is(false));
+        assertThat(db.passed("key2", "digest2"), is(false));
+    }
+}
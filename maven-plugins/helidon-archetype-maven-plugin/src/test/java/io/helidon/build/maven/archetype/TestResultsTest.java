@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.build.maven.archetype;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import io.helidon.build.common.Lists;
+import io.helidon.build.maven.archetype.TestResults.TestResult;
+import io.helidon.build.maven.archetype.TestResults.TestStatus;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests {@link TestResults}.
+ */
+class TestResultsTest {
+
+    @Test
+    void testWriteAndRead() throws IOException {
+        Path dir = unique(targetDir(this.getClass()).resolve("test-results-ut"), "read");
+        Files.createDirectories(dir);
+        Path file = TestResults.writeCsv(dir.resolve("results.csv"), List.of(
+                new TestResult(1, "myproject", TestStatus.PASSED, 10, null),
+                new TestResult(2, "myproject-2", TestStatus.FAILED, 20, new IllegalStateException())));
+
+        List<TestResult> results = TestResults.readCsv(file);
+        assertThat(Lists.map(results, r -> r.index()), contains(1, 2));
+        assertThat(Lists.map(results, r -> r.projectName()), contains("myproject", "myproject-2"));
+        assertThat(Lists.map(results, r -> r.status()), contains(TestStatus.PASSED, TestStatus.FAILED));
+        assertThat(Lists.map(results, r -> r.duration()), contains(10L, 20L));
+    }
+
+    @Test
+    void testMerge() throws IOException {
+        Path dir = unique(targetDir(this.getClass()).resolve("test-results-ut"), "merge");
+        Files.createDirectories(dir.resolve("shard1"));
+        Files.createDirectories(dir.resolve("shard2"));
+        Path shard1 = TestResults.writeCsv(dir.resolve("shard1/results.csv"), List.of(
+                new TestResult(1, "myproject", TestStatus.PASSED, 10, null),
+                new TestResult(3, "myproject-3", TestStatus.UNCHANGED, 0, null)));
+        Path shard2 = TestResults.writeCsv(dir.resolve("shard2/results.csv"), List.of(
+                new TestResult(2, "myproject-2", TestStatus.FAILED, 20, null),
+                new TestResult(4, "myproject-4", TestStatus.SKIPPED, 0, null)));
+
+        List<TestResult> results = TestResults.merge(List.of(shard1, shard2));
+        assertThat(Lists.map(results, r -> r.index()), contains(1, 2, 3, 4));
+
+        Path summary = TestResults.writeSummary(dir.resolve("results.md"), results, "Shards: 2");
+        String content = Files.readString(summary);
+        assertThat(content, containsString("Shards: 2\n"));
+        assertThat(content, containsString("PASSED: 1\nFAILED: 1\nSKIPPED: 1\nUNCHANGED: 1\n"));
+        assertThat(content, containsString("| 2 | myproject-2 | FAILED | 20 |\n"));
+    }
+}
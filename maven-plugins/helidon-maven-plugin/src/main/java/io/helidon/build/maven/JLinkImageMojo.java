@@ -121,6 +121,72 @@ public class JLinkImageMojo extends AbstractMojo {
     @Parameter(defaultValue = "false", property = "jlink.image.stripDebug")
     private boolean stripDebug;
 
+    /**
+     * Directory used to cache the {@code jdeps} analysis of the application jars across builds.
+     * The analysis is not cached if not set.
+     */
+    @Parameter(property = "jlink.image.jdepsCacheDirectory")
+    private File jdepsCacheDirectory;
+
+    /**
+     * Reuse the {@code jlink} image, the installed jars and the CDS archive or AOT cache of the previous execution
+     * when their inputs are unchanged.
+     */
+    @Parameter(defaultValue = "false", property = "jlink.image.incremental")
+    private boolean incremental;
+
+    /**
+     * Create the CDS archive in a single training run using a dynamic archive. Requires JDK 13 or later.
+     */
+    @Parameter(defaultValue = "false", property = "jlink.image.dynamicArchive")
+    private boolean dynamicArchive;
+
+    /**
+     * HTTP requests replayed against the started application when creating the CDS archive or AOT cache,
+     * one {@code <method> <path or url> [body]} per line. Not supported on Windows.
+     */
+    @Parameter(property = "jlink.image.trainingScript")
+    private File trainingScript;
+
+    /**
+     * The HTTP port of the application, used to resolve the relative paths of the training script.
+     */
+    @Parameter(defaultValue = "8080", property = "jlink.image.applicationPort")
+    private int applicationPort;
+
+    /**
+     * The number of times the training script is replayed.
+     */
+    @Parameter(defaultValue = "10", property = "jlink.image.trainingIterations")
+    private int trainingIterations;
+
+    /**
+     * The number of times the image is launched to benchmark its startup, with and without the CDS archive
+     * or AOT cache. The results are written to {@code <image>-benchmark.json} next to the image.
+     */
+    @Parameter(defaultValue = "0", property = "jlink.image.benchmarkIterations")
+    private int benchmarkIterations;
+
+    /**
+     * Remove the classes of the application jars that are not reachable from the main class, the service
+     * providers or the classes loaded by a training run. Signed jars and CDI bean archives are kept whole.
+     */
+    @Parameter(defaultValue = "false", property = "jlink.image.treeShake")
+    private boolean treeShake;
+
+    /**
+     * Classes to keep when removing unreachable classes, e.g. {@code a.b.C}, {@code a.b.*} or {@code a.b.**}.
+     */
+    @Parameter(property = "jlink.image.keepClasses")
+    private List<String> keepClasses;
+
+    /**
+     * Split the image into runtime, dependencies, snapshot dependencies and application layers, in a
+     * {@code <image>-layers} directory that a container build can copy one layer at a time.
+     */
+    @Parameter(defaultValue = "false", property = "jlink.image.layers")
+    private boolean layers;
+
     /**
      * Skip execution for this plugin.
      */
@@ -150,7 +216,21 @@ public class JLinkImageMojo extends AbstractMojo {
                                                 .test(testImage)
                                                 .jriDirectory(outputDir)
                                                 .maxAppStartSeconds(maxAppStartSeconds)
+                                                .jdepsCacheDirectory(jdepsCacheDirectory != null
+                                                        ? jdepsCacheDirectory.toPath()
+                                                        : null)
                                                 .replace(true)
+                                                .incremental(incremental)
+                                                .dynamicArchive(dynamicArchive)
+                                                .trainingScript(trainingScript != null
+                                                        ? trainingScript.toPath()
+                                                        : null)
+                                                .applicationPort(applicationPort)
+                                                .trainingIterations(trainingIterations)
+                                                .benchmarkIterations(benchmarkIterations)
+                                                .treeShake(treeShake)
+                                                .keepClasses(keepClasses)
+                                                .layers(layers)
                                                 .build();
             Linker.linker(config).link();
         } catch (Exception e) {
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.maven.sitegen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.helidon.build.common.Checksum;
+import io.helidon.build.common.LazyValue;
+import io.helidon.build.common.VirtualFileSystem;
+import io.helidon.build.common.logging.Log;
+import io.helidon.build.maven.sitegen.models.Page;
+import io.helidon.build.maven.sitegen.models.SearchEntry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The manifest of a site generation, stored next to the output directory so that it is not published with the site.
+ * The manifest holds the digest of the inputs of the site and of each page, as well as the page fragments that are
+ * used to render the global files. A page is rendered again only if its inputs or the inputs of the site have changed.
+ */
+final class BuildManifest {
+
+    /**
+     * The manifest file extension.
+     */
+    static final String FILE_EXT = ".sitegen-manifest";
+
+    private static final LazyValue<String> CODE_DIGEST = new LazyValue<>(BuildManifest::initCodeDigest);
+
+    private static final int MAGIC = 0x53474d46;
+    private static final int FORMAT_VERSION = 1;
+
+    private final String siteDigest;
+    private final Map<String, Entry> entries;
+
+    private BuildManifest(String siteDigest, Map<String, Entry> entries) {
+        this.siteDigest = siteDigest;
+        this.entries = entries;
+    }
+
+    /**
+     * Create a new manifest.
+     *
+     * @param siteDigest digest of the site inputs
+     */
+    BuildManifest(String siteDigest) {
+        this(siteDigest, new TreeMap<>());
+    }
+
+    /**
+     * Get the digest of the site inputs.
+     *
+     * @return digest, may be {@code null}
+     */
+    String siteDigest() {
+        return siteDigest;
+    }
+
+    /**
+     * Get the entry of a page.
+     *
+     * @param source page source
+     * @return entry, or {@code null} if not found
+     */
+    Entry entry(String source) {
+        return entries.get(source);
+    }
+
+    /**
+     * Add the entry of a page.
+     *
+     * @param source page source
+     * @param entry  entry
+     */
+    void entry(String source, Entry entry) {
+        entries.put(source, entry);
+    }
+
+    /**
+     * Get the manifest file of an output directory.
+     *
+     * @param outputDir output directory
+     * @return manifest file, e.g. {@code target/site.sitegen-manifest} for {@code target/site}
+     */
+    static Path file(Path outputDir) {
+        Path dir = VirtualFileSystem.unwrap(outputDir).toAbsolutePath().normalize();
+        Path parent = dir.getParent();
+        if (parent == null || dir.getFileName() == null) {
+            return dir.resolve(FILE_EXT);
+        }
+        return parent.resolve(dir.getFileName() + FILE_EXT);
+    }
+
+    /**
+     * Get the digest of the code of the plugin.
+     *
+     * @return digest
+     */
+    static String codeDigest() {
+        return CODE_DIGEST.get();
+    }
+
+    /**
+     * Load a manifest.
+     *
+     * @param file manifest file
+     * @return manifest, empty if the file does not exist or is not valid
+     */
+    static BuildManifest load(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return new BuildManifest(null);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                Log.debug("ignoring incompatible manifest %s", file);
+                return new BuildManifest(null);
+            }
+            String siteDigest = readString(in);
+            int count = in.readInt();
+            Map<String, Entry> entries = new TreeMap<>();
+            for (int i = 0; i < count; i++) {
+                entries.put(readString(in), Entry.read(in));
+            }
+            return new BuildManifest(siteDigest, entries);
+        } catch (IOException | RuntimeException ex) {
+            Log.debug("unable to read manifest %s: %s", file, ex.toString());
+            return new BuildManifest(null);
+        }
+    }
+
+    /**
+     * Store this manifest.
+     *
+     * @param file manifest file
+     */
+    void store(Path file) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            writeString(out, siteDigest);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                writeString(out, e.getKey());
+                e.getValue().write(out);
+            }
+            out.flush();
+            Files.write(file, bytes.toByteArray());
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String initCodeDigest() {
+        try {
+            Path path = Path.of(BuildManifest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+            if (Files.isRegularFile(path)) {
+                return Checksum.md5(path);
+            }
+            Checksum.MD5 checksum = new Checksum.MD5();
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(path)) {
+                files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                checksum.update(path.relativize(file).toString().getBytes(UTF_8));
+                checksum.update(file);
+            }
+            return checksum.toHexString();
+        } catch (URISyntaxException | IOException | RuntimeException ex) {
+            Log.debug("unable to compute the code digest: %s", ex.toString());
+            // the pages are always rendered
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * The manifest entry of a page.
+     */
+    static final class Entry {
+
+        private final String digest;
+        private final Page.Metadata metadata;
+        private final List<SearchEntry> searchEntries;
+        private final String bindings;
+        private final String customLayout;
+
+        /**
+         * Create a new entry.
+         *
+         * @param digest        digest of the page inputs
+         * @param metadata      page metadata
+         * @param searchEntries search index entries of the page
+         * @param bindings      vue bindings of the page, may be {@code null}
+         * @param customLayout  custom layout of the page, may be {@code null}
+         */
+        Entry(String digest,
+              Page.Metadata metadata,
+              List<SearchEntry> searchEntries,
+              String bindings,
+              String customLayout) {
+
+            this.digest = digest;
+            this.metadata = metadata;
+            this.searchEntries = searchEntries;
+            this.bindings = bindings;
+            this.customLayout = customLayout;
+        }
+
+        /**
+         * Get the digest of the page inputs.
+         *
+         * @return digest
+         */
+        String digest() {
+            return digest;
+        }
+
+        /**
+         * Get the page metadata.
+         *
+         * @return metadata
+         */
+        Page.Metadata metadata() {
+            return metadata;
+        }
+
+        /**
+         * Get the search index entries of the page.
+         *
+         * @return search entries
+         */
+        List<SearchEntry> searchEntries() {
+            return searchEntries;
+        }
+
+        /**
+         * Get the vue bindings of the page.
+         *
+         * @return bindings, may be {@code null}
+         */
+        String bindings() {
+            return bindings;
+        }
+
+        /**
+         * Get the custom layout of the page.
+         *
+         * @return custom layout, may be {@code null}
+         */
+        String customLayout() {
+            return customLayout;
+        }
+
+        private static Entry read(DataInputStream in) throws IOException {
+            String digest = readString(in);
+            Page.Metadata metadata = Page.Metadata.builder()
+                                                  .description(readString(in))
+                                                  .keywords(readString(in))
+                                                  .h1(readString(in))
+                                                  .title(readString(in))
+                                                  .h1Prefix(readString(in))
+                                                  .build();
+            int count = in.readInt();
+            List<SearchEntry> searchEntries = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                searchEntries.add(SearchEntry.create(readString(in), readString(in), readString(in)));
+            }
+            return new Entry(digest, metadata, searchEntries, readString(in), readString(in));
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            writeString(out, digest);
+            writeString(out, metadata.description());
+            writeString(out, metadata.keywords());
+            writeString(out, metadata.h1());
+            writeString(out, metadata.title());
+            writeString(out, metadata.h1Prefix());
+            out.writeInt(searchEntries.size());
+            for (SearchEntry entry : searchEntries) {
+                writeString(out, entry.location());
+                writeString(out, entry.text());
+                writeString(out, entry.title());
+            }
+            writeString(out, bindings);
+            writeString(out, customLayout);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = str.getBytes(UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+}
@@ -31,12 +31,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import io.helidon.build.common.Checksum;
 import io.helidon.build.common.LazyValue;
 import io.helidon.build.common.SourcePath;
 import io.helidon.build.common.VirtualFileSystem;
 import io.helidon.build.common.logging.Log;
+import io.helidon.build.maven.sitegen.asciidoctor.AsciidocEngine;
+import io.helidon.build.maven.sitegen.freemarker.FreemarkerEngine;
 import io.helidon.build.maven.sitegen.freemarker.TemplateSession;
 import io.helidon.build.maven.sitegen.models.Page;
 import io.helidon.build.maven.sitegen.models.PageFilter;
@@ -47,10 +55,14 @@ import static io.helidon.build.common.FileUtils.requireDirectory;
 import static io.helidon.build.common.Strings.normalizePath;
 import static io.helidon.build.common.Strings.requireValid;
 import static io.helidon.build.maven.sitegen.Site.Options.FAIL_ON;
+import static io.helidon.build.maven.sitegen.Site.Options.INCREMENTAL;
+import static io.helidon.build.maven.sitegen.Site.Options.PARALLELISM;
 import static io.helidon.build.maven.sitegen.Site.Options.STRICT_IMAGES;
 import static io.helidon.build.maven.sitegen.Site.Options.STRICT_XREF;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Site context.
@@ -65,9 +77,12 @@ public class Context {
     private final Path outputDir;
     private final Map<String, String> assets;
     private volatile List<RenderingException> errors;
+    private final ThreadLocal<List<RenderingException>> pageErrors = new ThreadLocal<>();
     private final LazyValue<Map<String, Page>> pages;
     private final LazyValue<List<SourcePath>> sourcePaths;
     private final LazyValue<List<String>> resolvedAssets;
+    private final LazyValue<BuildManifest> manifest;
+    private final Map<String, String> pageDigests = new HashMap<>();
 
     /**
      * Create a new instance.
@@ -85,6 +100,7 @@ public class Context {
         sourcePaths = new LazyValue<>(this::initSourcePaths);
         resolvedAssets = new LazyValue<>(this::initResolvedAssets);
         pages = new LazyValue<>(this::initPages);
+        manifest = new LazyValue<>(this::initManifest);
     }
 
     /**
@@ -147,6 +163,11 @@ public class Context {
      * @param ex error
      */
     public void error(RenderingException ex) {
+        List<RenderingException> pageErrors = this.pageErrors.get();
+        if (pageErrors != null) {
+            pageErrors.add(ex);
+            return;
+        }
         if (errors == null) {
             throw ex;
         }
@@ -242,6 +263,24 @@ public class Context {
         return option(STRICT_IMAGES, Boolean.class).orElse(true);
     }
 
+    /**
+     * Get the {@link Site.Options#PARALLELISM} option value.
+     *
+     * @return number of pages rendered concurrently
+     */
+    public int parallelism() {
+        return option(PARALLELISM, Integer.class).orElse(1);
+    }
+
+    /**
+     * Get the {@link Site.Options#INCREMENTAL} option value.
+     *
+     * @return {@code true} if enabled, {@code false} otherwise (default)
+     */
+    public boolean incremental() {
+        return option(INCREMENTAL, Boolean.class).orElse(false);
+    }
+
     /**
      * Get the configured site.
      *
@@ -341,19 +380,157 @@ public class Context {
 
     /**
      * Process the rendering of all pages.
+     * If {@link #incremental()} is enabled, the pages whose inputs have not changed since the last rendering are not
+     * rendered, their fragments of the global files are restored in the template session instead.
+     * If {@link #parallelism()} is greater than {@code 1}, the pages are rendered concurrently and the errors are
+     * reported in page order, as if the pages were rendered sequentially.
      *
      * @param pagesDir the directory where to generate the rendered files
      * @param ext      the file extension to use for the rendered files
      */
     public void processPages(Path pagesDir, String ext) {
-        Backend backend = site.backend();
-        pages().values()
-               .stream()
-               .sorted(Comparator.comparing(Page::source))
-               .forEach(page -> {
-                   PageRenderer renderer = backend.renderer(pagesDir.resolve(page.source()));
-                   renderer.process(page, this, pagesDir, ext);
-               });
+        List<Page> pages = pages().values()
+                                  .stream()
+                                  .sorted(Comparator.comparing(Page::source))
+                                  .collect(toList());
+        if (!incremental()) {
+            processPages(pages, pagesDir, ext);
+            return;
+        }
+        BuildManifest previous = manifest.get();
+        BuildManifest current = new BuildManifest(siteDigest(pages, ext));
+        List<Page> stalePages = new ArrayList<>();
+        for (Page page : pages) {
+            String source = page.source();
+            String digest = pageDigests.get(source);
+            BuildManifest.Entry entry = previous.entry(source);
+            if (digest != null && entry != null
+                    && digest.equals(entry.digest())
+                    && current.siteDigest().equals(previous.siteDigest())
+                    && Files.exists(pagesDir.resolve(page.target() + "." + ext))) {
+                templateSession.searchIndex().restore(source, entry.searchEntries());
+                templateSession.vueBindings().restore(source, entry.bindings());
+                templateSession.customLayouts().restore(source, entry.customLayout());
+            } else {
+                stalePages.add(page);
+            }
+        }
+        if (stalePages.size() < pages.size()) {
+            Log.info("%d page(s) up-to-date", pages.size() - stalePages.size());
+        }
+        processPages(stalePages, pagesDir, ext);
+        List<RenderingException> errors = this.errors;
+        if (errors != null && !errors.isEmpty()) {
+            return;
+        }
+        for (Page page : pages) {
+            String source = page.source();
+            String digest = pageDigests.get(source);
+            if (digest != null) {
+                current.entry(source, new BuildManifest.Entry(
+                        digest,
+                        page.metadata(),
+                        templateSession.searchIndex().entries(source),
+                        templateSession.vueBindings().binding(source),
+                        templateSession.customLayouts().mapping(source)));
+            }
+        }
+        current.store(BuildManifest.file(outputDir));
+    }
+
+    private void processPages(List<Page> pages, Path pagesDir, String ext) {
+        int parallelism = Math.min(parallelism(), pages.size());
+        if (parallelism <= 1) {
+            pages.forEach(page -> processPage(page, pagesDir, ext));
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<List<RenderingException>>> results = new ArrayList<>();
+            for (Page page : pages) {
+                results.add(executor.submit(() -> {
+                    List<RenderingException> errors = new ArrayList<>();
+                    REGISTRY.get().push(this);
+                    pageErrors.set(errors);
+                    try {
+                        processPage(page, pagesDir, ext);
+                    } finally {
+                        pageErrors.remove();
+                        REGISTRY.get().pop();
+                    }
+                    return errors;
+                }));
+            }
+            for (Future<List<RenderingException>> result : results) {
+                result.get().forEach(this::error);
+            }
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void processPage(Page page, Path pagesDir, String ext) {
+        PageRenderer renderer = site.backend().renderer(pagesDir.resolve(page.source()));
+        renderer.process(page, this, pagesDir, ext);
+    }
+
+    private String siteDigest(List<Page> pages, String ext) {
+        AsciidocEngine asciidoc = site.engine().asciidoc();
+        FreemarkerEngine freemarker = site.engine().freemarker();
+        StringBuilder sb = new StringBuilder();
+        sb.append(BuildManifest.codeDigest()).append('\n')
+          .append(site.backend().name()).append('\n')
+          .append(ext).append('\n')
+          .append(sourceDir.toAbsolutePath()).append('\n')
+          .append(VirtualFileSystem.unwrap(outputDir)).append('\n')
+          .append(new TreeMap<>(site.options().asMap().orElseGet(Map::of))).append('\n')
+          .append(new TreeMap<>(asciidoc.attributes())).append('\n')
+          .append(asciidoc.libraries()).append('\n')
+          .append(asciidoc.imagesDir()).append('\n')
+          .append(new TreeMap<>(freemarker.directives())).append('\n')
+          .append(new TreeMap<>(freemarker.model())).append('\n')
+          .append(freemarker.templatesDigest()).append('\n');
+        // xrefs and navigation use the metadata of the other pages
+        for (Page page : pages) {
+            sb.append(page.source()).append(' ')
+              .append(page.target()).append(' ')
+              .append(page.metadata()).append('\n');
+        }
+        return Checksum.md5(sb.toString());
+    }
+
+    private String pageDigest(PageRenderer renderer, Path source) {
+        List<Path> includes = renderer.includes(source);
+        if (includes == null) {
+            return null;
+        }
+        Checksum checksum = new Checksum.MD5().update(source);
+        for (Path include : includes) {
+            checksum.update(include.toString().getBytes(UTF_8));
+            if (Files.isRegularFile(include)) {
+                checksum.update(include);
+            }
+        }
+        return checksum.toHexString();
+    }
+
+    private BuildManifest initManifest() {
+        if (!incremental()) {
+            return new BuildManifest(null);
+        }
+        return BuildManifest.load(BuildManifest.file(outputDir));
     }
 
     private List<SourcePath> initSourcePaths() {
@@ -386,7 +563,21 @@ public class Context {
             }
             Log.debug("creating page: %s", path);
             PageRenderer renderer = backend.renderer(sourceDir.resolve(path));
-            Page.Metadata metadata = renderer.readMetadata(sourceDir.resolve(path));
+            Page.Metadata metadata = null;
+            if (incremental()) {
+                // re-use the metadata of the pages that have not changed
+                String digest = pageDigest(renderer, sourceDir.resolve(path));
+                BuildManifest.Entry entry = manifest.get().entry(path);
+                if (digest != null) {
+                    pageDigests.put(path, digest);
+                    if (entry != null && digest.equals(entry.digest())) {
+                        metadata = entry.metadata();
+                    }
+                }
+            }
+            if (metadata == null) {
+                metadata = renderer.readMetadata(sourceDir.resolve(path));
+            }
             pages.put(path, Page.builder()
                                 .source(path)
                                 .target(Page.removeFileExt(path))
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.build.maven.sitegen;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import io.helidon.build.maven.sitegen.models.Page;
 import io.helidon.build.maven.sitegen.models.Page.Metadata;
@@ -51,4 +52,14 @@ public interface PageRenderer {
      * @param ext       the file extension to use for the rendered pages
      */
     void process(Page page, Context ctx, Path outputDir, String ext);
+
+    /**
+     * Get the files included by a given document.
+     *
+     * @param source the document
+     * @return the included files, or {@code null} if they cannot be determined
+     */
+    default List<Path> includes(Path source) {
+        return null;
+    }
 }
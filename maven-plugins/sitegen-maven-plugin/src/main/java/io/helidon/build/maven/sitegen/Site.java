@@ -171,6 +171,18 @@ public class Site {
          * Value is a string representation of {@link Severity}.
          */
         public static final String FAIL_ON = "fail-on";
+
+        /**
+         * Option that controls the number of pages rendered concurrently.
+         * Value is a positive integer, default is {@code 1}.
+         */
+        public static final String PARALLELISM = "parallelism";
+
+        /**
+         * Option that controls if only the pages whose inputs have changed are rendered.
+         * Value can be {@code true} or {@code false}, default is {@code false}.
+         */
+        public static final String INCREMENTAL = "incremental";
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,12 +22,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Supplier;
 
-import io.helidon.build.common.LazyValue;
 import io.helidon.build.common.VirtualFileSystem;
 import io.helidon.build.common.logging.Log;
 import io.helidon.build.maven.sitegen.Config;
@@ -60,11 +61,11 @@ public class AsciidocEngine {
     private final List<String> libraries;
     private final Map<String, Object> attributes;
     private final String imagesDir;
-    private final LazyValue<Asciidoctor> asciidoctor;
+    private final Deque<Asciidoctor> asciidoctors = new ConcurrentLinkedDeque<>();
     private final AsciidocLogHandler logHandler;
     private final AsciidocPageRenderer pageRenderer;
-    private volatile String sourcePath;
-    private volatile AsciidocConverter converter;
+    private final ThreadLocal<String> sourcePath = new ThreadLocal<>();
+    private final ThreadLocal<AsciidocConverter> converter = new ThreadLocal<>();
 
     private AsciidocEngine(Builder builder) {
         backend = requireValid(builder.backend, "backend is invalid!");
@@ -73,7 +74,6 @@ public class AsciidocEngine {
         imagesDir = builder.imagesDir;
         pageRenderer = new AsciidocPageRenderer(this);
         logHandler = new AsciidocLogHandler(this::frames);
-        asciidoctor = new LazyValue<>(this::initAdoc);
     }
 
     private Asciidoctor initAdoc() {
@@ -86,16 +86,17 @@ public class AsciidocEngine {
     }
 
     private Collection<String> frames() {
-        return converter != null ? converter.frames() : List.of(sourcePath + ":0");
+        AsciidocConverter converter = this.converter.get();
+        return converter != null ? converter.frames() : List.of(sourcePath.get() + ":0");
     }
 
     /**
-     * Set the converter.
+     * Set the converter of the document rendered by the current thread.
      *
      * @param converter converter
      */
     void converter(AsciidocConverter converter) {
-        this.converter = converter;
+        this.converter.set(converter);
     }
 
     /**
@@ -136,6 +137,7 @@ public class AsciidocEngine {
 
     /**
      * Render the document represented by the given {@link Page} instance.
+     * Documents can be rendered concurrently, each rendering uses its own {@link Asciidoctor} instance.
      *
      * @param page   the {@link Page} instance representing the document to render
      * @param ctx    the context representing this site processing invocation
@@ -185,10 +187,14 @@ public class AsciidocEngine {
                                  .backend(backend)
                                  .build();
 
-        sourcePath = sourceDir.relativize(source).toString();
+        String sourcePath = sourceDir.relativize(source).toString();
         Log.info("rendering %s to %s", sourcePath, outputDir.relativize(target));
 
-        try (Asciidoctor asciidoctor = this.asciidoctor.get()) {
+        // re-use an idle instance, or create one if they are all in use
+        Asciidoctor idle = asciidoctors.poll();
+        Asciidoctor asciidoctor = idle != null ? idle : initAdoc();
+        this.sourcePath.set(sourcePath);
+        try (asciidoctor) {
             Document document = asciidoctor.loadFile(source.toFile(), options);
             try {
                 String output = document.convert();
@@ -197,6 +203,10 @@ public class AsciidocEngine {
             } catch (IOException ex) {
                 throw new UncheckedIOException(ex);
             }
+        } finally {
+            this.sourcePath.remove();
+            converter.remove();
+            asciidoctors.push(asciidoctor);
         }
     }
 
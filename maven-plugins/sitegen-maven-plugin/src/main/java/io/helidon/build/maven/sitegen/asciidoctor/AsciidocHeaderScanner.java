@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.maven.sitegen.asciidoctor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.helidon.build.common.logging.Log;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A line based reader of document headers that does not use Asciidoctor.
+ * It supports the attribute entries, the comments, the single attribute conditional directives and the include
+ * directives with an absolute target, and gives up on anything else. The attributes are processed the same way as
+ * {@link AsciidocHeaders} does with Asciidoctor: the included documents are processed as separate documents that
+ * inherit the attributes of the including document.
+ * <p>
+ * The built-in attributes of Asciidoctor are not in the returned map, a header that references them, tests them or
+ * sets an attribute that Asciidoctor derives other attributes from is read with Asciidoctor instead.
+ */
+final class AsciidocHeaderScanner {
+
+    private static final int MAX_DEPTH = 32;
+    private static final Pattern ATTRIBUTE_ENTRY = Pattern.compile("^:(!?)(\\w[\\w-]*)(!?):(?:[ \\t]+(.*))?$");
+    private static final Pattern LOOSE_ATTRIBUTE_ENTRY = Pattern.compile("^:(!?\\w[^:]*?):(?:[ \\t]+(.*))?$");
+    private static final Pattern ATTRIBUTE_REF = Pattern.compile("\\{([\\w-]+)}");
+    private static final Pattern CONDITIONAL = Pattern.compile("^(ifdef|ifndef|ifeval|endif)::([^\\[]*)\\[(.*)]$");
+    private static final Pattern INCLUDE = Pattern.compile("^include::([^\\[]+)\\[(.*)]$");
+    private static final Pattern COMMENT_DELIMITER = Pattern.compile("^/{4,}$");
+    private static final Pattern SECTION_TITLE = Pattern.compile("^={2,6} \\S.*$");
+    private static final Pattern DELIMITER = Pattern.compile(
+            "^(-{2,}|\\.{4,}|={4,}|\\*{4,}|\\+{4,}|_{4,}|[|,:!]===.*|```.*)$");
+    // e.g. toc-position and toc-class for toc, doctype-book for doctype
+    private static final Set<String> DERIVED = Set.of(
+            "toc", "toc-placement", "doctype", "backend", "stem", "notitle", "showtitle", "hardbreaks");
+
+    private final Map<String, String> attributes;
+    private final Set<String> locked;
+    private final List<Map<String, String>> includedDocs;
+    private final Deque<Boolean> conditions = new ArrayDeque<>();
+    private boolean header;
+    private boolean titleSeen;
+    private boolean contentSeen;
+    private boolean paragraph;
+    private boolean commentBlock;
+
+    private AsciidocHeaderScanner(Map<String, String> attributes, List<Map<String, String>> includedDocs) {
+        this.attributes = attributes;
+        this.locked = Set.copyOf(attributes.keySet());
+        this.includedDocs = includedDocs;
+    }
+
+    /**
+     * Read a document's header.
+     *
+     * @param source      the document to read the header from
+     * @param headerLines the lines of the partial document to read
+     * @return the header as {@code Map<String, Object>}, or {@code null} if the document is not supported
+     */
+    static Map<String, Object> readDocumentHeader(Path source, List<String> headerLines) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        attributes.put("docdir", source.getParent().toAbsolutePath().normalize().toString());
+        attributes.put("skip-front-matter", "");
+        attributes.put("experimental", "true");
+        List<Map<String, String>> includedDocs = new ArrayList<>();
+        try {
+            AsciidocHeaderScanner scanner = new AsciidocHeaderScanner(attributes, includedDocs);
+            scanner.scan(headerLines, 0);
+            scanner.end();
+        } catch (UnsupportedException ex) {
+            Log.debug("Unable to scan header %s: %s", source, ex.getMessage());
+            return null;
+        }
+        Map<String, Object> headerMap = new HashMap<>();
+        headerLines.stream()
+                   .filter(line -> line.startsWith("= "))
+                   .map(line -> line.substring(2).trim())
+                   .findFirst()
+                   .ifPresent(h1 -> headerMap.put("h1", h1));
+        headerMap.putAll(attributes);
+        includedDocs.forEach(headerMap::putAll);
+        return headerMap;
+    }
+
+    private void scan(List<String> lines, int depth) {
+        for (String rawLine : lines) {
+            String line = rawLine.stripTrailing();
+            Matcher matcher = CONDITIONAL.matcher(line);
+            if (matcher.matches()) {
+                if (commentBlock) {
+                    throw new UnsupportedException("conditional directive in a comment block");
+                }
+                conditional(matcher.group(1), matcher.group(2), matcher.group(3));
+                continue;
+            }
+            if (conditions.contains(false)) {
+                continue;
+            }
+            matcher = INCLUDE.matcher(line);
+            if (matcher.matches()) {
+                if (commentBlock) {
+                    throw new UnsupportedException("include directive in a comment block");
+                }
+                include(matcher.group(1), matcher.group(2), depth);
+                continue;
+            }
+            processLine(line);
+        }
+    }
+
+    private void end() {
+        if (!conditions.isEmpty()) {
+            throw new UnsupportedException("unterminated conditional directive");
+        }
+    }
+
+    private void conditional(String directive, String name, String content) {
+        switch (directive) {
+            case "endif":
+                if (conditions.isEmpty() || !content.isEmpty()) {
+                    throw new UnsupportedException("invalid endif directive");
+                }
+                conditions.pop();
+                return;
+            case "ifdef":
+            case "ifndef":
+                if (!name.matches("[\\w-]+")) {
+                    throw new UnsupportedException("unsupported condition: " + name);
+                }
+                break;
+            default:
+                throw new UnsupportedException("unsupported directive: " + directive);
+        }
+        String key = name.toLowerCase();
+        if (!attributes.containsKey(key)) {
+            // the undefined attributes may be defined by Asciidoctor
+            throw new UnsupportedException("unknown attribute in condition: " + name);
+        }
+        boolean result = directive.equals("ifdef");
+        if (content.isEmpty()) {
+            conditions.push(result);
+        } else if (result && !conditions.contains(false)) {
+            processLine(content);
+        }
+    }
+
+    private void include(String target, String attrs, int depth) {
+        if (depth >= MAX_DEPTH) {
+            throw new UnsupportedException("too many nested includes");
+        }
+        Path path = Path.of(substitute(target));
+        if (!path.isAbsolute() || !Files.isRegularFile(path)) {
+            throw new UnsupportedException("unsupported include target: " + target);
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path, UTF_8);
+        } catch (IOException ex) {
+            throw new UnsupportedException(ex.toString());
+        }
+        if (includedDocs != null) {
+            // processed as a separate document, see AsciidocHeaders.IncludeProcessorImpl
+            Map<String, String> docAttributes = new LinkedHashMap<>(attributes);
+            AsciidocHeaderScanner scanner = new AsciidocHeaderScanner(docAttributes, null);
+            scanner.scan(lines, depth + 1);
+            scanner.end();
+            includedDocs.add(docAttributes);
+        } else {
+            if (!attrs.isEmpty()) {
+                throw new UnsupportedException("unsupported include attributes: " + attrs);
+            }
+            scan(lines, depth + 1);
+        }
+    }
+
+    private void processLine(String line) {
+        if (commentBlock) {
+            if (COMMENT_DELIMITER.matcher(line).matches()) {
+                commentBlock = false;
+            }
+            return;
+        }
+        if (COMMENT_DELIMITER.matcher(line).matches()) {
+            if (paragraph) {
+                throw new UnsupportedException("comment block in a paragraph");
+            }
+            commentBlock = true;
+            return;
+        }
+        if (line.startsWith("//")) {
+            return;
+        }
+        if (line.isEmpty()) {
+            header = false;
+            paragraph = false;
+            return;
+        }
+        Matcher matcher = ATTRIBUTE_ENTRY.matcher(line);
+        if (matcher.matches()) {
+            if (paragraph) {
+                throw new UnsupportedException("attribute entry in a paragraph");
+            }
+            boolean unset = !matcher.group(1).isEmpty() || !matcher.group(3).isEmpty();
+            String value = matcher.group(4) != null ? matcher.group(4) : "";
+            attribute(matcher.group(2).toLowerCase(), unset ? null : value);
+            return;
+        }
+        if (LOOSE_ATTRIBUTE_ENTRY.matcher(line).matches()) {
+            throw new UnsupportedException("unsupported attribute entry: " + line);
+        }
+        if (line.startsWith("= ")) {
+            if (includedDocs == null || titleSeen || contentSeen || attributes.containsKey("doctitle")) {
+                throw new UnsupportedException("unsupported level 0 section: " + line);
+            }
+            attributes.put("doctitle", substitute(escape(line.substring(2).trim())));
+            titleSeen = true;
+            header = true;
+            return;
+        }
+        if (DELIMITER.matcher(line).matches()) {
+            throw new UnsupportedException("unsupported block delimiter: " + line);
+        }
+        contentSeen = true;
+        paragraph = !header && !SECTION_TITLE.matcher(line).matches();
+    }
+
+    private void attribute(String name, String value) {
+        if (locked.contains(name)) {
+            return;
+        }
+        if (DERIVED.contains(name)) {
+            throw new UnsupportedException("unsupported attribute: " + name);
+        }
+        if (value == null) {
+            attributes.remove(name);
+            return;
+        }
+        if (value.endsWith(" \\") || value.endsWith(" +") || value.startsWith("pass:")) {
+            throw new UnsupportedException("unsupported attribute value: " + value);
+        }
+        attributes.put(name, substitute(escape(value)));
+    }
+
+    private String substitute(String str) {
+        Matcher matcher = ATTRIBUTE_REF.matcher(str);
+        if (matcher.replaceAll("").indexOf('{') >= 0) {
+            // e.g. {set:name:value}, {counter:name}
+            throw new UnsupportedException("unsupported attribute reference: " + str);
+        }
+        matcher.reset();
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            String value = attributes.get(matcher.group(1).toLowerCase());
+            if (value == null) {
+                throw new UnsupportedException("unresolved attribute reference: " + matcher.group());
+            }
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static String escape(String str) {
+        return str.replace("&", "&amp;")
+                  .replace("<", "&lt;")
+                  .replace(">", "&gt;");
+    }
+
+    private static final class UnsupportedException extends RuntimeException {
+
+        UnsupportedException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
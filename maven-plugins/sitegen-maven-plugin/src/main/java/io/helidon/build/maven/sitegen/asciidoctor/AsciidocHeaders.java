@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -63,11 +63,27 @@ final class AsciidocHeaders {
      */
     static Map<String, Object> readDocumentHeader(Path source) {
         requireFile(source);
-        Path baseDir = source.getParent();
 
         // make a partial document that contains up to the first h2 (==)
         List<String> headerLines = headerLines(source);
 
+        // most headers can be read without Asciidoctor
+        Map<String, Object> headerMap = AsciidocHeaderScanner.readDocumentHeader(source, headerLines);
+        if (headerMap != null) {
+            return headerMap;
+        }
+        return parseDocumentHeader(source, headerLines);
+    }
+
+    /**
+     * Read a document's header with Asciidoctor.
+     *
+     * @param source      the document to read the header from
+     * @param headerLines the lines of the partial document to read
+     * @return the header as {@code Map<String, Object>}, never {@code null}
+     */
+    static Map<String, Object> parseDocumentHeader(Path source, List<String> headerLines) {
+        Path baseDir = source.getParent();
         Map<String, Object> headerMap = new HashMap<>();
 
         // parse h1
@@ -98,7 +114,13 @@ final class AsciidocHeaders {
         }
     }
 
-    private static List<String> headerLines(Path source) {
+    /**
+     * Get the lines of a document up to the first h2 ({@code ==}).
+     *
+     * @param source the document
+     * @return lines
+     */
+    static List<String> headerLines(Path source) {
         try (Stream<String> lines = Files.lines(source)) {
             return lines.takeWhile(line -> !line.startsWith("=="))
                         .collect(Collectors.toList());
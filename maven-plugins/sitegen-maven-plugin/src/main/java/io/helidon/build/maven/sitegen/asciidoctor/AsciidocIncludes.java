@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.maven.sitegen.asciidoctor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A scanner of the include directives of a document.
+ * The include directives are resolved without evaluating the conditional directives, the result is a superset of the
+ * files included when the document is rendered.
+ */
+final class AsciidocIncludes {
+
+    private static final Pattern INCLUDE = Pattern.compile("^include::([^\\[]+)\\[.*]\\s*$");
+    private static final Pattern ATTRIBUTE_ENTRY = Pattern.compile("^:(!?)([\\w-]+)(!?):\\s*(.*)$");
+    private static final Pattern ATTRIBUTE_REF = Pattern.compile("\\{([\\w-]+)}");
+
+    private final Map<String, String> attributes = new HashMap<>();
+    private final Set<Path> includes = new LinkedHashSet<>();
+
+    private AsciidocIncludes(Path source, Map<String, Object> attributes) {
+        attributes.forEach((k, v) -> {
+            if (v != null) {
+                this.attributes.put(k, v.toString());
+            }
+        });
+        this.attributes.put("docdir", source.getParent().toString());
+    }
+
+    /**
+     * Resolve the files included by a document, directly or not.
+     *
+     * @param source     the document
+     * @param attributes the document attributes
+     * @return included files, or {@code null} if an include target cannot be resolved
+     */
+    static List<Path> resolve(Path source, Map<String, Object> attributes) {
+        AsciidocIncludes scanner = new AsciidocIncludes(source, attributes);
+        if (!scanner.scan(source)) {
+            return null;
+        }
+        return new ArrayList<>(scanner.includes);
+    }
+
+    private boolean scan(Path file) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, UTF_8);
+        } catch (CharacterCodingException ex) {
+            // not a text file
+            return true;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        for (String line : lines) {
+            Matcher matcher = ATTRIBUTE_ENTRY.matcher(line);
+            if (matcher.matches()) {
+                String name = matcher.group(2);
+                if (matcher.group(1).isEmpty() && matcher.group(3).isEmpty()) {
+                    String value = substitute(matcher.group(4));
+                    attributes.put(name, value != null ? value : matcher.group(4));
+                } else {
+                    attributes.remove(name);
+                }
+                continue;
+            }
+            matcher = INCLUDE.matcher(line);
+            if (matcher.matches()) {
+                String target = substitute(matcher.group(1));
+                if (target == null || target.contains("://")) {
+                    return false;
+                }
+                Path include = file.getParent().resolve(target).normalize();
+                if (includes.add(include) && Files.isRegularFile(include) && !scan(include)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private String substitute(String str) {
+        Matcher matcher = ATTRIBUTE_REF.matcher(str);
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            String value = attributes.get(matcher.group(1));
+            if (value == null) {
+                return null;
+            }
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(value));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.build.maven.sitegen.asciidoctor;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -67,4 +68,10 @@ public final class AsciidocPageRenderer implements PageRenderer {
         Map<String, Object> docHeader = AsciidocHeaders.readDocumentHeader(source);
         return Metadata.create(Config.create(docHeader, Map.of()));
     }
+
+    @Override
+    public List<Path> includes(Path source) {
+        requireNonNull(source, "source is null!");
+        return AsciidocIncludes.resolve(source, asciidocEngine.attributes());
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -39,14 +39,13 @@ public class CardBlockProcessor extends BlockProcessor {
      */
     public static final String BLOCK_LINK_TEXT = "@@blocklink@@";
 
-    // This block is of type open (delimited by --).
-    private static final Map<String, Object> CONFIG = createConfig(Contexts.OPEN);
-
     /**
      * Create a new instance.
      */
     public CardBlockProcessor() {
-        super("CARD", CONFIG);
+        // This block is of type open (delimited by --).
+        // The config is not shared, it is updated with values of the runtime the processor is registered with
+        super("CARD", createConfig(Contexts.OPEN));
     }
 
     @Override
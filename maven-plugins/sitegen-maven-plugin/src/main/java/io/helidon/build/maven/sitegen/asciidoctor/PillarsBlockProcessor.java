@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,14 +31,13 @@ import org.asciidoctor.extension.Reader;
  */
 public class PillarsBlockProcessor extends BlockProcessor {
 
-    // This block is of type example (delimited by ====).
-    private static final Map<String, Object> CONFIG = createConfig(Contexts.EXAMPLE);
-
     /**
      * Create a new instance of {@link PillarsBlockProcessor}.
      */
     public PillarsBlockProcessor() {
-        super("PILLARS", CONFIG);
+        // This block is of type example (delimited by ====).
+        // The config is not shared, it is updated with values of the runtime the processor is registered with
+        super("PILLARS", createConfig(Contexts.EXAMPLE));
     }
 
     @Override
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import freemarker.template.TemplateDirectiveBody;
 import freemarker.template.TemplateException;
@@ -31,7 +33,7 @@ import org.asciidoctor.ast.ContentNode;
  */
 public final class CustomLayoutDirective extends ContentNodeDirective {
 
-    private final Map<String, String> mappings = new HashMap<>();
+    private final Map<String, String> mappings = new ConcurrentHashMap<>();
 
     @Override
     void doExecute(ContentNode node, Map<?, ?> params, TemplateDirectiveBody body)
@@ -51,6 +53,31 @@ public final class CustomLayoutDirective extends ContentNodeDirective {
      * @return {@code Map<String, String>}, never {@code null}
      */
     public Map<String, String> mappings() {
-        return mappings;
+        // same iteration order as a sequential rendering
+        Map<String, String> ordered = new HashMap<>();
+        new TreeMap<>(mappings).forEach(ordered::put);
+        return ordered;
+    }
+
+    /**
+     * Get the stored mapping of a page.
+     *
+     * @param source page source
+     * @return mapping, or {@code null} if the page has none
+     */
+    public String mapping(String source) {
+        return mappings.get(source);
+    }
+
+    /**
+     * Restore the mapping of a page that is not rendered.
+     *
+     * @param source  page source
+     * @param mapping mapping stored when the page was last rendered, may be {@code null}
+     */
+    public void restore(String source, String mapping) {
+        if (mapping != null) {
+            mappings.put(source, mapping);
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,7 @@ public class FreemarkerEngine {
     private final String backend;
     private final Map<String, String> directives;
     private final Map<String, String> model;
+    private final TemplateLoader templateLoader;
     private final Configuration freemarker;
 
     private FreemarkerEngine(Builder builder) {
@@ -62,7 +63,8 @@ public class FreemarkerEngine {
         directives = builder.directives;
         model = builder.model;
         freemarker = new Configuration(FREEMARKER_VERSION);
-        freemarker.setTemplateLoader(new TemplateLoader());
+        templateLoader = new TemplateLoader();
+        freemarker.setTemplateLoader(templateLoader);
         freemarker.setDefaultEncoding("UTF-8");
         freemarker.setObjectWrapper(OBJECT_WRAPPER);
         freemarker.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
@@ -87,6 +89,15 @@ public class FreemarkerEngine {
         return model;
     }
 
+    /**
+     * Compute a digest of the templates of the backend.
+     *
+     * @return digest
+     */
+    public String templatesDigest() {
+        return templateLoader.digest(backend);
+    }
+
     /**
      * Render a template to a file.
      *
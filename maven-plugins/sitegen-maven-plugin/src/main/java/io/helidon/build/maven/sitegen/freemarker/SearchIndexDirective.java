@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@ import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.helidon.build.maven.sitegen.models.Page;
 import io.helidon.build.maven.sitegen.models.SearchEntry;
@@ -37,7 +39,7 @@ import org.asciidoctor.ast.StructuralNode;
  */
 public final class SearchIndexDirective extends ContentNodeDirective {
 
-    private final List<SearchEntry> entries = new ArrayList<>();
+    private final Map<String, List<SearchEntry>> entries = new ConcurrentHashMap<>();
 
     @Override
     void doExecute(ContentNode node, Map<?, ?> params, TemplateDirectiveBody body)
@@ -62,7 +64,7 @@ public final class SearchIndexDirective extends ContentNodeDirective {
         StringWriter writer = new StringWriter();
         body.render(writer);
         SearchEntry entry = SearchEntry.create(page.target(), stripHtmlMarkups(writer.toString()), title);
-        entries.add(entry);
+        entries.computeIfAbsent(page.source(), k -> new ArrayList<>()).add(entry);
     }
 
     // TODO write a unit test for this
@@ -77,10 +79,33 @@ public final class SearchIndexDirective extends ContentNodeDirective {
 
     /**
      * Get the search index entries accumulated.
+     * The entries are ordered by page source, regardless of the order in which the pages were rendered.
      *
      * @return the list of search index entries.
      */
     public List<SearchEntry> entries() {
-        return entries;
+        List<SearchEntry> allEntries = new ArrayList<>();
+        new TreeMap<>(entries).values().forEach(allEntries::addAll);
+        return allEntries;
+    }
+
+    /**
+     * Get the search index entries accumulated for a page.
+     *
+     * @param source page source
+     * @return the list of search index entries, never {@code null}
+     */
+    public List<SearchEntry> entries(String source) {
+        return entries.getOrDefault(source, List.of());
+    }
+
+    /**
+     * Restore the search index entries of a page that is not rendered.
+     *
+     * @param source  page source
+     * @param entries the entries accumulated when the page was last rendered
+     */
+    public void restore(String source, List<SearchEntry> entries) {
+        this.entries.put(source, new ArrayList<>(entries));
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,22 @@
 
 package io.helidon.build.maven.sitegen.freemarker;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.helidon.build.common.Checksum;
 
 import freemarker.cache.URLTemplateLoader;
 
 import static io.helidon.build.common.FileUtils.resourceAsPath;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * A Freemarker template loader used for loading templates from classpath.
@@ -35,6 +43,30 @@ public final class TemplateLoader extends URLTemplateLoader {
 
     private final Path templatesDir = resourceAsPath(TEMPLATES_RESOURCE, TemplateLoader.class);
 
+    /**
+     * Compute a digest of the templates in a given directory.
+     *
+     * @param dir the directory, relative to the templates directory
+     * @return digest
+     */
+    String digest(String dir) {
+        Path templates = templatesDir.resolve(dir);
+        if (!Files.isDirectory(templates)) {
+            return "";
+        }
+        try (Stream<Path> stream = Files.walk(templates)) {
+            List<Path> files = stream.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            Checksum checksum = new Checksum.MD5();
+            for (Path file : files) {
+                checksum.update(templates.relativize(file).toString().getBytes(UTF_8));
+                checksum.update(Files.readAllBytes(file));
+            }
+            return checksum.toHexString();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     @Override
     protected URL getURL(String name) {
         String tplName = name;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import freemarker.template.TemplateDirectiveBody;
 import freemarker.template.TemplateException;
@@ -30,7 +32,7 @@ import org.asciidoctor.ast.ContentNode;
  */
 public class VueBindingsDirective extends ContentNodeDirective {
 
-    private final Map<String, String> bindings = new HashMap<>();
+    private final Map<String, String> bindings = new ConcurrentHashMap<>();
 
     @Override
     void doExecute(ContentNode node, Map<?, ?> params, TemplateDirectiveBody body)
@@ -47,6 +49,31 @@ public class VueBindingsDirective extends ContentNodeDirective {
      * @return {@code Map<String, String>}, never {@code null}
      */
     public Map<String, String> bindings() {
-        return bindings;
+        // insert in page order, as if the pages were rendered sequentially
+        Map<String, String> ordered = new HashMap<>();
+        new TreeMap<>(bindings).forEach(ordered::put);
+        return ordered;
+    }
+
+    /**
+     * Get the stored binding of a page.
+     *
+     * @param source page source
+     * @return binding, or {@code null} if the page has none
+     */
+    public String binding(String source) {
+        return bindings.get(source);
+    }
+
+    /**
+     * Restore the binding of a page that is not rendered.
+     *
+     * @param source  page source
+     * @param binding binding stored when the page was last rendered, may be {@code null}
+     */
+    public void restore(String source, String binding) {
+        if (binding != null) {
+            bindings.put(source, binding);
+        }
     }
 }
@@ -17,9 +17,15 @@
 package io.helidon.build.maven.sitegen;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.github.difflib.DiffUtils;
 import com.github.difflib.algorithm.DiffException;
@@ -33,10 +39,15 @@ import io.helidon.build.maven.sitegen.models.WebResource;
 import io.helidon.build.maven.sitegen.models.WebResource.Location;
 import org.junit.jupiter.api.Test;
 
+import static io.helidon.build.common.FileUtils.copyDirectory;
+import static io.helidon.build.common.FileUtils.unique;
 import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static io.helidon.build.maven.sitegen.Site.Options.INCREMENTAL;
+import static io.helidon.build.maven.sitegen.Site.Options.PARALLELISM;
 import static io.helidon.build.maven.sitegen.Site.Options.STRICT_IMAGES;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -102,7 +113,99 @@ class VuetifyBackendTest {
         Path sourceDir = targetDir.resolve("test-classes/vuetify1");
         Path outputDir = targetDir.resolve("vuetify/testvuetify1");
 
-        Site.builder()
+        vuetify1Site(Map.of()).generate(sourceDir, outputDir);
+
+        Path index = outputDir.resolve("index.html");
+        assertThat(Files.exists(index), is(true));
+
+        Path actualConfig = outputDir.resolve("main/config.js");
+        assertThat(Files.exists(actualConfig), is(true));
+        assertRendering(actualConfig, sourceDir.resolve("expected-config"));
+
+        Path home = outputDir.resolve("pages/home.js");
+        assertThat(Files.exists(home), is(true));
+
+        assertThat(Files.readAllLines(home)
+                        .stream()
+                        .anyMatch(line -> line.contains("to an anchor<br>")), is(true));
+    }
+
+    @Test
+    void testVuetify1Parallel() throws Exception {
+        Path targetDir = targetDir(VuetifyBackendTest.class);
+        Path sourceDir = targetDir.resolve("test-classes/vuetify1");
+        Path sequentialDir = targetDir.resolve("vuetify/testvuetify1-sequential");
+        Path parallelDir = targetDir.resolve("vuetify/testvuetify1-parallel");
+
+        vuetify1Site(Map.of()).generate(sourceDir, sequentialDir);
+        vuetify1Site(Map.of(PARALLELISM, "4")).generate(sourceDir, parallelDir);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(sequentialDir)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        assertThat(files.isEmpty(), is(false));
+        for (Path file : files) {
+            Path parallelFile = parallelDir.resolve(sequentialDir.relativize(file));
+            assertThat(Files.exists(parallelFile), is(true));
+            assertThat(parallelFile.toString(), Files.readAllBytes(parallelFile), is(Files.readAllBytes(file)));
+        }
+    }
+
+    @Test
+    void testVuetify1Incremental() throws Exception {
+        Path targetDir = targetDir(VuetifyBackendTest.class);
+        Path baseDir = unique(targetDir.resolve("vuetify"), "testvuetify1-incremental");
+        Path sourceDir = copyDirectory(targetDir.resolve("test-classes/vuetify1"), baseDir.resolve("src"));
+        Path outputDir = baseDir.resolve("out");
+        Path pagesDir = outputDir.resolve("pages");
+
+        vuetify1Site(Map.of(INCREMENTAL, "true")).generate(sourceDir, outputDir);
+        assertThat(Files.exists(baseDir.resolve("out" + BuildManifest.FILE_EXT)), is(true));
+        try (Stream<Path> stream = Files.walk(outputDir)) {
+            assertThat(stream.noneMatch(file -> file.getFileName().toString().endsWith(BuildManifest.FILE_EXT)), is(true));
+        }
+
+        FileTime epoch = FileTime.fromMillis(0);
+        List<Path> pages;
+        try (Stream<Path> stream = Files.walk(pagesDir)) {
+            pages = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path page : pages) {
+            Files.setLastModifiedTime(page, epoch);
+        }
+
+        // change an included file, and the body of a page
+        Files.writeString(sourceDir.resolve("IncludeTest.java"), "// changed\n", StandardOpenOption.APPEND);
+        Files.writeString(sourceDir.resolve("home.adoc"), "\nA new paragraph.\n", StandardOpenOption.APPEND);
+        vuetify1Site(Map.of(INCREMENTAL, "true")).generate(sourceDir, outputDir);
+
+        List<Path> rendered = pages.stream()
+                                   .filter(page -> !epoch.equals(lastModifiedTime(page)))
+                                   .map(pagesDir::relativize)
+                                   .collect(Collectors.toList());
+        assertThat(rendered, containsInAnyOrder(Path.of("about/01_intro.js"), Path.of("home.js")));
+
+        // the global files are the same as the ones of a full rendering
+        Path fullOutputDir = baseDir.resolve("full");
+        vuetify1Site(Map.of()).generate(sourceDir, fullOutputDir);
+        assertThat(Files.exists(baseDir.resolve("full" + BuildManifest.FILE_EXT)), is(false));
+        for (String file : List.of("main/search-index.json", "main/config.js", "index.html")) {
+            assertRendering(outputDir.resolve(file), fullOutputDir.resolve(file));
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static Site vuetify1Site(Map<String, String> options) {
+        return Site.builder()
+            .options(options)
             .page(PageFilter.builder().includes("**/*.adoc"))
             .asset(StaticAsset.builder().includes("images/sunset.jpg").target("/"))
             .asset(StaticAsset.builder().includes("css/*.css").target("/"))
@@ -141,22 +244,7 @@ class VuetifyBackendTest {
                                                    l.title("Javadocs")
                                                     .glyph("icon", "info")
                                                     .href("https://docs.oracle.com/javase/8/docs/api/"))))
-            .build()
-            .generate(sourceDir, outputDir);
-
-        Path index = outputDir.resolve("index.html");
-        assertThat(Files.exists(index), is(true));
-
-        Path actualConfig = outputDir.resolve("main/config.js");
-        assertThat(Files.exists(actualConfig), is(true));
-        assertRendering(actualConfig, sourceDir.resolve("expected-config"));
-
-        Path home = outputDir.resolve("pages/home.js");
-        assertThat(Files.exists(home), is(true));
-
-        assertThat(Files.readAllLines(home)
-                        .stream()
-                        .anyMatch(line -> line.contains("to an anchor<br>")), is(true));
+            .build();
     }
 
     @Test
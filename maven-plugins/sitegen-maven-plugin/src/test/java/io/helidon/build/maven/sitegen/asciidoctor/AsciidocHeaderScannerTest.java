@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.build.maven.sitegen.asciidoctor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.build.common.FileUtils.unique;
+import static io.helidon.build.common.test.utils.TestFiles.targetDir;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link AsciidocHeaderScanner}.
+ */
+class AsciidocHeaderScannerTest {
+
+    private static final Path TEST_CLASSES = targetDir(AsciidocHeaderScannerTest.class).resolve("test-classes");
+    private static final Map<Path, Set<String>> BUILT_INS = new HashMap<>();
+
+    @Test
+    void testTestResources() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(TEST_CLASSES)) {
+            files = stream.filter(p -> p.getFileName().toString().endsWith(".adoc"))
+                          .sorted()
+                          .collect(Collectors.toList());
+        }
+        long scanned = files.stream().filter(AsciidocHeaderScannerTest::assertHeader).count();
+        assertThat(scanned > files.size() / 2, is(true));
+        assertThat(assertHeader(TEST_CLASSES.resolve("metadata/dir1/dir2/with_h1prefix_included.adoc")), is(true));
+        assertThat(assertHeader(TEST_CLASSES.resolve("metadata/title_and_h1.adoc")), is(true));
+    }
+
+    @Test
+    void testAttributes() throws IOException {
+        Path dir = unique(targetDir(getClass()).resolve("header-scanner-ut"), "attributes");
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("included.adoc"), ""
+                + ":description: Ignored\n"
+                + ":h1-prefix: {prefix} &\n"
+                + "ifdef::prefix[]\n"
+                + ":keywords: {keywords}, included\n"
+                + "endif::[]\n");
+        Path source = Files.writeString(dir.resolve("main.adoc"), ""
+                + "////\n"
+                + ":description: Commented\n"
+                + "////\n"
+                + "// comment\n"
+                + ":prefix: <Pre>\n"
+                + "= Title of {prefix}\n"
+                + ":description: Tom & Jerry\n"
+                + ":keywords: a, b\n"
+                + ":Unset: foo\n"
+                + ":unset!:\n"
+                + "\n"
+                + "include::{docdir}/included.adoc[]\n"
+                + "\n"
+                + "Preamble.\n");
+        assertThat(assertHeader(source), is(true));
+    }
+
+    @Test
+    void testUnsupported() throws IOException {
+        Path dir = unique(targetDir(getClass()).resolve("header-scanner-ut"), "unsupported");
+        Files.createDirectories(dir);
+        List<String> headers = List.of(
+                "= Title\nifeval::[1 == 1]\n:description: foo\nendif::[]\n",
+                "= Title\nifdef::backend-html5[]\n:description: foo\nendif::[]\n",
+                "= Title\n\n----\n:description: foo\n----\n",
+                "= Title\n\nSome text\n:description: foo\n",
+                "= Title\n:description: foo \\\nbar\n",
+                "= Title\n:description: {undefined}\n",
+                "= Title\n:description: {docname}\n",
+                "= Title\nifdef::doctype[]\n:description: foo\nendif::[]\n",
+                "= Title\n:toc: left\n",
+                "= Title\ninclude::relative.adoc[]\n",
+                "////\ninclude::commented.adoc[]\n////\n= Title\n");
+        for (int i = 0; i < headers.size(); i++) {
+            Path source = Files.writeString(dir.resolve("doc" + i + ".adoc"), headers.get(i));
+            List<String> lines = AsciidocHeaders.headerLines(source);
+            assertThat(source.toString(), AsciidocHeaderScanner.readDocumentHeader(source, lines), is(nullValue()));
+        }
+    }
+
+    private static boolean assertHeader(Path source) {
+        List<String> lines = AsciidocHeaders.headerLines(source);
+        Map<String, Object> header = AsciidocHeaderScanner.readDocumentHeader(source, lines);
+        if (header == null) {
+            return false;
+        }
+        Map<String, Object> expected = AsciidocHeaders.parseDocumentHeader(source, lines);
+        for (String key : header.keySet()) {
+            assertThat(source + " " + key, expected.containsKey(key), is(true));
+        }
+        // the built-in attributes are not scanned, the headers that use them are read with Asciidoctor
+        Set<String> builtIns = builtIns(source.getParent());
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            String key = entry.getKey();
+            if (header.containsKey(key)) {
+                assertThat(source + " " + key, header.get(key), is(String.valueOf(entry.getValue())));
+            } else {
+                assertThat(source + " " + key, builtIns.contains(key), is(true));
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> builtIns(Path dir) {
+        return BUILT_INS.computeIfAbsent(dir, d -> AsciidocHeaders.parseDocumentHeader(d.resolve("empty.adoc"), List.of())
+                                                                   .keySet());
+    }
+}